@@ -0,0 +1,17 @@
+package com.tickmate.backend.config;
+
+import com.tickmate.backend.service.cache.TaskCacheInvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+    // Single-replica default; provide another TaskCacheInvalidationBus bean to fan evictions out to peers
+    @Bean
+    @ConditionalOnMissingBean
+    public TaskCacheInvalidationBus taskCacheInvalidationBus() {
+        return taskId -> {
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.tickmate.backend.config;
+
+import com.tickmate.backend.service.routing.ReadYourWritesInterceptor;
+import com.tickmate.backend.service.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with a {@link ReplicaRoutingDataSource} when
+ * {@code tickmate.datasource.replica.enabled=true}: the primary is built from {@code spring.datasource.*} as
+ * before, each of {@code tickmate.datasource.replica.urls} gets a pool of its own.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tickmate.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig implements WebMvcConfigurer {
+    // Resolved late: the interceptor's ReplicaReads needs the DataSource defined here
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+
+    public ReplicaDataSourceConfig(ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor) {
+        this.readYourWritesInterceptor = readYourWritesInterceptor;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties,
+                                               Environment environment,
+                                               @Value("${tickmate.datasource.replica.urls}") List<String> urls,
+                                               @Value("${tickmate.datasource.replica.username:}") String username,
+                                               @Value("${tickmate.datasource.replica.password:}") String password,
+                                               @Value("${tickmate.datasource.replica.pool-size:10}") int poolSize,
+                                               @Value("${tickmate.datasource.replica.connection-timeout:1s}") Duration connectionTimeout) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .username(username.isEmpty() ? properties.determineUsername() : username)
+                    .password(password.isEmpty() ? properties.determinePassword() : password)
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(poolSize);
+            // Short, so a read waiting on a dead replica gives up and falls back to the primary quickly
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, (int) Math.max(1, connectionTimeout.toSeconds()));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor.getObject()).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,83 @@
+package com.tickmate.backend.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tickmate.backend.domain.json.TaskJsonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Binary encodings of the JSON API, chosen with the Accept header ({@code application/x-jackson-smile} or
+ * {@code application/cbor}). They replace the converters Spring would otherwise build with its own defaults,
+ * so dates and enums come out exactly as in JSON. Smile also back-references repeated short strings, which
+ * covers the status/priority values and the date prefixes of a page.
+ */
+@Configuration
+public class WireFormatConfig {
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        SmileMapper mapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new TaskJsonModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(mapper);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        CBORMapper mapper = CBORMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new TaskJsonModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+
+    public static boolean isBinary(MediaType mediaType) {
+        return APPLICATION_SMILE.isCompatibleWith(mediaType) || MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType);
+    }
+
+    // The encoding an Accept header gets, as content negotiation picks it: the most preferred acceptable type,
+    // JSON whenever that type admits it (no header, wildcards), else Smile or CBOR
+    public static String encoding(String accept) {
+        List<MediaType> accepted = new ArrayList<>();
+        if (accept != null && !accept.isBlank()) {
+            try {
+                accepted.addAll(MediaType.parseMediaTypes(accept));
+            } catch (InvalidMediaTypeException ex) {
+                return "json";
+            }
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return "json";
+            }
+            if (type.includes(APPLICATION_SMILE)) {
+                return "smile";
+            }
+            if (type.includes(MediaType.APPLICATION_CBOR)) {
+                return "cbor";
+            }
+        }
+        return "json";
+    }
+}
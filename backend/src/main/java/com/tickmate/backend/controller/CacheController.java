@@ -0,0 +1,33 @@
+package com.tickmate.backend.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tickmate.backend.domain.dto.CacheStatsDTO;
+import com.tickmate.backend.service.cache.TaskCache;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/cache")
+public class CacheController {
+    private final TaskCache taskCache;
+
+    @GetMapping(path = "/tasks")
+    @Operation(summary = "Get Task Cache Statistics")
+    public ResponseEntity<CacheStatsDTO> getTaskCacheStats() {
+        CacheStats stats = taskCache.stats();
+        return ResponseEntity.ok(CacheStatsDTO.builder()
+                .size(taskCache.size())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadCount(stats.loadCount())
+                .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .build());
+    }
+}
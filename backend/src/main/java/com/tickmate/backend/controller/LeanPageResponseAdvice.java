@@ -0,0 +1,39 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.config.WireFormatConfig;
+import com.tickmate.backend.domain.pagination.LeanPage;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Renders {@link Page} bodies as a {@link LeanPage} when the client asked for {@code envelope=lean} or for a
+ * binary encoding. Plain JSON keeps the full Spring Data envelope the web client reads.
+ */
+@RestControllerAdvice(assignableTypes = TaskController.class)
+public class LeanPageResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof Page<?> page)) {
+            return body;
+        }
+        boolean lean = request instanceof ServletServerHttpRequest servletRequest
+                && "lean".equals(servletRequest.getServletRequest().getParameter("envelope"));
+        return lean || WireFormatConfig.isBinary(selectedContentType) ? LeanPage.of(page) : body;
+    }
+}
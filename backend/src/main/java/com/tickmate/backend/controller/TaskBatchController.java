@@ -0,0 +1,171 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.domain.batch.TaskBatchOutcome;
+import com.tickmate.backend.domain.dto.TaskBatchItemResultDTO;
+import com.tickmate.backend.domain.dto.TaskBatchRequestDTO;
+import com.tickmate.backend.domain.dto.TaskBatchResponseDTO;
+import com.tickmate.backend.domain.dto.TaskBatchUpdateDTO;
+import com.tickmate.backend.domain.dto.TaskRequestDTO;
+import com.tickmate.backend.domain.dto.validators.CreateTaskValidatorGroup;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.exception.BatchTooLargeException;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.admission.Admission;
+import com.tickmate.backend.service.admission.AdmissionClass;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/tasks:batch")
+public class TaskBatchController {
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+
+    @Value("${tickmate.batch.max-items:5000}")
+    private int maxItems;
+
+    @PostMapping
+    @Operation(summary = "Create, Update and Delete Tasks in one transaction")
+    @Admission(AdmissionClass.BULK)
+    public ResponseEntity<TaskBatchResponseDTO> batch(@RequestBody TaskBatchRequestDTO request) {
+        List<TaskRequestDTO> creates = request.getCreate() != null ? request.getCreate() : List.of();
+        List<TaskBatchUpdateDTO> updates = request.getUpdate() != null ? request.getUpdate() : List.of();
+        List<UUID> deletes = request.getDelete() != null ? request.getDelete() : List.of();
+
+        int total = creates.size() + updates.size() + deletes.size();
+        if (total > maxItems) {
+            throw new BatchTooLargeException("Batch holds " + total + " items, the limit is " + maxItems);
+        }
+
+        // Items failing validation are reported individually and left out of the transaction
+        Map<Integer, Map<String, String>> createErrors = new LinkedHashMap<>();
+        List<TaskEntity> validCreates = new ArrayList<>();
+        for (int i = 0; i < creates.size(); i++) {
+            Map<String, String> errors = validate(creates.get(i), Default.class, CreateTaskValidatorGroup.class);
+            if (errors.isEmpty()) {
+                validCreates.add(taskMapper.toEntity(creates.get(i)));
+            } else {
+                createErrors.put(i, errors);
+            }
+        }
+
+        Map<Integer, Map<String, String>> updateErrors = new LinkedHashMap<>();
+        Map<UUID, TaskEntity> validUpdates = new LinkedHashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            TaskBatchUpdateDTO item = updates.get(i);
+            Map<String, String> errors = item.getId() == null
+                    ? Map.of("id", "Id is required")
+                    : item.getTask() == null ? Map.of("task", "Task is required") : validate(item.getTask(), Default.class);
+            if (errors.isEmpty()) {
+                validUpdates.put(item.getId(), taskMapper.toEntity(item.getTask()));
+            } else {
+                updateErrors.put(i, errors);
+            }
+        }
+
+        Map<Integer, Map<String, String>> deleteErrors = new LinkedHashMap<>();
+        List<UUID> validDeletes = new ArrayList<>();
+        for (int i = 0; i < deletes.size(); i++) {
+            if (deletes.get(i) == null) {
+                deleteErrors.put(i, Map.of("id", "Id is required"));
+            } else {
+                validDeletes.add(deletes.get(i));
+            }
+        }
+
+        TaskBatchOutcome outcome = taskService.batchWrite(validCreates, validUpdates, validDeletes);
+
+        List<TaskBatchItemResultDTO> results = new ArrayList<>(total);
+        int created = 0;
+        for (int i = 0; i < creates.size(); i++) {
+            if (createErrors.containsKey(i)) {
+                results.add(failure(TaskBatchItemResultDTO.Operation.CREATE, i, null, HttpStatus.BAD_REQUEST, createErrors.get(i)));
+            } else {
+                TaskEntity task = outcome.created().get(created++);
+                results.add(success(TaskBatchItemResultDTO.Operation.CREATE, i, task, HttpStatus.CREATED));
+            }
+        }
+
+        for (int i = 0; i < updates.size(); i++) {
+            UUID id = updates.get(i).getId();
+            if (updateErrors.containsKey(i)) {
+                results.add(failure(TaskBatchItemResultDTO.Operation.UPDATE, i, id, HttpStatus.BAD_REQUEST, updateErrors.get(i)));
+            } else if (outcome.updated().containsKey(id)) {
+                results.add(success(TaskBatchItemResultDTO.Operation.UPDATE, i, outcome.updated().get(id), HttpStatus.OK));
+            } else {
+                results.add(failure(TaskBatchItemResultDTO.Operation.UPDATE, i, id, HttpStatus.NOT_FOUND, Map.of("task", "Task not found")));
+            }
+        }
+
+        for (int i = 0; i < deletes.size(); i++) {
+            UUID id = deletes.get(i);
+            if (deleteErrors.containsKey(i)) {
+                results.add(failure(TaskBatchItemResultDTO.Operation.DELETE, i, null, HttpStatus.BAD_REQUEST, deleteErrors.get(i)));
+            } else if (outcome.deleted().contains(id)) {
+                results.add(TaskBatchItemResultDTO.builder()
+                        .operation(TaskBatchItemResultDTO.Operation.DELETE)
+                        .index(i)
+                        .id(id)
+                        .status(HttpStatus.NO_CONTENT.value())
+                        .build());
+            } else {
+                results.add(failure(TaskBatchItemResultDTO.Operation.DELETE, i, id, HttpStatus.NOT_FOUND, Map.of("task", "Task not found")));
+            }
+        }
+
+        int failed = (int) results.stream().filter(result -> result.getErrors() != null).count();
+        return ResponseEntity.ok(TaskBatchResponseDTO.builder()
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build());
+    }
+
+    private Map<String, String> validate(TaskRequestDTO dto, Class<?>... groups) {
+        Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(dto, groups);
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    private TaskBatchItemResultDTO success(TaskBatchItemResultDTO.Operation operation, int index, TaskEntity task, HttpStatus status) {
+        return TaskBatchItemResultDTO.builder()
+                .operation(operation)
+                .index(index)
+                .id(task.getId())
+                .status(status.value())
+                .task(taskMapper.toDTO(task))
+                .build();
+    }
+
+    private TaskBatchItemResultDTO failure(TaskBatchItemResultDTO.Operation operation, int index, UUID id, HttpStatus status, Map<String, String> errors) {
+        return TaskBatchItemResultDTO.builder()
+                .operation(operation)
+                .index(index)
+                .id(id)
+                .status(status.value())
+                .errors(errors)
+                .build();
+    }
+}
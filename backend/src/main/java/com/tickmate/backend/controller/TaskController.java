@@ -1,50 +1,225 @@
 package com.tickmate.backend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickmate.backend.config.WireFormatConfig;
+import com.tickmate.backend.domain.dto.TaskPatchDTO;
 import com.tickmate.backend.domain.dto.TaskRequestDTO;
 import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.dto.TaskStatsDTO;
 import com.tickmate.backend.domain.dto.validators.CreateTaskValidatorGroup;
 import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.pagination.CursorPage;
+import com.tickmate.backend.domain.pagination.SlicePage;
+import com.tickmate.backend.domain.pagination.TaskChangePage;
+import com.tickmate.backend.domain.projection.TaskField;
 import com.tickmate.backend.mapper.TaskMapper;
 import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.admission.Admission;
+import com.tickmate.backend.service.admission.AdmissionClass;
+import com.tickmate.backend.service.export.TaskExportFormat;
+import com.tickmate.backend.service.export.TaskExporter;
+import com.tickmate.backend.service.importer.TaskImporter;
+import com.tickmate.backend.service.routing.ReplicaReads;
+import com.tickmate.backend.service.stats.TaskStatistics;
+import com.tickmate.backend.service.stream.TaskChangeStream;
+import com.tickmate.backend.service.version.TaskChangeVersion;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(path = "/api/tasks")
 public class TaskController {
+    private static final int MAX_CHANGES = 1000;
+
     private final TaskService taskService;
     private final TaskMapper taskMapper;
+    private final TaskChangeVersion taskChangeVersion;
+    private final ReplicaReads replicaReads;
+    private final TaskChangeStream taskChangeStream;
+    private final TaskExporter taskExporter;
+    private final TaskImporter taskImporter;
+    private final TaskStatistics taskStatistics;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @Operation(summary = "Get Tasks")
-    public ResponseEntity<Page<TaskResponseDTO>> getTasks(@RequestParam(required = false) String q,
-                                                          @RequestParam(required = false) List<TaskEntity.Status> status,
-                                                          @RequestParam(required = false) List<TaskEntity.Priority> priority,
-                                                          @PageableDefault(size = 20,
-                                                                  page = 0,
-                                                                  sort = "dueDate",
-                                                                  direction = Sort.Direction.DESC) Pageable pageable) {
+    @Admission(AdmissionClass.SEARCH)
+    public ResponseEntity<Page<?>> getTasks(@RequestParam(required = false) String q,
+                                            @RequestParam(required = false) List<TaskEntity.Status> status,
+                                            @RequestParam(required = false) List<TaskEntity.Priority> priority,
+                                            @RequestParam(required = false) String fields,
+                                            @RequestParam(defaultValue = "false") boolean includeArchived,
+                                            @PageableDefault(size = 20,
+                                                    page = 0,
+                                                    sort = "dueDate",
+                                                    direction = Sort.Direction.DESC) Pageable pageable,
+                                            WebRequest webRequest) {
+        // Nothing has been written since the client's copy: answer 304 before touching the database
+        if (notModifiedOnPrimary(webRequest)) {
+            return null;
+        }
+
+        // The cold tier is only read when asked for
+        if (includeArchived) {
+            Page<TaskEntity> tasks = taskService.getTasksIncludingArchived(q, status, priority, pageable);
+            Set<TaskField> projection = fields != null && !fields.isBlank() ? TaskField.parse(fields) : null;
+            Page<?> body = projection != null ? tasks.map(task -> TaskField.project(task, projection)) : tasks;
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body);
+        }
 
+        // A field list switches to a column projection: unrequested fields are neither read nor returned
+        if (fields != null && !fields.isBlank()) {
+            Page<TaskResponseDTO> tasks = taskService.getTaskFields(q, status, priority, TaskField.parse(fields), pageable);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(tasks);
+        }
+
+        // Entities are written by TaskEntitySerializer in the TaskResponseDTO shape, without a DTO per row
         Page<TaskEntity> tasks = taskService.getTasks(q, status, priority, pageable);
-        return ResponseEntity.ok().body(tasks.map(taskMapper::toDTO));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(tasks);
+    }
+
+    // A cursor takes precedence: cursor pages never count either, and both mappings matching would be ambiguous
+    @GetMapping(params = {"slice=true", "!cursor"})
+    @Operation(summary = "Get Tasks without an exact total")
+    @Admission(AdmissionClass.SEARCH)
+    public ResponseEntity<SlicePage<TaskEntity>> getTaskSlice(@RequestParam(required = false) String q,
+                                                              @RequestParam(required = false) List<TaskEntity.Status> status,
+                                                              @RequestParam(required = false) List<TaskEntity.Priority> priority,
+                                                              @RequestParam(name = "total", defaultValue = "false") boolean withTotal,
+                                                              @PageableDefault(size = 20,
+                                                                      page = 0,
+                                                                      sort = "dueDate",
+                                                                      direction = Sort.Direction.DESC) Pageable pageable,
+                                                              WebRequest webRequest) {
+        if (notModifiedOnPrimary(webRequest)) {
+            return null;
+        }
+
+        Slice<TaskEntity> tasks = taskService.getTaskSlice(q, status, priority, pageable);
+        Long total = withTotal ? taskService.estimateTaskCount(q, status, priority) : null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(SlicePage.of(tasks, total));
+    }
+
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get Tasks By Cursor")
+    @Admission(AdmissionClass.SEARCH)
+    public ResponseEntity<CursorPage<TaskEntity>> getTasksByCursor(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) String q,
+                                                                   @RequestParam(required = false) List<TaskEntity.Status> status,
+                                                                   @RequestParam(required = false) List<TaskEntity.Priority> priority,
+                                                                   @PageableDefault(size = 20,
+                                                                           sort = "dueDate",
+                                                                           direction = Sort.Direction.DESC) Pageable pageable,
+                                                                   WebRequest webRequest) {
+        if (notModifiedOnPrimary(webRequest)) {
+            return null;
+        }
+
+        CursorPage<TaskEntity> tasks = taskService.getTasksByCursor(q, status, priority, cursor, pageable.getSort(), pageable.getPageSize());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(tasks);
+    }
+
+    @GetMapping(path = "/stats")
+    @Operation(summary = "Get Task Counts by Status, Priority and Overdue")
+    @Admission(AdmissionClass.READ)
+    public ResponseEntity<TaskStatsDTO> getTaskStats() {
+        return ResponseEntity.ok(taskStatistics.snapshot());
+    }
+
+    // Tasks created or updated and ids deleted since the token (everything when there is none), in change order.
+    // A token older than the tombstone retention gets 410 Gone: the client starts over without one.
+    @GetMapping(path = "/changes")
+    @Operation(summary = "Get Task Changes Since a Change Token")
+    @Admission(AdmissionClass.READ)
+    public ResponseEntity<TaskChangePage> getTaskChanges(@RequestParam(required = false) String since,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        TaskChangePage changes = taskService.getChanges(since, Math.clamp(limit, 1, MAX_CHANGES));
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(changes);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream Task Changes")
+    public SseEmitter streamTasks(@RequestParam(required = false) String q,
+                                  @RequestParam(required = false) List<TaskEntity.Status> status,
+                                  @RequestParam(required = false) List<TaskEntity.Priority> priority,
+                                  @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskChangeStream.subscribe(q, status, priority, lastEventId);
+    }
+
+    @GetMapping(path = "/export")
+    @Operation(summary = "Export Tasks as NDJSON or CSV")
+    @Admission(AdmissionClass.BULK)
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(required = false) String format,
+                                                             @RequestParam(required = false) List<TaskEntity.Status> status,
+                                                             @RequestParam(required = false) List<TaskEntity.Priority> priority,
+                                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws HttpMediaTypeNotAcceptableException {
+        TaskExportFormat exportFormat = TaskExportFormat.negotiate(format, accept != null ? MediaType.parseMediaTypes(accept) : List.of());
+
+        StreamingResponseBody body = out -> taskExporter.export(exportFormat, status, priority, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "Import Tasks from NDJSON or CSV")
+    @Admission(AdmissionClass.BULK)
+    public void importTasks(@RequestParam(required = false) String importId,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        String id = importId != null && !importId.isBlank() ? importId : UUID.randomUUID().toString();
+        boolean csv = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"));
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+
+        // Progress lines are flushed as they happen so the client sees throughput and rejects live
+        taskImporter.importTasks(id, csv, request.getInputStream(), progress -> {
+            out.write(objectMapper.writeValueAsBytes(progress));
+            out.write('\n');
+            out.flush();
+        });
     }
 
     @PostMapping
     @Operation(summary = "Create Task")
+    @Admission(AdmissionClass.WRITE)
     public ResponseEntity<TaskResponseDTO> createTask(@Validated({Default.class, CreateTaskValidatorGroup.class}) @RequestBody TaskRequestDTO dto) {
         TaskEntity task = taskMapper.toEntity(dto);
 
@@ -54,14 +229,32 @@ public class TaskController {
 
     @GetMapping(path = "/{id}")
     @Operation(summary = "Get Task By ID")
-    public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable("id") UUID id) {
-        return taskService.getTaskById(id)
-                .map(task -> ResponseEntity.ok(taskMapper.toDTO(task)))
-                .orElse(ResponseEntity.notFound().build());
+    @Admission(AdmissionClass.READ)
+    public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable("id") UUID id,
+                                                       @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                       WebRequest webRequest) {
+        Optional<TaskEntity> task = taskService.getTaskById(id);
+        if (task.isEmpty() && includeArchived) {
+            task = taskService.getArchivedTaskById(id);
+        }
+        if (task.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        TaskResponseDTO dto = taskMapper.toDTO(task.get());
+        long lastModified = task.get().getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // updatedAt alone can repeat within a millisecond, so the representation hash is folded in
+        String etag = "\"" + Long.toHexString(lastModified) + "-" + Integer.toHexString(dto.hashCode()) + "\"";
+
+        if (notModified(webRequest, etag, lastModified)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(dto);
     }
 
     @PutMapping(path = "/{id}")
     @Operation(summary = "Update Task")
+    @Admission(AdmissionClass.WRITE)
     public ResponseEntity<TaskResponseDTO> updateTask(@PathVariable("id") UUID id, @Validated({Default.class}) @RequestBody TaskRequestDTO dto){
         TaskEntity request = taskMapper.toEntity(dto);
         TaskEntity task = taskService.updateTask(id, request);
@@ -70,10 +263,42 @@ public class TaskController {
         return ResponseEntity.ok(taskDTO);
     }
 
+    @PatchMapping(path = "/{id}")
+    @Operation(summary = "Partially Update Task")
+    @Admission(AdmissionClass.WRITE)
+    public ResponseEntity<TaskResponseDTO> patchTask(@PathVariable("id") UUID id, @Validated @RequestBody TaskPatchDTO dto) {
+        TaskEntity task = taskService.patchTask(id, taskMapper.toEntity(dto));
+        return ResponseEntity.ok(taskMapper.toDTO(task));
+    }
+
     @DeleteMapping(path = "/{id}")
     @Operation(summary = "Delete Task")
+    @Admission(AdmissionClass.WRITE)
     public ResponseEntity<Void> deleteTask(@PathVariable("id") UUID id) {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    // The body's encoding follows Accept (JSON, Smile or CBOR), so caches have to key on it
+    private static void varyByAccept(WebRequest webRequest) {
+        if (webRequest instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null
+                && !servletRequest.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    // Listings may be served by a read replica lagging TaskChangeVersion, in which case they are neither tagged nor
+    // validated against it
+    private boolean notModifiedOnPrimary(WebRequest webRequest) {
+        varyByAccept(webRequest);
+        return replicaReads.readsFromPrimary()
+                && notModified(webRequest, taskChangeVersion.etag(), taskChangeVersion.lastModified());
+    }
+
+    // Each encoding is a representation of its own: the strong ETag names it, so a JSON copy never validates a CBOR one
+    private static boolean notModified(WebRequest webRequest, String etag, long lastModified) {
+        varyByAccept(webRequest);
+        String encoding = WireFormatConfig.encoding(webRequest.getHeader(HttpHeaders.ACCEPT));
+        return webRequest.checkNotModified(etag.substring(0, etag.length() - 1) + "-" + encoding + "\"", lastModified);
+    }
 }
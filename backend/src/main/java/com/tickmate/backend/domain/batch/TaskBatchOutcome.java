@@ -0,0 +1,12 @@
+package com.tickmate.backend.domain.batch;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Result of one batch transaction; ids requested for update/delete but absent here did not exist
+public record TaskBatchOutcome(List<TaskEntity> created, Map<UUID, TaskEntity> updated, Set<UUID> deleted) {
+}
@@ -0,0 +1,145 @@
+package com.tickmate.backend.domain.codec;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a task shared by the on-disk formats (store log, change journal): big-endian fixed-width
+ * numbers, length-prefixed UTF-8 strings with -1 for null, enums by name and date-times as UTC epoch seconds plus
+ * nanos with {@code Long.MIN_VALUE} for null.
+ */
+public final class TaskBinaryCodec {
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    private TaskBinaryCodec() {
+    }
+
+    public static TaskEntity getTask(ByteBuffer in) {
+        return TaskEntity.builder()
+                .id(getUuid(in))
+                .title(getString(in))
+                .description(getString(in))
+                .status(TaskEntity.Status.valueOf(getString(in)))
+                .priority(TaskEntity.Priority.valueOf(getString(in)))
+                .dueDate(getDate(in))
+                .completedAt(getDate(in))
+                .createdAt(getDate(in))
+                .updatedAt(getDate(in))
+                .build();
+    }
+
+    public static UUID getUuid(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    public static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static LocalDateTime getDate(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return seconds == NULL_DATE ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    // Reusable, growing output buffer; not thread-safe
+    public static final class Writer {
+        private ByteBuffer buffer;
+
+        public Writer(int initialCapacity) {
+            buffer = ByteBuffer.allocate(initialCapacity);
+        }
+
+        public Writer clear() {
+            buffer.clear();
+            return this;
+        }
+
+        public int position() {
+            return buffer.position();
+        }
+
+        // The bytes written so far, from position 0; valid until the next write
+        public ByteBuffer buffer() {
+            return buffer;
+        }
+
+        public Writer putByte(byte value) {
+            ensure(1);
+            buffer.put(value);
+            return this;
+        }
+
+        public Writer putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+            return this;
+        }
+
+        public Writer putLong(long value) {
+            ensure(8);
+            buffer.putLong(value);
+            return this;
+        }
+
+        public Writer putTask(TaskEntity task) {
+            putUuid(task.getId());
+            putString(task.getTitle());
+            putString(task.getDescription());
+            putString(task.getStatus().name());
+            putString(task.getPriority().name());
+            putDate(task.getDueDate());
+            putDate(task.getCompletedAt());
+            putDate(task.getCreatedAt());
+            putDate(task.getUpdatedAt());
+            return this;
+        }
+
+        public Writer putUuid(UUID id) {
+            ensure(16);
+            buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+            return this;
+        }
+
+        public Writer putString(String value) {
+            if (value == null) {
+                return putInt(-1);
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(4 + bytes.length);
+            buffer.putInt(bytes.length).put(bytes);
+            return this;
+        }
+
+        // The local date-time is read as UTC, so no time zone rule can shift it
+        public Writer putDate(LocalDateTime value) {
+            ensure(12);
+            if (value == null) {
+                buffer.putLong(NULL_DATE).putInt(0);
+            } else {
+                buffer.putLong(value.toEpochSecond(ZoneOffset.UTC)).putInt(value.getNano());
+            }
+            return this;
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+        }
+    }
+}
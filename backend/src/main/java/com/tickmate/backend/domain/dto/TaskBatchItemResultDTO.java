@@ -0,0 +1,37 @@
+package com.tickmate.backend.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchItemResultDTO {
+    private Operation operation;
+
+    // Position of the item inside its create/update/delete array
+    private int index;
+
+    private UUID id;
+
+    // HTTP status the equivalent single-item call would have returned
+    private int status;
+
+    private TaskResponseDTO task;
+
+    private Map<String, String> errors;
+
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+}
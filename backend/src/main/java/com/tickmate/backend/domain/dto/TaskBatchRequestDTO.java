@@ -0,0 +1,25 @@
+package com.tickmate.backend.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBatchRequestDTO {
+    @Builder.Default
+    private List<TaskRequestDTO> create = new ArrayList<>();
+
+    @Builder.Default
+    private List<TaskBatchUpdateDTO> update = new ArrayList<>();
+
+    @Builder.Default
+    private List<UUID> delete = new ArrayList<>();
+}
@@ -0,0 +1,20 @@
+package com.tickmate.backend.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBatchResponseDTO {
+    private int succeeded;
+
+    private int failed;
+
+    private List<TaskBatchItemResultDTO> results;
+}
@@ -0,0 +1,18 @@
+package com.tickmate.backend.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBatchUpdateDTO {
+    private UUID id;
+
+    private TaskRequestDTO task;
+}
@@ -0,0 +1,35 @@
+package com.tickmate.backend.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskImportProgressDTO {
+    // started, rejected, progress or completed
+    private String type;
+
+    private String importId;
+
+    // 0-based index of the rejected input record
+    private Long record;
+
+    private Map<String, String> errors;
+
+    // Input records covered by committed chunks; a retry with the same importId resumes here
+    private Long position;
+
+    private Long imported;
+
+    private Long rejected;
+
+    private Double rowsPerSecond;
+}
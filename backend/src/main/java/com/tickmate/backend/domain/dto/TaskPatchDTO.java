@@ -0,0 +1,33 @@
+package com.tickmate.backend.domain.dto;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Body of PATCH /api/tasks/{id}: every field is optional, absent (null) fields are left unchanged
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskPatchDTO {
+    @Size(min = 3, max = 255, message = "Title must be between 3 and 255 characters")
+    @Pattern(regexp = "(?s).*\\S.*", message = "Title cannot be blank")
+    private String title;
+
+    @Size(max = 5000, message = "Description cannot exceed 5000 characters")
+    private String description;
+
+    private TaskEntity.Status status;
+
+    private TaskEntity.Priority priority;
+
+    private LocalDateTime dueDate;
+
+    private LocalDateTime completedAt;
+}
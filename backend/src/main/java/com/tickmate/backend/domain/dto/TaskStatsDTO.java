@@ -0,0 +1,35 @@
+package com.tickmate.backend.domain.dto;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskStatsDTO {
+    private long total;
+
+    private Map<TaskEntity.Status, Long> byStatus;
+
+    private Map<TaskEntity.Priority, Long> byPriority;
+
+    private Map<TaskEntity.Status, Map<TaskEntity.Priority, Long>> byStatusAndPriority;
+
+    // PENDING or IN_PROGRESS tasks whose due date has passed
+    private long overdue;
+
+    private Map<TaskEntity.Priority, Long> overdueByPriority;
+
+    private LocalDateTime reconciledAt;
+
+    // The due-date window held since reconciledAt has run out without a recount, so overdue misses the tasks
+    // that fell due after it
+    private boolean stale;
+}
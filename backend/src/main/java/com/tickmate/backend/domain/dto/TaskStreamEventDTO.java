@@ -0,0 +1,23 @@
+package com.tickmate.backend.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskStreamEventDTO {
+    // created, updated, removed (no longer matches the subscription filter) or deleted
+    private String type;
+
+    private UUID id;
+
+    private TaskResponseDTO task;
+}
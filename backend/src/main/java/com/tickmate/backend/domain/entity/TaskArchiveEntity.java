@@ -0,0 +1,80 @@
+package com.tickmate.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Cold tier: finished tasks moved out of "tasks" by TaskTiering. Rows keep their id and timestamps unchanged.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "tasks_archive")
+public class TaskArchiveEntity {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskEntity.Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskEntity.Priority priority;
+
+    @Column(name = "due_date", columnDefinition = "TIMESTAMP(3)")
+    private LocalDateTime dueDate;
+
+    @Column(name = "completed_at", columnDefinition = "TIMESTAMP(3)")
+    private LocalDateTime completedAt;
+
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP(3)", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP(3)", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", columnDefinition = "TIMESTAMP(3)", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public static TaskArchiveEntity of(TaskEntity task) {
+        return TaskArchiveEntity.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .completedAt(task.getCompletedAt())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .archivedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public TaskEntity toTask() {
+        return TaskEntity.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .status(status)
+                .priority(priority)
+                .dueDate(dueDate)
+                .completedAt(completedAt)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.tickmate.backend.domain.entity;
 
+import com.tickmate.backend.domain.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -16,13 +17,14 @@ import java.util.UUID;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Table(name="tasks")
 public class TaskEntity {
+    // Time-ordered so inserts append to the primary-key index instead of splitting random pages
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @NotNull
@@ -54,6 +56,10 @@ public class TaskEntity {
     @Column(name = "updated_at", columnDefinition = "TIMESTAMP(3)", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Position in the change feed (GET /api/tasks/changes); every write moves the task to the end of it
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,44 @@
+package com.tickmate.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Progress of a bulk import, written in the same transaction as each committed chunk
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "task_imports")
+public class TaskImportEntity {
+    @Id
+    @Column(name = "import_id", length = 100)
+    private String importId;
+
+    // Number of input records (accepted or rejected) covered by committed chunks
+    @Column(nullable = false)
+    private long position;
+
+    @Column(nullable = false)
+    private long imported;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP(3)", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+}
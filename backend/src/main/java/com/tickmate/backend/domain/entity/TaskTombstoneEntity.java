@@ -0,0 +1,29 @@
+package com.tickmate.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Trace of a task that left "tasks" (deleted or moved to the archive), kept for the change feed until the retention purges it
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "task_tombstones")
+public class TaskTombstoneEntity {
+    @Id
+    @Column(name = "task_id")
+    private UUID taskId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", columnDefinition = "TIMESTAMP(3)", nullable = false)
+    private LocalDateTime deletedAt;
+}
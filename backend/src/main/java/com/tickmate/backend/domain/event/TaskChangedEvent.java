@@ -0,0 +1,34 @@
+package com.tickmate.backend.domain.event;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.util.UUID;
+
+// Published by TaskServiceImpl after every successful write.
+// task is the state after the write (null for deletions and archiving); previous is the state before it, when it
+// was loaded. ARCHIVED is a task moved to the cold tier: gone from the hot table like a deletion, but not deleted.
+public record TaskChangedEvent(Type type, UUID taskId, TaskEntity task, TaskEntity previous) {
+
+    public static TaskChangedEvent created(TaskEntity task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), task, null);
+    }
+
+    public static TaskChangedEvent updated(TaskEntity previous, TaskEntity task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), task, previous);
+    }
+
+    public static TaskChangedEvent deleted(UUID taskId, TaskEntity previous) {
+        return new TaskChangedEvent(Type.DELETED, taskId, null, previous);
+    }
+
+    public static TaskChangedEvent archived(TaskEntity task) {
+        return new TaskChangedEvent(Type.ARCHIVED, task.getId(), null, task);
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ARCHIVED
+    }
+}
@@ -0,0 +1,37 @@
+package com.tickmate.backend.domain.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): 48 bits of Unix epoch milliseconds, a 12-bit sequence that
+ * keeps ids generated within the same millisecond strictly increasing, and 62 random bits.
+ * New keys land at the right edge of a primary-key B-tree instead of on random pages.
+ */
+public final class UuidV7 {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int SEQUENCE_BITS = 12;
+
+    // (millis << 12) | sequence of the last id; a sequence overflow borrows the next millisecond
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long stamp = LAST.updateAndGet(last -> Math.max(last + 1, now));
+
+        long millis = stamp >>> SEQUENCE_BITS;
+        long sequence = stamp & ((1L << SEQUENCE_BITS) - 1);
+
+        long mostSignificant = (millis << 16) | (0x7L << 12) | sequence;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    public static long timestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,136 @@
+package com.tickmate.backend.domain.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Writes a {@link TaskEntity} in exactly the shape of {@link TaskResponseDTO} (same field order, nulls
+ * omitted, dates as {@code yyyy-MM-dd'T'HH:mm:ss}) without building the DTO. Field names and enum values
+ * are pre-encoded once, and ids and dates are formatted into a per-thread char buffer instead of going
+ * through {@code UUID.toString()} and a {@link DateTimeFormatter}, so a list response allocates nothing
+ * per task beyond what the generator itself buffers.
+ */
+public class TaskEntitySerializer extends StdSerializer<TaskEntity> {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+    private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializedString COMPLETED_AT = new SerializedString("completedAt");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final SerializedString[] STATUSES = encode(TaskEntity.Status.values());
+    private static final SerializedString[] PRIORITIES = encode(TaskEntity.Priority.values());
+
+    // Large enough for a UUID (36) and a date (19)
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[36]);
+
+    public TaskEntitySerializer() {
+        super(TaskEntity.class);
+    }
+
+    @Override
+    public void serialize(TaskEntity task, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] buffer = BUFFER.get();
+        generator.writeStartObject(task);
+        if (task.getId() != null) {
+            generator.writeFieldName(ID);
+            generator.writeString(buffer, 0, uuid(task.getId(), buffer));
+        }
+        if (task.getTitle() != null) {
+            generator.writeFieldName(TITLE);
+            generator.writeString(task.getTitle());
+        }
+        if (task.getDescription() != null) {
+            generator.writeFieldName(DESCRIPTION);
+            generator.writeString(task.getDescription());
+        }
+        if (task.getStatus() != null) {
+            generator.writeFieldName(STATUS);
+            generator.writeString(STATUSES[task.getStatus().ordinal()]);
+        }
+        if (task.getPriority() != null) {
+            generator.writeFieldName(PRIORITY);
+            generator.writeString(PRIORITIES[task.getPriority().ordinal()]);
+        }
+        writeDate(generator, DUE_DATE, task.getDueDate(), buffer);
+        writeDate(generator, COMPLETED_AT, task.getCompletedAt(), buffer);
+        writeDate(generator, CREATED_AT, task.getCreatedAt(), buffer);
+        writeDate(generator, UPDATED_AT, task.getUpdatedAt(), buffer);
+        generator.writeEndObject();
+    }
+
+    private static void writeDate(JsonGenerator generator, SerializedString name, LocalDateTime value, char[] buffer) throws IOException {
+        if (value == null) {
+            return;
+        }
+        generator.writeFieldName(name);
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(DATE_FORMAT.format(value));
+            return;
+        }
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+        generator.writeString(buffer, 0, 19);
+    }
+
+    private static void digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    // Same layout as UUID.toString(): 8-4-4-4-12 lower-case hex digits
+    private static int uuid(UUID id, char[] buffer) {
+        hex(buffer, 0, id.getMostSignificantBits() >>> 32, 8);
+        buffer[8] = '-';
+        hex(buffer, 9, id.getMostSignificantBits() >>> 16, 4);
+        buffer[13] = '-';
+        hex(buffer, 14, id.getMostSignificantBits(), 4);
+        buffer[18] = '-';
+        hex(buffer, 19, id.getLeastSignificantBits() >>> 48, 4);
+        buffer[23] = '-';
+        hex(buffer, 24, id.getLeastSignificantBits(), 12);
+        return 36;
+    }
+
+    private static void hex(char[] buffer, int offset, long value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static SerializedString[] encode(Enum<?>[] values) {
+        SerializedString[] encoded = new SerializedString[values.length];
+        for (Enum<?> value : values) {
+            encoded[value.ordinal()] = new SerializedString(value.name());
+        }
+        return encoded;
+    }
+}
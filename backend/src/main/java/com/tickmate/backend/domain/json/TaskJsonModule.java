@@ -0,0 +1,12 @@
+package com.tickmate.backend.domain.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+// Lets list endpoints and the NDJSON export hand entities straight to Jackson instead of mapping them to DTOs first
+public class TaskJsonModule extends SimpleModule {
+    public TaskJsonModule() {
+        super("TaskJsonModule");
+        addSerializer(TaskEntity.class, new TaskEntitySerializer());
+    }
+}
@@ -0,0 +1,10 @@
+package com.tickmate.backend.domain.pagination;
+
+import java.util.List;
+
+/**
+ * One window of a keyset-paginated listing. {@code next}/{@code prev} are opaque tokens
+ * to pass back as the {@code cursor} parameter, or null when there is nothing further.
+ */
+public record CursorPage<T>(List<T> content, int size, String next, String prev) {
+}
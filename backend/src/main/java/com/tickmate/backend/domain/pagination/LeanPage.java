@@ -0,0 +1,20 @@
+package com.tickmate.backend.domain.pagination;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Compact rendering of a {@link Page}: the content and the four numbers a client pages with, without the
+ * {@code pageable}/{@code sort} objects and the flags derivable from them.
+ */
+public record LeanPage<T>(List<T> content,
+                          int number,
+                          int size,
+                          long totalElements,
+                          int totalPages) {
+
+    public static <T> LeanPage<T> of(Page<T> page) {
+        return new LeanPage<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+}
@@ -0,0 +1,34 @@
+package com.tickmate.backend.domain.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * One page of a listing without an exact total: {@code hasNext} comes from fetching one row past the page.
+ * {@code totalElements}/{@code totalPages} are only present when an approximate total was asked for.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SlicePage<T>(List<T> content,
+                           int number,
+                           int size,
+                           boolean first,
+                           boolean last,
+                           boolean hasNext,
+                           Long totalElements,
+                           Integer totalPages) {
+
+    public static <T> SlicePage<T> of(Slice<T> slice, Long approximateTotal) {
+        Integer totalPages = null;
+        Long totalElements = approximateTotal;
+        if (approximateTotal != null && slice.getSize() > 0) {
+            // A stale estimate must not contradict what this page already shows
+            long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+            totalElements = Math.max(approximateTotal, seen);
+            totalPages = (int) Math.ceil((double) totalElements / slice.getSize());
+        }
+        return new SlicePage<>(slice.getContent(), slice.getNumber(), slice.getSize(),
+                slice.isFirst(), slice.isLast(), slice.hasNext(), totalElements, totalPages);
+    }
+}
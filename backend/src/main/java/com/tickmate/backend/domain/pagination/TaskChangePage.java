@@ -0,0 +1,14 @@
+package com.tickmate.backend.domain.pagination;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One read of the change feed: tasks created or updated and ids of tasks deleted after the {@code since} token,
+ * in change order. {@code next} is the token to pass as {@code since} on the next read; {@code hasMore} says
+ * whether that read can be made right away.
+ */
+public record TaskChangePage(List<TaskEntity> changed, List<UUID> deleted, String next, boolean hasMore) {
+}
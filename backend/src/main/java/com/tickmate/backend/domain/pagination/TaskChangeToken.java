@@ -0,0 +1,51 @@
+package com.tickmate.backend.domain.pagination;
+
+import com.tickmate.backend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position inside the change feed: the (changeSeq, id) of the last change handed out, plus when the token was
+ * issued, which decides whether the tombstones after it may already have been purged. Encoded as an opaque
+ * URL-safe token like {@link TaskCursor}.
+ */
+public record TaskChangeToken(long seq, UUID id, Instant issuedAt) {
+    // Before every change, including rows that predate the feed (changeSeq 0)
+    public static final long START_SEQ = -1;
+    public static final UUID START_ID = new UUID(0, 0);
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                Long.toString(seq),
+                id.toString(),
+                Long.toString(issuedAt.toEpochMilli()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Malformed change token");
+            }
+
+            return new TaskChangeToken(
+                    Long.parseLong(parts[1]),
+                    UUID.fromString(parts[2]),
+                    Instant.ofEpochMilli(Long.parseLong(parts[3]))
+            );
+        } catch (InvalidCursorException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Malformed change token");
+        }
+    }
+}
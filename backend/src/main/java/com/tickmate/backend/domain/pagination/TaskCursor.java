@@ -0,0 +1,72 @@
+package com.tickmate.backend.domain.pagination;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Position inside a keyset scan: the sort key of the boundary row plus its id as a tie-breaker.
+ * Encoded as an opaque URL-safe token so clients never depend on its layout.
+ */
+public record TaskCursor(String property, Sort.Direction direction, LocalDateTime value, UUID id, boolean backward) {
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("dueDate", "createdAt", "updatedAt");
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor after(TaskEntity task, String property, Sort.Direction direction) {
+        return new TaskCursor(property, direction, keyOf(task, property), task.getId(), false);
+    }
+
+    public static TaskCursor before(TaskEntity task, String property, Sort.Direction direction) {
+        return new TaskCursor(property, direction, keyOf(task, property), task.getId(), true);
+    }
+
+    public static LocalDateTime keyOf(TaskEntity task, String property) {
+        return switch (property) {
+            case "dueDate" -> task.getDueDate();
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            default -> throw new InvalidCursorException("Unsupported cursor sort property: " + property);
+        };
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                property,
+                direction.name(),
+                value != null ? value.toString() : "",
+                id.toString(),
+                backward ? "B" : "F");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 6 || !VERSION.equals(parts[0]) || !SORTABLE_PROPERTIES.contains(parts[1])) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+
+            return new TaskCursor(
+                    parts[1],
+                    Sort.Direction.valueOf(parts[2]),
+                    parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3]),
+                    UUID.fromString(parts[4]),
+                    "B".equals(parts[5])
+            );
+        } catch (InvalidCursorException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.tickmate.backend.domain.projection;
+
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.exception.InvalidFieldsException;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A column a client can ask for with {@code fields=} on list queries. Each field knows its entity
+ * property and where its value goes in {@link TaskResponseDTO}, so a projection selects exactly the
+ * requested columns and fills the DTO without going through a {@link TaskEntity}.
+ */
+public enum TaskField {
+    ID("id", TaskEntity::getId, (dto, value) -> dto.setId((UUID) value)),
+    TITLE("title", TaskEntity::getTitle, (dto, value) -> dto.setTitle((String) value)),
+    DESCRIPTION("description", TaskEntity::getDescription, (dto, value) -> dto.setDescription((String) value)),
+    STATUS("status", TaskEntity::getStatus, (dto, value) -> dto.setStatus((TaskEntity.Status) value)),
+    PRIORITY("priority", TaskEntity::getPriority, (dto, value) -> dto.setPriority((TaskEntity.Priority) value)),
+    DUE_DATE("dueDate", TaskEntity::getDueDate, (dto, value) -> dto.setDueDate((LocalDateTime) value)),
+    COMPLETED_AT("completedAt", TaskEntity::getCompletedAt, (dto, value) -> dto.setCompletedAt((LocalDateTime) value)),
+    CREATED_AT("createdAt", TaskEntity::getCreatedAt, (dto, value) -> dto.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", TaskEntity::getUpdatedAt, (dto, value) -> dto.setUpdatedAt((LocalDateTime) value));
+
+    private static final Map<String, TaskField> BY_PROPERTY = Arrays.stream(values())
+            .collect(Collectors.toMap(TaskField::property, Function.identity()));
+
+    private final String property;
+    private final Function<TaskEntity, Object> getter;
+    private final BiConsumer<TaskResponseDTO, Object> setter;
+
+    TaskField(String property, Function<TaskEntity, Object> getter, BiConsumer<TaskResponseDTO, Object> setter) {
+        this.property = property;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public Object valueOf(TaskEntity task) {
+        return getter.apply(task);
+    }
+
+    public void apply(TaskResponseDTO dto, Object value) {
+        setter.accept(dto, value);
+    }
+
+    public static Optional<TaskField> of(String property) {
+        return Optional.ofNullable(BY_PROPERTY.get(property));
+    }
+
+    // The same projection for a task that was already loaded (rows merged from both storage tiers)
+    public static TaskResponseDTO project(TaskEntity task, Set<TaskField> fields) {
+        TaskResponseDTO dto = new TaskResponseDTO();
+        for (TaskField field : fields) {
+            field.apply(dto, field.valueOf(task));
+        }
+        return dto;
+    }
+
+    // Comma-separated property names as they appear in the JSON; id is always included so rows stay addressable
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+            TaskField field = BY_PROPERTY.get(property);
+            if (field == null) {
+                throw new InvalidFieldsException("Unknown field '" + property + "', expected any of " + BY_PROPERTY.keySet());
+            }
+            parsed.add(field);
+        }
+        return parsed;
+    }
+
+    // In-memory equivalent of the ORDER BY: enums compare by name as they are stored, NULLs sort high, id breaks ties
+    public static Comparator<TaskEntity> comparator(Sort sort) {
+        Comparator<TaskEntity> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            TaskField field = of(order.getProperty())
+                    .orElseThrow(() -> new InvalidFieldsException("Unsupported sort property: " + order.getProperty()));
+            comparator = comparator.thenComparing(
+                    task -> sortKey(field.valueOf(task)),
+                    order.isAscending()
+                            ? Comparator.nullsLast(Comparator.<Comparable<Object>>naturalOrder())
+                            : Comparator.nullsFirst(Comparator.<Comparable<Object>>reverseOrder()));
+        }
+        return comparator.thenComparing(TaskEntity::getId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> sortKey(Object value) {
+        return (Comparable<Object>) (value instanceof Enum<?> constant ? constant.name() : value);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tickmate.backend.domain.stats;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+// One status and priority cell of the statistics seed query
+public record TaskCountRow(TaskEntity.Status status, TaskEntity.Priority priority, long count) {
+}
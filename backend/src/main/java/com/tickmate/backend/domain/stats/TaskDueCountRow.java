@@ -0,0 +1,12 @@
+package com.tickmate.backend.domain.stats;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.time.LocalDateTime;
+
+// Open tasks of one priority due at dueDate; dueDate is null for the overdue count, which is not split by date
+public record TaskDueCountRow(TaskEntity.Priority priority, LocalDateTime dueDate, long count) {
+    public TaskDueCountRow(TaskEntity.Priority priority, long count) {
+        this(priority, null, count);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tickmate.backend.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+}
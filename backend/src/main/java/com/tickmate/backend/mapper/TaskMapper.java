@@ -1,5 +1,6 @@
 package com.tickmate.backend.mapper;
 
+import com.tickmate.backend.domain.dto.TaskPatchDTO;
 import com.tickmate.backend.domain.dto.TaskRequestDTO;
 import com.tickmate.backend.domain.dto.TaskResponseDTO;
 import com.tickmate.backend.domain.entity.TaskEntity;
@@ -10,4 +11,5 @@ import org.mapstruct.ReportingPolicy;
 public interface TaskMapper {
     TaskResponseDTO toDTO(TaskEntity task);
     TaskEntity toEntity(TaskRequestDTO dto);
+    TaskEntity toEntity(TaskPatchDTO dto);
 }
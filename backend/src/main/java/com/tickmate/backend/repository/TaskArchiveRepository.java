@@ -0,0 +1,13 @@
+package com.tickmate.backend.repository;
+
+import com.tickmate.backend.domain.entity.TaskArchiveEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface TaskArchiveRepository extends CrudRepository<TaskArchiveEntity, UUID>,
+        PagingAndSortingRepository<TaskArchiveEntity, UUID> {
+}
@@ -0,0 +1,9 @@
+package com.tickmate.backend.repository;
+
+import com.tickmate.backend.domain.entity.TaskImportEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskImportRepository extends CrudRepository<TaskImportEntity, String> {
+}
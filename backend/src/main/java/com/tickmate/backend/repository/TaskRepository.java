@@ -1,20 +1,32 @@
 package com.tickmate.backend.repository;
 
 import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.stats.TaskCountRow;
+import com.tickmate.backend.domain.stats.TaskDueCountRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TaskRepository extends CrudRepository<TaskEntity, UUID>,
-        PagingAndSortingRepository<TaskEntity, UUID> {
+        PagingAndSortingRepository<TaskEntity, UUID>,
+        TaskRepositoryCustom {
     @Query("""
         SELECT t FROM TaskEntity t
         WHERE
@@ -26,4 +38,116 @@ public interface TaskRepository extends CrudRepository<TaskEntity, UUID>,
                                  @Param("priority") List<TaskEntity.Priority> priority,
                                  @Param("q") String query,
                                  Pageable pageable);
+
+    // Slice variants fetch one row past the page instead of running a COUNT query
+    Slice<TaskEntity> findAllBy(Pageable pageable);
+
+    @Query("""
+        SELECT t FROM TaskEntity t
+        WHERE
+          (:status IS NULL OR t.status IN :status)
+          AND (:priority IS NULL OR t.priority IN :priority)
+          AND (:q IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :q, '%')))
+    """)
+    Slice<TaskEntity> searchTaskSlice(@Param("status") List<TaskEntity.Status> status,
+                                      @Param("priority") List<TaskEntity.Priority> priority,
+                                      @Param("q") String query,
+                                      Pageable pageable);
+
+    // The page of the given tasks in the requested order; the search index supplies the ids
+    @Query("SELECT t.id FROM TaskEntity t WHERE t.id IN :ids")
+    List<UUID> findTaskIds(@Param("ids") Collection<UUID> ids, Pageable pageable);
+
+    @Query("""
+        SELECT COUNT(t) FROM TaskEntity t
+        WHERE
+          (:status IS NULL OR t.status IN :status)
+          AND (:priority IS NULL OR t.priority IN :priority)
+          AND (:q IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :q, '%')))
+    """)
+    long countMatchingTasks(@Param("status") List<TaskEntity.Status> status,
+                            @Param("priority") List<TaskEntity.Priority> priority,
+                            @Param("q") String query);
+
+    @Query("""
+        SELECT new com.tickmate.backend.domain.stats.TaskCountRow(t.status, t.priority, COUNT(t))
+        FROM TaskEntity t
+        GROUP BY t.status, t.priority
+    """)
+    List<TaskCountRow> countTasks();
+
+    @Query("""
+        SELECT new com.tickmate.backend.domain.stats.TaskDueCountRow(t.priority, COUNT(t))
+        FROM TaskEntity t
+        WHERE t.status IN (com.tickmate.backend.domain.entity.TaskEntity.Status.PENDING,
+                           com.tickmate.backend.domain.entity.TaskEntity.Status.IN_PROGRESS)
+          AND t.dueDate < :before
+        GROUP BY t.priority
+    """)
+    List<TaskDueCountRow> countOpenTasksDueBefore(@Param("before") LocalDateTime before);
+
+    // Bounded by the window, so only the tasks due in it are grouped by dueDate
+    @Query("""
+        SELECT new com.tickmate.backend.domain.stats.TaskDueCountRow(t.priority, t.dueDate, COUNT(t))
+        FROM TaskEntity t
+        WHERE t.status IN (com.tickmate.backend.domain.entity.TaskEntity.Status.PENDING,
+                           com.tickmate.backend.domain.entity.TaskEntity.Status.IN_PROGRESS)
+          AND t.dueDate >= :from AND t.dueDate < :to
+        GROUP BY t.priority, t.dueDate
+    """)
+    List<TaskDueCountRow> countOpenTasksDue(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Finished tasks due for the cold tier, locked for the move. Rows another transaction holds
+    // (a concurrent edit, another replica's tiering run) are skipped rather than waited for. The finish time is
+    // completedAt, else updatedAt, spelled as two ranges so each can use its index.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT t FROM TaskEntity t
+        WHERE t.status IN (com.tickmate.backend.domain.entity.TaskEntity.Status.COMPLETED,
+                           com.tickmate.backend.domain.entity.TaskEntity.Status.ARCHIVED)
+          AND (t.completedAt < :finishedBefore OR (t.completedAt IS NULL AND t.updatedAt < :finishedBefore))
+    """)
+    List<TaskEntity> findTasksToArchive(@Param("finishedBefore") LocalDateTime finishedBefore, Limit limit);
+
+    // Windowed loads of the deadline scheduler, walking idx_tasks_due_date_id: the first chunk of a window,
+    // then every further chunk seeking past the (dueDate, id) of the previous one with a range starting at its dueDate
+    @Query("""
+        SELECT t FROM TaskEntity t
+        WHERE t.status IN (com.tickmate.backend.domain.entity.TaskEntity.Status.PENDING,
+                           com.tickmate.backend.domain.entity.TaskEntity.Status.IN_PROGRESS)
+          AND t.dueDate >= :from AND t.dueDate < :to
+        ORDER BY t.dueDate, t.id
+    """)
+    List<TaskEntity> findOpenTasksDue(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Limit limit);
+
+    @Query("""
+        SELECT t FROM TaskEntity t
+        WHERE t.status IN (com.tickmate.backend.domain.entity.TaskEntity.Status.PENDING,
+                           com.tickmate.backend.domain.entity.TaskEntity.Status.IN_PROGRESS)
+          AND t.dueDate >= :afterDueDate AND (t.dueDate > :afterDueDate OR t.id > :afterId)
+          AND t.dueDate < :to
+        ORDER BY t.dueDate, t.id
+    """)
+    List<TaskEntity> findOpenTasksDueAfter(@Param("afterDueDate") LocalDateTime afterDueDate,
+                                           @Param("afterId") UUID afterId,
+                                           @Param("to") LocalDateTime to,
+                                           Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TaskEntity t WHERE t.id IN :ids")
+    int deleteTasksById(@Param("ids") Collection<UUID> ids);
+
+    // Change feed: tasks after a (changeSeq, id) position, walking idx_tasks_change_seq_id from the position on
+    // (the leading changeSeq >= :afterSeq is the index range; the OR only drops the rows sharing its changeSeq)
+    @Query("""
+        SELECT t FROM TaskEntity t
+        WHERE t.changeSeq >= :afterSeq AND (t.changeSeq > :afterSeq OR t.id > :afterId)
+          AND t.changeSeq <= :upTo
+        ORDER BY t.changeSeq, t.id
+    """)
+    List<TaskEntity> findChangedAfter(@Param("afterSeq") long afterSeq,
+                                      @Param("afterId") UUID afterId,
+                                      @Param("upTo") long upTo,
+                                      Limit limit);
 }
@@ -0,0 +1,62 @@
+package com.tickmate.backend.repository;
+
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.pagination.TaskCursor;
+import com.tickmate.backend.domain.projection.TaskField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    List<TaskEntity> scrollTasks(List<TaskEntity.Status> status,
+                                 List<TaskEntity.Priority> priority,
+                                 String query,
+                                 String property,
+                                 Sort.Direction direction,
+                                 TaskCursor after,
+                                 int limit);
+
+    Stream<TaskEntity> streamTasks(List<TaskEntity.Status> status,
+                                   List<TaskEntity.Priority> priority,
+                                   int fetchSize);
+
+    Page<TaskResponseDTO> findTaskFields(List<TaskEntity.Status> status,
+                                         List<TaskEntity.Priority> priority,
+                                         String query,
+                                         Set<TaskField> fields,
+                                         Pageable pageable);
+
+    List<TaskResponseDTO> findTaskFieldsById(Collection<UUID> ids, Set<TaskField> fields);
+
+    // PostgreSQL with pg_trgm only: ranked by word_similarity with the query, the page's sort is not applied
+    Page<UUID> findTaskIdsByRelevance(List<TaskEntity.Status> status,
+                                      List<TaskEntity.Priority> priority,
+                                      String query,
+                                      Pageable pageable);
+
+    Page<TaskEntity> findTasksIncludingArchived(List<TaskEntity.Status> status,
+                                                List<TaskEntity.Priority> priority,
+                                                String query,
+                                                Pageable pageable);
+
+    Optional<TaskEntity> patchTask(UUID id,
+                                   String title,
+                                   String description,
+                                   TaskEntity.Status status,
+                                   TaskEntity.Priority priority,
+                                   LocalDateTime dueDate,
+                                   LocalDateTime completedAt,
+                                   LocalDateTime now,
+                                   long changeSeq);
+
+    Optional<TaskEntity> deleteTask(UUID id);
+}
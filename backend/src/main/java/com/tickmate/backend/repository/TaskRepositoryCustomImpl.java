@@ -0,0 +1,423 @@
+package com.tickmate.backend.repository;
+
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.pagination.TaskCursor;
+import com.tickmate.backend.domain.projection.TaskField;
+import com.tickmate.backend.exception.InvalidFieldsException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    // Columns both tiers share, in the select order of findTasksIncludingArchived (tierRow reads them by position)
+    private static final List<TaskField> TIER_COLUMNS = List.of(TaskField.ID, TaskField.TITLE, TaskField.DESCRIPTION,
+            TaskField.STATUS, TaskField.PRIORITY, TaskField.DUE_DATE, TaskField.COMPLETED_AT, TaskField.CREATED_AT,
+            TaskField.UPDATED_AT);
+    private static final String TIER_FILTERS = """
+            (:status IS NULL OR t.status IN :status)
+              AND (:priority IS NULL OR t.priority IN :priority)
+              AND (:q IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :q, '%')))""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Keyset scan: seeks past the cursor with a WHERE clause instead of OFFSET and never counts.
+    // NULL sort keys are treated as larger than any value (NULLS LAST ascending, NULLS FIRST descending),
+    // matching PostgreSQL's default ordering. The rows with a key and the rows without one are read by separate
+    // queries, each seeking with a range on the (key, id) index so it is entered at the cursor rather than filtered
+    // from its start; the side after the cursor's is only read when the cursor's side runs out.
+    @Override
+    public List<TaskEntity> scrollTasks(List<TaskEntity.Status> status,
+                                        List<TaskEntity.Priority> priority,
+                                        String query,
+                                        String property,
+                                        Sort.Direction direction,
+                                        TaskCursor after,
+                                        int limit) {
+        if (after == null) {
+            return scroll(status, priority, query, property, direction, null, limit);
+        }
+
+        boolean ascending = direction.isAscending();
+        List<TaskEntity> page;
+        Seek rest;
+        if (after.value() == null) {
+            page = scroll(status, priority, query, property, direction, (cb, key, id) -> cb.and(cb.isNull(key),
+                    ascending ? cb.greaterThan(id, after.id()) : cb.lessThan(id, after.id())), limit);
+            rest = ascending ? null : (cb, key, id) -> cb.isNotNull(key);
+        } else {
+            page = scroll(status, priority, query, property, direction, (cb, key, id) -> ascending
+                    ? seekAscending(cb, key, id, after)
+                    : seekDescending(cb, key, id, after), limit);
+            rest = ascending ? (cb, key, id) -> cb.isNull(key) : null;
+        }
+        if (rest == null || page.size() >= limit) {
+            return page;
+        }
+
+        List<TaskEntity> rows = new ArrayList<>(page);
+        rows.addAll(scroll(status, priority, query, property, direction, rest, limit - page.size()));
+        return rows;
+    }
+
+    // Forward-only read for exports: rows are pulled from a server-side cursor fetchSize at a time and
+    // loaded read-only, so Hibernate keeps no dirty-checking snapshots. Must be consumed inside a transaction.
+    @Override
+    public Stream<TaskEntity> streamTasks(List<TaskEntity.Status> status,
+                                          List<TaskEntity.Priority> priority,
+                                          int fetchSize) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskEntity> cq = cb.createQuery(TaskEntity.class);
+        Root<TaskEntity> task = cq.from(TaskEntity.class);
+
+        cq.select(task)
+                .where(filters(cb, task, status, priority, null).toArray(Predicate[]::new))
+                .orderBy(cb.asc(task.get("createdAt")), cb.asc(task.get("id")));
+
+        return entityManager.createQuery(cq)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    // Selects only the requested columns as tuples and copies them straight into response DTOs:
+    // no managed entities, no dirty-checking snapshots and no mapper pass for list traffic
+    @Override
+    public Page<TaskResponseDTO> findTaskFields(List<TaskEntity.Status> status,
+                                                List<TaskEntity.Priority> priority,
+                                                String query,
+                                                Set<TaskField> fields,
+                                                Pageable pageable) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<TaskEntity> task = cq.from(TaskEntity.class);
+        List<Predicate> predicates = filters(cb, task, status, priority, query);
+
+        cq.multiselect(selections(task, fields))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+
+        TypedQuery<Tuple> select = entityManager.createQuery(cq);
+        if (pageable.isPaged()) {
+            select.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<TaskResponseDTO> content = toDTOs(select.getResultList(), fields);
+
+        // The COUNT only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<TaskEntity> counted = count.from(TaskEntity.class);
+            count.select(cb.count(counted))
+                    .where(filters(cb, counted, status, priority, query).toArray(Predicate[]::new));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+
+    // Rows come back in database order; callers that need another order (search relevance) reorder by id
+    @Override
+    public List<TaskResponseDTO> findTaskFieldsById(Collection<UUID> ids, Set<TaskField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<TaskEntity> task = cq.from(TaskEntity.class);
+        cq.multiselect(selections(task, fields)).where(task.get("id").in(ids));
+
+        return toDTOs(entityManager.createQuery(cq).getResultList(), fields);
+    }
+
+    // Both tiers in one UNION ALL, ordered and paged by the database: only the requested page is loaded, and strings
+    // compare under the database collation exactly as in the hot-tier listing. The id breaks ties so pages are stable.
+    @Override
+    public Page<UUID> findTaskIdsByRelevance(List<TaskEntity.Status> status,
+                                             List<TaskEntity.Priority> priority,
+                                             String query,
+                                             Pageable pageable) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> cq = cb.createQuery(UUID.class);
+        Root<TaskEntity> task = cq.from(TaskEntity.class);
+        Path<UUID> id = task.get("id");
+
+        // The LIKE filter picks the rows through the trigram index, only those are scored
+        cq.select(id)
+                .where(filters(cb, task, status, priority, query).toArray(Predicate[]::new))
+                .orderBy(cb.desc(cb.function("word_similarity", Double.class,
+                        cb.lower(cb.literal(query)), cb.lower(task.get("title")))), cb.asc(id));
+
+        List<UUID> content = entityManager.createQuery(cq)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<TaskEntity> counted = count.from(TaskEntity.class);
+            count.select(cb.count(counted))
+                    .where(filters(cb, counted, status, priority, query).toArray(Predicate[]::new));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+
+    @Override
+    public Page<TaskEntity> findTasksIncludingArchived(List<TaskEntity.Status> status,
+                                                       List<TaskEntity.Priority> priority,
+                                                       String query,
+                                                       Pageable pageable) {
+        StringBuilder hql = new StringBuilder()
+                .append("SELECT ").append(TIER_COLUMNS.stream().map(field -> "u." + field.property())
+                        .collect(Collectors.joining(", ")))
+                .append(" FROM (").append(tierSelect("TaskEntity"))
+                .append(" UNION ALL ").append(tierSelect("TaskArchiveEntity")).append(") u");
+        String orderBy = pageable.getSort().stream()
+                .map(order -> TaskField.of(order.getProperty())
+                        .orElseThrow(() -> new InvalidFieldsException("Unsupported sort property: " + order.getProperty()))
+                        .property() + (order.isAscending() ? " ASC" : " DESC"))
+                .map(order -> "u." + order)
+                .collect(Collectors.joining(", "));
+        hql.append(" ORDER BY ").append(orderBy.isEmpty() ? "u.id" : orderBy + ", u.id");
+
+        List<TaskEntity.Status> statusFilter = status != null && !status.isEmpty() ? status : null;
+        List<TaskEntity.Priority> priorityFilter = priority != null && !priority.isEmpty() ? priority : null;
+        String queryFilter = query != null ? query : "";
+
+        TypedQuery<Object[]> select = entityManager.createQuery(hql.toString(), Object[].class)
+                .setParameter("status", statusFilter)
+                .setParameter("priority", priorityFilter)
+                .setParameter("q", queryFilter);
+        if (pageable.isPaged()) {
+            select.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<TaskEntity> content = select.getResultList().stream().map(TaskRepositoryCustomImpl::tierRow).toList();
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countTier("TaskEntity", statusFilter, priorityFilter, queryFilter)
+                        + countTier("TaskArchiveEntity", statusFilter, priorityFilter, queryFilter));
+    }
+
+    // Applies only the non-null arguments in one UPDATE and returns the row as it was before it, from the same
+    // statement, so listeners get a before-image without a read ahead of the write. The completedAt rules of a
+    // status change are evaluated against the row's current values (right-hand sides of SET see the old row).
+    @Override
+    public Optional<TaskEntity> patchTask(UUID id,
+                                          String title,
+                                          String description,
+                                          TaskEntity.Status status,
+                                          TaskEntity.Priority priority,
+                                          LocalDateTime dueDate,
+                                          LocalDateTime completedAt,
+                                          LocalDateTime now,
+                                          long changeSeq) {
+        // Right-hand sides name tasks.<column>: on PostgreSQL the before-image joined below has the same columns.
+        // A null :completedAt is cast because PostgreSQL cannot type a bare parameter that is only tested for NULL.
+        String update = """
+            UPDATE tasks SET
+              title = COALESCE(:title, tasks.title),
+              description = COALESCE(:description, tasks.description),
+              priority = COALESCE(:priority, tasks.priority),
+              due_date = COALESCE(:dueDate, tasks.due_date),
+              status = COALESCE(:status, tasks.status),
+              completed_at = COALESCE(CAST(:completedAt AS TIMESTAMP(3)), CASE
+                WHEN COALESCE(:status, tasks.status) = 'COMPLETED' AND tasks.completed_at IS NULL THEN :now
+                WHEN COALESCE(:status, tasks.status) <> 'COMPLETED' AND tasks.status = 'COMPLETED' THEN NULL
+                ELSE tasks.completed_at
+              END),
+              updated_at = :now,
+              change_seq = :changeSeq
+            """;
+        String sql = isH2() ? "SELECT * FROM OLD TABLE (" + update + " WHERE id = :id)" : patchReturningPrevious(update);
+
+        NativeQuery<TaskEntity> query = nativeQuery(sql)
+                .setParameter("id", id, UUID.class)
+                .setParameter("title", title, String.class)
+                .setParameter("description", description, String.class)
+                .setParameter("status", status != null ? status.name() : null, String.class)
+                .setParameter("priority", priority != null ? priority.name() : null, String.class)
+                .setParameter("dueDate", dueDate, LocalDateTime.class)
+                .setParameter("completedAt", completedAt, LocalDateTime.class)
+                .setParameter("now", now, LocalDateTime.class)
+                .setParameter("changeSeq", changeSeq, Long.class);
+        return singleDetached(query);
+    }
+
+    // PostgreSQL's RETURNING sees the new row, so the old one is read (and locked) by a join in the same statement
+    static String patchReturningPrevious(String update) {
+        return update + " FROM (SELECT * FROM tasks WHERE id = :id FOR UPDATE) previous"
+                + " WHERE tasks.id = previous.id RETURNING previous.*";
+    }
+
+    // One DELETE returning the deleted row
+    @Override
+    public Optional<TaskEntity> deleteTask(UUID id) {
+        String sql = isH2()
+                ? "SELECT * FROM OLD TABLE (DELETE FROM tasks WHERE id = :id)"
+                : "DELETE FROM tasks WHERE id = :id RETURNING *";
+        return singleDetached(nativeQuery(sql).setParameter("id", id, UUID.class));
+    }
+
+    // The schema (data.sql) targets PostgreSQL; H2 runs the tests and names the before-image with OLD TABLE
+    private boolean isH2() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof H2Dialect;
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<TaskEntity> nativeQuery(String sql) {
+        return entityManager.createNativeQuery(sql, TaskEntity.class).unwrap(NativeQuery.class);
+    }
+
+    // The persistence context is flushed and cleared around the write, so the row comes back as it was in the
+    // database rather than as an instance already loaded, and no stale instance outlives the write
+    private Optional<TaskEntity> singleDetached(NativeQuery<TaskEntity> query) {
+        entityManager.flush();
+        entityManager.clear();
+        List<TaskEntity> rows = query.getResultList();
+        entityManager.clear();
+        return rows.stream().findFirst();
+    }
+
+    private static String tierSelect(String entity) {
+        return "SELECT " + TIER_COLUMNS.stream()
+                .map(field -> "t." + field.property() + " AS " + field.property())
+                .collect(Collectors.joining(", "))
+                + " FROM " + entity + " t WHERE " + TIER_FILTERS;
+    }
+
+    private long countTier(String entity, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, String query) {
+        return entityManager.createQuery("SELECT COUNT(t) FROM " + entity + " t WHERE " + TIER_FILTERS, Long.class)
+                .setParameter("status", status)
+                .setParameter("priority", priority)
+                .setParameter("q", query)
+                .getSingleResult();
+    }
+
+    private static TaskEntity tierRow(Object[] row) {
+        return TaskEntity.builder()
+                .id((UUID) row[0])
+                .title((String) row[1])
+                .description((String) row[2])
+                .status((TaskEntity.Status) row[3])
+                .priority((TaskEntity.Priority) row[4])
+                .dueDate((LocalDateTime) row[5])
+                .completedAt((LocalDateTime) row[6])
+                .createdAt((LocalDateTime) row[7])
+                .updatedAt((LocalDateTime) row[8])
+                .build();
+    }
+
+    private List<Selection<?>> selections(Root<TaskEntity> task, Set<TaskField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (TaskField field : fields) {
+            selections.add(task.get(field.property()).alias(field.property()));
+        }
+        return selections;
+    }
+
+    private List<TaskResponseDTO> toDTOs(List<Tuple> rows, Set<TaskField> fields) {
+        List<TaskResponseDTO> dtos = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            TaskResponseDTO dto = new TaskResponseDTO();
+            int column = 0;
+            for (TaskField field : fields) {
+                field.apply(dto, row.get(column++));
+            }
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    private List<Predicate> filters(HibernateCriteriaBuilder cb,
+                                    Root<TaskEntity> task,
+                                    List<TaskEntity.Status> status,
+                                    List<TaskEntity.Priority> priority,
+                                    String query) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null && !status.isEmpty()) {
+            predicates.add(task.get("status").in(status));
+        }
+        if (priority != null && !priority.isEmpty()) {
+            predicates.add(task.get("priority").in(priority));
+        }
+        if (query != null && !query.isBlank()) {
+            predicates.add(cb.like(cb.lower(task.get("title")), "%" + query.toLowerCase() + "%"));
+        }
+        return predicates;
+    }
+
+    private List<TaskEntity> scroll(List<TaskEntity.Status> status,
+                                    List<TaskEntity.Priority> priority,
+                                    String query,
+                                    String property,
+                                    Sort.Direction direction,
+                                    Seek seek,
+                                    int limit) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskEntity> cq = cb.createQuery(TaskEntity.class);
+        Root<TaskEntity> task = cq.from(TaskEntity.class);
+
+        List<Predicate> predicates = filters(cb, task, status, priority, query);
+
+        Path<LocalDateTime> key = task.get(property);
+        Path<UUID> id = task.get("id");
+        if (seek != null) {
+            predicates.add(seek.past(cb, key, id));
+        }
+
+        cq.select(task).where(predicates.toArray(Predicate[]::new));
+        if (direction.isAscending()) {
+            cq.orderBy(cb.asc(key, false), cb.asc(id));
+        } else {
+            cq.orderBy(cb.desc(key, true), cb.desc(id));
+        }
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // key >= value leads so the index range starts at the cursor; the OR only drops the rows sharing its value
+    private Predicate seekAscending(HibernateCriteriaBuilder cb, Path<LocalDateTime> key, Path<UUID> id, TaskCursor after) {
+        return cb.and(
+                cb.greaterThanOrEqualTo(key, after.value()),
+                cb.or(cb.greaterThan(key, after.value()), cb.greaterThan(id, after.id()))
+        );
+    }
+
+    private Predicate seekDescending(HibernateCriteriaBuilder cb, Path<LocalDateTime> key, Path<UUID> id, TaskCursor after) {
+        return cb.and(
+                cb.lessThanOrEqualTo(key, after.value()),
+                cb.or(cb.lessThan(key, after.value()), cb.lessThan(id, after.id()))
+        );
+    }
+
+    private interface Seek {
+        Predicate past(HibernateCriteriaBuilder cb, Path<LocalDateTime> key, Path<UUID> id);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tickmate.backend.repository;
+
+import com.tickmate.backend.domain.entity.TaskTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskTombstoneRepository extends CrudRepository<TaskTombstoneEntity, UUID> {
+    // Change feed: tombstones after a (changeSeq, taskId) position, walking idx_task_tombstones_change_seq_id from it
+    @Query("""
+        SELECT t FROM TaskTombstoneEntity t
+        WHERE t.changeSeq >= :afterSeq AND (t.changeSeq > :afterSeq OR t.taskId > :afterId)
+          AND t.changeSeq <= :upTo
+        ORDER BY t.changeSeq, t.taskId
+    """)
+    List<TaskTombstoneEntity> findDeletedAfter(@Param("afterSeq") long afterSeq,
+                                               @Param("afterId") UUID afterId,
+                                               @Param("upTo") long upTo,
+                                               Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstoneEntity t WHERE t.deletedAt < :deletedBefore")
+    int deleteDeletedBefore(@Param("deletedBefore") LocalDateTime deletedBefore);
+}
@@ -0,0 +1,100 @@
+package com.tickmate.backend.service;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.entity.TaskTombstoneEntity;
+import com.tickmate.backend.domain.pagination.TaskChangePage;
+import com.tickmate.backend.domain.pagination.TaskChangeToken;
+import com.tickmate.backend.exception.ChangeTokenExpiredException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+// Turns a change token into one scan of the storage engine's tasks and tombstones and merges them into a page of the feed
+public final class TaskChangeFeed {
+    // Change order: changeSeq, then id compared as unsigned bytes, the way the database orders UUID columns
+    public static final Comparator<TaskEntity> TASK_ORDER = Comparator
+            .comparingLong(TaskChangeFeed::seqOf)
+            .thenComparing(TaskEntity::getId, TaskChangeFeed::compareIds);
+    public static final Comparator<TaskTombstoneEntity> TOMBSTONE_ORDER = Comparator
+            .comparingLong(TaskTombstoneEntity::getChangeSeq)
+            .thenComparing(TaskTombstoneEntity::getTaskId, TaskChangeFeed::compareIds);
+
+    private TaskChangeFeed() {
+    }
+
+    @FunctionalInterface
+    public interface Scan {
+        // Up to limit tasks and up to limit tombstones in change order, each strictly after the (seq, id) position
+        Rows scan(long afterSeq, UUID afterId, int limit);
+    }
+
+    public record Rows(List<TaskEntity> changed, List<TaskTombstoneEntity> deleted) {
+        // Drops what lies beyond a position the engine cannot yet vouch for; those rows come with a later read
+        public Rows upTo(long seq) {
+            return new Rows(
+                    changed.stream().filter(task -> seqOf(task) <= seq).toList(),
+                    deleted.stream().filter(tombstone -> tombstone.getChangeSeq() <= seq).toList()
+            );
+        }
+    }
+
+    public static TaskChangePage page(String since, int limit, Duration retention, Scan scan) {
+        // Taken before the scan: everything deleted after this instant is still there on the next read
+        Instant issuedAt = Instant.now();
+        long seq = TaskChangeToken.START_SEQ;
+        UUID id = TaskChangeToken.START_ID;
+
+        if (since != null && !since.isBlank()) {
+            TaskChangeToken token = TaskChangeToken.decode(since);
+            if (token.issuedAt().isBefore(issuedAt.minus(retention))) {
+                throw new ChangeTokenExpiredException("Change token is older than the tombstone retention; sync again without since");
+            }
+            seq = token.seq();
+            id = token.id();
+        }
+
+        Rows rows = scan.scan(seq, id, limit + 1);
+        List<TaskEntity> changed = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+
+        int c = 0;
+        int d = 0;
+        while (changed.size() + deleted.size() < limit && (c < rows.changed().size() || d < rows.deleted().size())) {
+            TaskEntity task = c < rows.changed().size() ? rows.changed().get(c) : null;
+            TaskTombstoneEntity tombstone = d < rows.deleted().size() ? rows.deleted().get(d) : null;
+            if (tombstone == null || (task != null && compare(task, tombstone) < 0)) {
+                changed.add(task);
+                seq = seqOf(task);
+                id = task.getId();
+                c++;
+            } else {
+                deleted.add(tombstone.getTaskId());
+                seq = tombstone.getChangeSeq();
+                id = tombstone.getTaskId();
+                d++;
+            }
+        }
+
+        boolean hasMore = c < rows.changed().size() || d < rows.deleted().size();
+        return new TaskChangePage(changed, deleted, new TaskChangeToken(seq, id, issuedAt).encode(), hasMore);
+    }
+
+    // Rows written before the feed existed carry no changeSeq and sort first
+    public static long seqOf(TaskEntity task) {
+        return task.getChangeSeq() != null ? task.getChangeSeq() : 0;
+    }
+
+    public static int compareIds(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static int compare(TaskEntity task, TaskTombstoneEntity tombstone) {
+        int bySeq = Long.compare(seqOf(task), tombstone.getChangeSeq());
+        return bySeq != 0 ? bySeq : compareIds(task.getId(), tombstone.getTaskId());
+    }
+}
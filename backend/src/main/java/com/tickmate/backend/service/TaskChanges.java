@@ -0,0 +1,98 @@
+package com.tickmate.backend.service;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.time.LocalDateTime;
+
+// Write rules shared by the storage engines behind TaskService: defaults for new tasks and how a request changes a task
+public final class TaskChanges {
+    private TaskChanges() {
+    }
+
+    public static TaskEntity newTask(TaskEntity taskRequest) {
+        return TaskEntity.builder()
+                .title(taskRequest.getTitle())
+                .description(taskRequest.getDescription())
+                .status(
+                        taskRequest.getStatus() != null
+                                ? taskRequest.getStatus()
+                                : TaskEntity.Status.PENDING
+                )
+                .priority(
+                        taskRequest.getPriority() != null
+                                ? taskRequest.getPriority()
+                                : TaskEntity.Priority.MEDIUM
+                )
+                .dueDate(taskRequest.getDueDate())
+                .completedAt(taskRequest.getCompletedAt())
+                .build();
+    }
+
+    public static void apply(TaskEntity task, TaskEntity taskRequest) {
+        if (taskRequest.getTitle() != null) {
+            task.setTitle(taskRequest.getTitle());
+        }
+        if (taskRequest.getDescription() != null) {
+            task.setDescription(taskRequest.getDescription());
+        }
+        if (taskRequest.getStatus() != null) {
+            TaskEntity.Status oldStatus = task.getStatus();
+            TaskEntity.Status newStatus = taskRequest.getStatus();
+
+            task.setStatus(newStatus);
+
+            // Automatically manage completedAt based on status changes
+            if (newStatus == TaskEntity.Status.COMPLETED) {
+                // If just completed now → set completedAt to now (if not manually set)
+                if (task.getCompletedAt() == null) {
+                    task.setCompletedAt(LocalDateTime.now());
+                }
+            } else {
+                // If reopened or changed from COMPLETED → clear completedAt
+                if (oldStatus == TaskEntity.Status.COMPLETED) {
+                    task.setCompletedAt(null);
+                }
+            }
+        }
+        if (taskRequest.getPriority() != null) {
+            task.setPriority(taskRequest.getPriority());
+        }
+        if (taskRequest.getDueDate() != null) {
+            task.setDueDate(taskRequest.getDueDate());
+        }
+        // Allow manual override of completedAt (if explicitly provided)
+        if (taskRequest.getCompletedAt() != null) {
+            task.setCompletedAt(taskRequest.getCompletedAt());
+        }
+    }
+
+    // The rules of TaskRepository.patchTask for engines that write in memory; completedAt follows the status
+    // the task ends up with, judged against the values it had before the patch
+    public static void patch(TaskEntity task, TaskEntity changes, LocalDateTime now) {
+        TaskEntity.Status oldStatus = task.getStatus();
+        TaskEntity.Status newStatus = changes.getStatus() != null ? changes.getStatus() : oldStatus;
+
+        if (changes.getTitle() != null) {
+            task.setTitle(changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            task.setDescription(changes.getDescription());
+        }
+        if (changes.getPriority() != null) {
+            task.setPriority(changes.getPriority());
+        }
+        if (changes.getDueDate() != null) {
+            task.setDueDate(changes.getDueDate());
+        }
+        task.setStatus(newStatus);
+
+        if (changes.getCompletedAt() != null) {
+            task.setCompletedAt(changes.getCompletedAt());
+        } else if (newStatus == TaskEntity.Status.COMPLETED && task.getCompletedAt() == null) {
+            task.setCompletedAt(now);
+        } else if (newStatus != TaskEntity.Status.COMPLETED && oldStatus == TaskEntity.Status.COMPLETED) {
+            task.setCompletedAt(null);
+        }
+        task.setUpdatedAt(now);
+    }
+}
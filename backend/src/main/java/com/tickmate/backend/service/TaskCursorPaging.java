@@ -0,0 +1,73 @@
+package com.tickmate.backend.service;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.pagination.CursorPage;
+import com.tickmate.backend.domain.pagination.TaskCursor;
+import com.tickmate.backend.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Turns a cursor token into one keyset scan of the storage engine and the scan's rows into a window with next/prev tokens
+public final class TaskCursorPaging {
+    private TaskCursorPaging() {
+    }
+
+    @FunctionalInterface
+    public interface Scan {
+        // Up to limit rows in (property, id) order for the direction, starting after the position (from the start when null)
+        List<TaskEntity> scroll(String property, Sort.Direction direction, TaskCursor after, int limit);
+    }
+
+    public static CursorPage<TaskEntity> page(String cursor, Sort sort, int size, Scan scan) {
+        TaskCursor position = null;
+        String property;
+        Sort.Direction direction;
+
+        if (cursor != null && !cursor.isBlank()) {
+            // The token carries its own sort so a client cannot mix keys from different orderings
+            position = TaskCursor.decode(cursor);
+            property = position.property();
+            direction = position.direction();
+        } else {
+            Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.desc("dueDate"));
+            if (!TaskCursor.SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new InvalidCursorException("Unsupported cursor sort property: " + order.getProperty());
+            }
+            property = order.getProperty();
+            direction = order.getDirection();
+        }
+
+        boolean backward = position != null && position.backward();
+        Sort.Direction scanDirection = backward ? (direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC) : direction;
+
+        // Fetch one extra row to learn whether another window exists without a COUNT query
+        List<TaskEntity> rows = new ArrayList<>(scan.scroll(property, scanDirection, position, size + 1));
+
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows.remove(rows.size() - 1);
+        }
+        if (backward) {
+            Collections.reverse(rows);
+        }
+
+        String next = null;
+        String prev = null;
+        if (!rows.isEmpty()) {
+            TaskEntity first = rows.get(0);
+            TaskEntity last = rows.get(rows.size() - 1);
+
+            if (backward || hasMore) {
+                next = TaskCursor.after(last, property, direction).encode();
+            }
+            if (backward ? hasMore : position != null) {
+                prev = TaskCursor.before(first, property, direction).encode();
+            }
+        }
+
+        return new CursorPage<>(rows, size, next, prev);
+    }
+}
@@ -0,0 +1,33 @@
+package com.tickmate.backend.service;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.pagination.TaskCursor;
+import com.tickmate.backend.domain.stats.TaskCountRow;
+import com.tickmate.backend.domain.stats.TaskDueCountRow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Full reads the in-process read models (statistics, search index, deadlines) are seeded from, served by the active storage engine
+public interface TaskScanSource {
+    // Tasks per status and priority
+    List<TaskCountRow> countTasks();
+
+    // PENDING and IN_PROGRESS tasks due before the given time, per priority
+    List<TaskDueCountRow> countOpenTasksDueBefore(LocalDateTime before);
+
+    // PENDING and IN_PROGRESS tasks due in [from, to), per priority and dueDate
+    List<TaskDueCountRow> countOpenTasksDue(LocalDateTime from, LocalDateTime to);
+
+    // Tasks in (createdAt, id) order, starting after the given position (from the start when null)
+    List<TaskEntity> scrollTasks(TaskCursor after, int limit);
+
+    // PENDING and IN_PROGRESS tasks due in [from, to), in (dueDate, id) order, starting after the given position
+    // (from the start when null)
+    List<TaskEntity> scrollOpenTasksDue(LocalDateTime from, LocalDateTime to, TaskCursor after, int limit);
+
+    // Whether the store answers title searches from a trigram index of its own, so the search index can stay off
+    default boolean indexesTitles() {
+        return false;
+    }
+}
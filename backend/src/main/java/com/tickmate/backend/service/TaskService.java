@@ -1,17 +1,45 @@
 package com.tickmate.backend.service;
 
+import com.tickmate.backend.domain.batch.TaskBatchOutcome;
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
 import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.entity.TaskImportEntity;
+import com.tickmate.backend.domain.pagination.CursorPage;
+import com.tickmate.backend.domain.pagination.TaskChangePage;
+import com.tickmate.backend.domain.projection.TaskField;
+import com.tickmate.backend.service.export.TaskRowConsumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface TaskService {
     TaskEntity createTask(TaskEntity taskRequest);
     Page<TaskEntity> getTasks(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, Pageable pageable);
+    Page<TaskResponseDTO> getTaskFields(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, Set<TaskField> fields, Pageable pageable);
+    Page<TaskEntity> getTasksIncludingArchived(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, Pageable pageable);
+    Slice<TaskEntity> getTaskSlice(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, Pageable pageable);
+    long estimateTaskCount(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority);
+    CursorPage<TaskEntity> getTasksByCursor(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, String cursor, Sort sort, int size);
+    long exportTasks(List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, TaskRowConsumer consumer) throws IOException;
     Optional<TaskEntity> getTaskById(UUID taskId);
+    Optional<TaskEntity> getArchivedTaskById(UUID taskId);
     TaskEntity updateTask(UUID taskId, TaskEntity taskRequest);
+    TaskEntity patchTask(UUID taskId, TaskEntity changes);
     void deleteTask(UUID taskId);
+    Optional<TaskImportEntity> getImportProgress(String importId);
+    TaskImportEntity importChunk(String importId, List<TaskEntity> tasks, long position, long rejected, boolean completed);
+    int archiveTasks(LocalDateTime finishedBefore, int limit);
+    TaskChangePage getChanges(String since, int limit);
+    int purgeTombstones(LocalDateTime deletedBefore);
+    TaskBatchOutcome batchWrite(List<TaskEntity> creates, Map<UUID, TaskEntity> updates, Collection<UUID> deletes);
 }
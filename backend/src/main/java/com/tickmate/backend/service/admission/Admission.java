@@ -0,0 +1,13 @@
+package com.tickmate.backend.service.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Puts a controller method behind the AdmissionLimiter; methods without it (the change stream) are not limited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Admission {
+    AdmissionClass value();
+}
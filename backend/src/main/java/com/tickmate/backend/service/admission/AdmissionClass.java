@@ -0,0 +1,29 @@
+package com.tickmate.backend.service.admission;
+
+// Cost classes in priority order: when the adaptive limit shrinks, later classes are shed first
+public enum AdmissionClass {
+    // Point reads answered from caches or by primary key
+    READ(1.0, true),
+    WRITE(0.9, true),
+    // List queries: filtered scans, text search, counts
+    SEARCH(0.75, true),
+    // Exports, imports and batches; they run for seconds, so their latency is not fed to the adaptive limit
+    BULK(0.5, false);
+
+    private final double share;
+    private final boolean sampled;
+
+    AdmissionClass(double share, boolean sampled) {
+        this.share = share;
+        this.sampled = sampled;
+    }
+
+    // Fraction of the adaptive limit this class may fill
+    public double share() {
+        return share;
+    }
+
+    public boolean sampled() {
+        return sampled;
+    }
+}
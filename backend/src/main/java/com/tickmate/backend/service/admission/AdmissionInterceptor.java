@@ -0,0 +1,64 @@
+package com.tickmate.backend.service.admission;
+
+import com.tickmate.backend.exception.ServiceOverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Takes an {@link AdmissionLimiter} permit before an {@link Admission} endpoint runs and returns it when the
+ * request completes. Streamed responses keep their permit across the async dispatch, so a running export
+ * counts against the bulk limit until its last byte is written.
+ */
+@Component
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    private final AdmissionLimiter admissionLimiter;
+    private final Duration retryAfter;
+
+    public AdmissionInterceptor(AdmissionLimiter admissionLimiter,
+                                @Value("${tickmate.admission.retry-after:1s}") Duration retryAfter) {
+        this.admissionLimiter = admissionLimiter;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        Admission admission = handlerMethod.getMethodAnnotation(Admission.class);
+        if (admission == null) {
+            return true;
+        }
+
+        if (!admissionLimiter.tryAcquire(admission.value())) {
+            throw new ServiceOverloadedException("Too many " + admission.value().name().toLowerCase()
+                    + " requests in progress, retry later", retryAfter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(admission.value(), System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The permit stays in the request attributes until the async dispatch completes
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            admissionLimiter.release(permit.admissionClass(), System.nanoTime() - permit.startedAt());
+        }
+    }
+
+    private record Permit(AdmissionClass admissionClass, long startedAt) {
+    }
+}
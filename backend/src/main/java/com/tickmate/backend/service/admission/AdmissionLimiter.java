@@ -0,0 +1,208 @@
+package com.tickmate.backend.service.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limits in front of the task API.
+ * One adaptive limit covers all requests that reach the database and follows its latency: the
+ * long-run average latency is compared with the recent one, and when recent requests get slower
+ * the limit shrinks (gradient), otherwise it grows by about its square root. Each
+ * {@link AdmissionClass} may fill only its share of that limit and never more than its own fixed
+ * cap, so expensive classes are shed first. A request that does not fit waits in a short queue,
+ * behind any higher-priority request waiting for the same shared limit, and is rejected when the
+ * queue is full or its wait times out. A waiter holds its request thread, so the queue, shared by
+ * all classes, is kept to a fraction of Tomcat's threads. Rejected callers get a 503 instead of
+ * piling up in Tomcat.
+ */
+@Component
+public class AdmissionLimiter {
+    private static final AdmissionClass[] CLASSES = AdmissionClass.values();
+    private static final double LONG_WINDOW = 600;
+    private static final double SHORT_WINDOW = 10;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final long queueTimeoutNanos;
+    private final Map<AdmissionClass, Integer> maxConcurrency = new EnumMap<>(AdmissionClass.class);
+    private final Map<AdmissionClass, Counter> rejected = new EnumMap<>(AdmissionClass.class);
+    private final Map<AdmissionClass, Counter> queued = new EnumMap<>(AdmissionClass.class);
+
+    // Lock rather than synchronized so waiting virtual threads never pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int[] inFlight = new int[CLASSES.length];
+    private final int[] waiting = new int[CLASSES.length];
+    private int totalInFlight;
+    private int totalWaiting;
+    private volatile double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    public AdmissionLimiter(MeterRegistry meterRegistry,
+                            @Value("${tickmate.admission.enabled:true}") boolean enabled,
+                            @Value("${tickmate.admission.initial-limit:20}") int initialLimit,
+                            @Value("${tickmate.admission.min-limit:4}") int minLimit,
+                            @Value("${tickmate.admission.max-limit:200}") int maxLimit,
+                            @Value("${tickmate.admission.queue.size:50}") int queueSize,
+                            @Value("${tickmate.admission.queue.timeout:200ms}") Duration queueTimeout,
+                            @Value("${server.tomcat.threads.max:200}") int serverThreads,
+                            @Value("${tickmate.admission.max-concurrency.read:200}") int readConcurrency,
+                            @Value("${tickmate.admission.max-concurrency.write:100}") int writeConcurrency,
+                            @Value("${tickmate.admission.max-concurrency.search:50}") int searchConcurrency,
+                            @Value("${tickmate.admission.max-concurrency.bulk:4}") int bulkConcurrency) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        // At most a quarter of the request threads may wait, so the rest stay free for admitted and rejected requests
+        this.queueSize = Math.min(queueSize, Math.max(1, serverThreads / 4));
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+
+        maxConcurrency.put(AdmissionClass.READ, readConcurrency);
+        maxConcurrency.put(AdmissionClass.WRITE, writeConcurrency);
+        maxConcurrency.put(AdmissionClass.SEARCH, searchConcurrency);
+        maxConcurrency.put(AdmissionClass.BULK, bulkConcurrency);
+
+        Gauge.builder("tickmate.admission.limit", this, limiter -> limiter.limit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        for (AdmissionClass admissionClass : CLASSES) {
+            String tag = admissionClass.name().toLowerCase();
+            rejected.put(admissionClass, Counter.builder("tickmate.admission.rejected")
+                    .description("Requests rejected with 503")
+                    .tag("class", tag)
+                    .register(meterRegistry));
+            queued.put(admissionClass, Counter.builder("tickmate.admission.queued")
+                    .description("Requests that had to wait for a permit")
+                    .tag("class", tag)
+                    .register(meterRegistry));
+            Gauge.builder("tickmate.admission.queue.depth", waiting, counts -> counts[admissionClass.ordinal()])
+                    .description("Requests currently waiting for a permit")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("tickmate.admission.in.flight", inFlight, counts -> counts[admissionClass.ordinal()])
+                    .description("Requests currently holding a permit")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    // True when the caller holds a permit and must call release once it is done
+    public boolean tryAcquire(AdmissionClass admissionClass) {
+        if (!enabled) {
+            return true;
+        }
+
+        int index = admissionClass.ordinal();
+        lock.lock();
+        try {
+            if (admits(admissionClass)) {
+                take(index);
+                return true;
+            }
+            if (totalWaiting >= queueSize || queueTimeoutNanos <= 0) {
+                rejected.get(admissionClass).increment();
+                return false;
+            }
+
+            waiting[index]++;
+            totalWaiting++;
+            queued.get(admissionClass).increment();
+            try {
+                long remaining = queueTimeoutNanos;
+                while (!admits(admissionClass)) {
+                    if (remaining <= 0) {
+                        rejected.get(admissionClass).increment();
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                rejected.get(admissionClass).increment();
+                return false;
+            } finally {
+                waiting[index]--;
+                totalWaiting--;
+            }
+
+            take(index);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(AdmissionClass admissionClass, long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            inFlight[admissionClass.ordinal()]--;
+            totalInFlight--;
+            if (admissionClass.sampled()) {
+                sample(latencyNanos);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    private boolean admits(AdmissionClass admissionClass) {
+        // Higher-priority waiters go first, but only those waiting for the shared limit: one held back by its own
+        // class cap does not hold back the classes after it
+        for (int i = 0; i < admissionClass.ordinal(); i++) {
+            if (waiting[i] > 0 && inFlight[i] < maxConcurrency.get(CLASSES[i])) {
+                return false;
+            }
+        }
+        int classLimit = Math.max(1, (int) (limit * admissionClass.share()));
+        return inFlight[admissionClass.ordinal()] < maxConcurrency.get(admissionClass)
+                && totalInFlight < classLimit;
+    }
+
+    private void take(int index) {
+        inFlight[index]++;
+        totalInFlight++;
+    }
+
+    private void sample(long latencyNanos) {
+        double rtt = Math.max(1, latencyNanos);
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / LONG_WINDOW;
+        shortRtt = shortRtt == 0 ? rtt : shortRtt + (rtt - shortRtt) / SHORT_WINDOW;
+
+        // After latency has recovered, let the baseline follow quickly rather than over LONG_WINDOW samples
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        // Only grow a limit that is actually being used
+        if (target > limit && totalInFlight < limit / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+}
@@ -0,0 +1,70 @@
+package com.tickmate.backend.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Bounded read-through cache in front of TaskRepository.findById, evicted on every committed write
+@Component
+public class TaskCache {
+    private final Cache<UUID, TaskEntity> cache;
+    private final TaskCacheInvalidationBus invalidationBus;
+    private final boolean enabled;
+
+    public TaskCache(TaskCacheInvalidationBus invalidationBus,
+                     @Value("${tickmate.cache.task.enabled:true}") boolean enabled,
+                     @Value("${tickmate.cache.task.max-size:10000}") long maxSize,
+                     @Value("${tickmate.cache.task.ttl:5m}") Duration ttl) {
+        this.invalidationBus = invalidationBus;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<TaskEntity> get(UUID taskId, Function<UUID, Optional<TaskEntity>> loader) {
+        if (!enabled) {
+            return loader.apply(taskId);
+        }
+        // Misses are not cached, so a task created on another replica shows up immediately
+        return Optional.ofNullable(cache.get(taskId, id -> loader.apply(id).orElse(null)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        evictLocal(event.taskId());
+        invalidationBus.publish(event.taskId());
+    }
+
+    public void evictLocal(UUID taskId) {
+        cache.invalidate(taskId);
+    }
+
+    public void evictAllLocal() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
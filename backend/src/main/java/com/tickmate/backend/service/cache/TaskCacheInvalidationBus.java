@@ -0,0 +1,13 @@
+package com.tickmate.backend.service.cache;
+
+import java.util.UUID;
+
+/**
+ * Hook for keeping the task cache coherent across backend replicas. Local evictions are
+ * announced through {@link #publish(UUID)}; an implementation that receives an announcement
+ * from another replica should call {@link TaskCache#evictLocal(UUID)} and
+ * {@link com.tickmate.backend.service.version.TaskChangeVersion#bump()}.
+ */
+public interface TaskCacheInvalidationBus {
+    void publish(UUID taskId);
+}
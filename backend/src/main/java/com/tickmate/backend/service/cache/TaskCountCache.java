@@ -0,0 +1,45 @@
+package com.tickmate.backend.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Short-lived COUNT results per filter for approximate list totals; not evicted on writes, only expired
+@Component
+public class TaskCountCache {
+    private final Cache<Key, Long> cache;
+
+    public TaskCountCache(@Value("${tickmate.cache.task-count.max-size:1000}") long maxSize,
+                          @Value("${tickmate.cache.task-count.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long get(String query,
+                    List<TaskEntity.Status> status,
+                    List<TaskEntity.Priority> priority,
+                    Supplier<Long> loader) {
+        return cache.get(Key.of(query, status, priority), key -> loader.get());
+    }
+
+    // Filters are normalised so "?status=A,B" and "?status=B,A" share an entry
+    private record Key(String query, Set<TaskEntity.Status> status, Set<TaskEntity.Priority> priority) {
+        static Key of(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority) {
+            return new Key(
+                    query != null ? query.toLowerCase() : null,
+                    status != null && !status.isEmpty() ? EnumSet.copyOf(status) : EnumSet.noneOf(TaskEntity.Status.class),
+                    priority != null && !priority.isEmpty() ? EnumSet.copyOf(priority) : EnumSet.noneOf(TaskEntity.Priority.class)
+            );
+        }
+    }
+}
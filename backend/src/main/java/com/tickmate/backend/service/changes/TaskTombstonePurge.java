@@ -0,0 +1,42 @@
+package com.tickmate.backend.service.changes;
+
+import com.tickmate.backend.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Drops change-feed tombstones older than {@code tickmate.changes.tombstone-retention}, the age after which change
+ * tokens stop being accepted, so the tombstones stay proportional to recent deletions. A tombstone is kept a
+ * grace period longer than the tokens, for deletions that were still committing when a token was issued.
+ */
+@Component
+public class TaskTombstonePurge {
+    private static final Logger log = LoggerFactory.getLogger(TaskTombstonePurge.class);
+    private static final Duration GRACE = Duration.ofHours(1);
+
+    private final TaskService taskService;
+    private final Duration retention;
+
+    public TaskTombstonePurge(TaskService taskService,
+                              @Value("${tickmate.changes.tombstone-retention:30d}") Duration retention) {
+        this.taskService = taskService;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${tickmate.changes.purge-interval:1h}",
+            initialDelayString = "${tickmate.changes.purge-interval:1h}")
+    public int run() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention).minus(GRACE);
+        int purged = taskService.purgeTombstones(deletedBefore);
+        if (purged > 0) {
+            log.info("Purged {} task tombstones older than {}", purged, deletedBefore);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,15 @@
+package com.tickmate.backend.service.deadline;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A deadline of an open task that has been reached; also published as an application event by TaskDeadlineEventSink
+public record TaskDeadline(Kind kind, UUID taskId, LocalDateTime dueDate) {
+
+    public enum Kind {
+        // The task falls due within the configured lead time
+        DUE_SOON,
+        // The task's dueDate has passed while it was still open
+        OVERDUE
+    }
+}
@@ -0,0 +1,19 @@
+package com.tickmate.backend.service.deadline;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Default sink: republishes each deadline as an application event for @EventListener(TaskDeadline) methods
+@Component
+@ConditionalOnProperty(name = "tickmate.deadlines.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TaskDeadlineEventSink implements TaskDeadlineSink {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void deadlineReached(TaskDeadline deadline) {
+        eventPublisher.publishEvent(deadline);
+    }
+}
@@ -0,0 +1,297 @@
+package com.tickmate.backend.service.deadline;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import com.tickmate.backend.domain.pagination.TaskCursor;
+import com.tickmate.backend.service.TaskScanSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fires {@link TaskDeadline}s for open tasks with a dueDate from a {@link TimingWheel} instead of polling the table.
+ * <p>
+ * Only tasks due before a moving horizon are held: at start and then every load interval the horizon is pushed to
+ * now + window + due-soon lead and the tasks due in between are loaded in (dueDate, id) chunks. Committed writes
+ * keep the held timers current: a new dueDate or status replaces a task's timers, completion and deletion drop them,
+ * and a task moved beyond the horizon is left for the load that reaches it. Each held task has an OVERDUE timer at
+ * its dueDate and a DUE_SOON timer the lead time before it. Deadlines that pass while the application is down, and
+ * dueDates that are already past when written, are not reported.
+ * <p>
+ * The wheel advances on a thread of its own, so a long @Scheduled job never delays a deadline by more than a tick.
+ */
+@Component
+@ConditionalOnProperty(name = "tickmate.deadlines.enabled", havingValue = "true")
+public class TaskDeadlineScheduler {
+    private static final Logger log = LoggerFactory.getLogger(TaskDeadlineScheduler.class);
+    private static final Set<TaskEntity.Status> OPEN = Set.of(TaskEntity.Status.PENDING, TaskEntity.Status.IN_PROGRESS);
+    // 512^3 one-second ticks is several years, far beyond any window
+    private static final int WHEEL_SIZE = 512;
+    private static final int LEVELS = 3;
+
+    private final TaskScanSource taskScanSource;
+    private final List<TaskDeadlineSink> sinks;
+    private final long tickMillis;
+    private final long dueSoonMillis;
+    private final long windowMillis;
+    private final int loadBatchSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Map<TaskDeadline.Kind, Counter> fired = new EnumMap<>(TaskDeadline.Kind.class);
+
+    // Lock rather than synchronized so writers on virtual threads never pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Held> held = new HashMap<>();
+    private TimingWheel<TaskDeadline> wheel;
+    // Tasks due before this instant are held
+    private long horizon;
+    // Tasks written while a load runs; the load's copy of them may already be stale
+    private Set<UUID> writtenDuringLoad;
+    private ScheduledExecutorService ticker;
+
+    private record Held(LocalDateTime dueDate,
+                        TimingWheel.Timeout<TaskDeadline> dueSoon,
+                        TimingWheel.Timeout<TaskDeadline> overdue) {
+    }
+
+    public TaskDeadlineScheduler(TaskScanSource taskScanSource,
+                                 List<TaskDeadlineSink> sinks,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${tickmate.deadlines.tick:1s}") Duration tick,
+                                 @Value("${tickmate.deadlines.due-soon:1h}") Duration dueSoon,
+                                 @Value("${tickmate.deadlines.window:6h}") Duration window,
+                                 @Value("${tickmate.deadlines.load-batch-size:1000}") int loadBatchSize) {
+        this.taskScanSource = taskScanSource;
+        this.sinks = sinks;
+        this.tickMillis = tick.toMillis();
+        this.dueSoonMillis = dueSoon.toMillis();
+        this.windowMillis = window.toMillis();
+        this.loadBatchSize = loadBatchSize;
+
+        for (TaskDeadline.Kind kind : TaskDeadline.Kind.values()) {
+            fired.put(kind, Counter.builder("tickmate.deadlines.fired")
+                    .description("Task deadlines handed to the sinks")
+                    .tag("kind", kind.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("tickmate.deadlines.pending", this, TaskDeadlineScheduler::pending)
+                .description("Deadline timers waiting in the timing wheel")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        long now = System.currentTimeMillis();
+        wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, LEVELS, now);
+        horizon = now;
+        load(now);
+        ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("task-deadlines").daemon().factory());
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickmate.deadlines.load-interval:1m}")
+    public void loadNextWindow() {
+        load(System.currentTimeMillis());
+    }
+
+    // A failed tick must not cancel the ones after it
+    private void tick() {
+        try {
+            tick(System.currentTimeMillis());
+        } catch (RuntimeException ex) {
+            log.warn("Task deadline tick failed", ex);
+        }
+    }
+
+    // Pushes the horizon to now + window + lead and holds the tasks due up to it; returns how many were loaded
+    public int load(long now) {
+        long from;
+        long until = now + windowMillis + dueSoonMillis;
+        lock.lock();
+        try {
+            if (until <= horizon || writtenDuringLoad != null) {
+                return 0;
+            }
+            from = horizon;
+            // Writes from here on already see the new horizon and hold the tasks themselves
+            horizon = until;
+            writtenDuringLoad = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+
+        int loaded = 0;
+        try {
+            TaskCursor after = null;
+            while (true) {
+                List<TaskEntity> batch = taskScanSource.scrollOpenTasksDue(dateTime(from), dateTime(until), after, loadBatchSize);
+                lock.lock();
+                try {
+                    for (TaskEntity task : batch) {
+                        if (!writtenDuringLoad.contains(task.getId()) && !held.containsKey(task.getId())) {
+                            hold(task, now, false);
+                            loaded++;
+                        }
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (batch.size() < loadBatchSize) {
+                    break;
+                }
+                after = TaskCursor.after(batch.getLast(), "dueDate", Sort.Direction.ASC);
+            }
+        } catch (RuntimeException ex) {
+            lock.lock();
+            try {
+                // The next load starts over from here; what is held already is skipped then
+                horizon = from;
+            } finally {
+                lock.unlock();
+            }
+            throw ex;
+        } finally {
+            lock.lock();
+            try {
+                writtenDuringLoad = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+        log.debug("Loaded {} task deadlines up to {}", loaded, dateTime(until));
+        return loaded;
+    }
+
+    // Fires what is due by now; the sinks run after the lock is released
+    public int tick(long now) {
+        List<TaskDeadline> due = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(now, deadline -> {
+                due.add(deadline);
+                if (deadline.kind() == TaskDeadline.Kind.OVERDUE) {
+                    held.remove(deadline.taskId());
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+
+        for (TaskDeadline deadline : due) {
+            fired.get(deadline.kind()).increment();
+            for (TaskDeadlineSink sink : sinks) {
+                try {
+                    sink.deadlineReached(deadline);
+                } catch (RuntimeException ex) {
+                    log.warn("Task deadline sink {} failed for {}", sink.getClass().getSimpleName(), deadline, ex);
+                }
+            }
+        }
+        return due.size();
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        long now = System.currentTimeMillis();
+        TaskEntity task = event.task();
+        lock.lock();
+        try {
+            if (writtenDuringLoad != null) {
+                writtenDuringLoad.add(event.taskId());
+            }
+            Held current = held.get(event.taskId());
+            boolean holds = task != null
+                    && OPEN.contains(task.getStatus())
+                    && task.getDueDate() != null
+                    && millis(task.getDueDate()) < horizon;
+            if (current != null && holds && current.dueDate().equals(task.getDueDate())) {
+                // Still open and due at the same time: the timers stand
+                return;
+            }
+            if (current != null) {
+                release(event.taskId(), current);
+            }
+            if (holds) {
+                hold(task, now, true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int pending() {
+        lock.lock();
+        try {
+            return wheel == null ? 0 : wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A task written when it is already due soon gets its DUE_SOON on the next tick; one loaded then does not,
+    // so a restart does not repeat it. Tasks already overdue are never held.
+    private void hold(TaskEntity task, long now, boolean written) {
+        long due = millis(task.getDueDate());
+        if (due <= now) {
+            return;
+        }
+        TimingWheel.Timeout<TaskDeadline> dueSoon = null;
+        if (due - dueSoonMillis > now || written) {
+            dueSoon = wheel.schedule(Math.max(due - dueSoonMillis, now),
+                    new TaskDeadline(TaskDeadline.Kind.DUE_SOON, task.getId(), task.getDueDate()));
+        }
+        TimingWheel.Timeout<TaskDeadline> overdue = wheel.schedule(due,
+                new TaskDeadline(TaskDeadline.Kind.OVERDUE, task.getId(), task.getDueDate()));
+        held.put(task.getId(), new Held(task.getDueDate(), dueSoon, overdue));
+    }
+
+    private void release(UUID taskId, Held current) {
+        if (current.dueSoon() != null) {
+            wheel.cancel(current.dueSoon());
+        }
+        wheel.cancel(current.overdue());
+        held.remove(taskId);
+    }
+
+    private long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime dateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tickmate.backend.service.deadline;
+
+// Receives the deadlines TaskDeadlineScheduler fires. Every bean implementing it is called, one after another on the
+// scheduler's tick thread, so an implementation that does slow work should hand it off.
+public interface TaskDeadlineSink {
+    void deadlineReached(TaskDeadline deadline);
+}
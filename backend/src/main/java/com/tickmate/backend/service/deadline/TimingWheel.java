@@ -0,0 +1,161 @@
+package com.tickmate.backend.service.deadline;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: {@code levels} wheels of {@code wheelSize} slots, where a slot of level 0 spans one
+ * tick and a slot of level n spans {@code wheelSize^n} ticks. A timeout goes into the lowest level whose range
+ * reaches its deadline; when time enters a higher-level slot, its timeouts are redistributed to the levels below,
+ * so each one is moved at most {@code levels - 1} times before it fires. Slots are doubly linked lists, so both
+ * {@link #schedule} and {@link #cancel} are O(1) whatever the number of pending timeouts. Deadlines beyond the top
+ * level wait in its farthest slot and are redistributed from there.
+ * <p>
+ * Timeouts fire on the first {@link #advance} at or after their deadline, never before it. Not thread-safe.
+ */
+public final class TimingWheel<T> {
+    private static final int NONE = -1;
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    // levels * wheelSize slots, then the list of timeouts already due
+    private final Timeout<T>[] heads;
+    private final int dueSlot;
+
+    private long currentTick;
+    private int size;
+
+    public static final class Timeout<T> {
+        private final long deadlineTick;
+        private final T payload;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int slot = NONE;
+
+        private Timeout(long deadlineTick, T payload) {
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public boolean isPending() {
+            return slot != NONE;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1 || levels < 1 || (long) Integer.numberOfTrailingZeros(wheelSize) * levels > 62) {
+            throw new IllegalArgumentException("wheelSize must be a power of two and wheelSize^levels fit in a long");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.heads = new Timeout[levels * wheelSize + 1];
+        this.dueSlot = levels * wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    public Timeout<T> schedule(long deadlineMillis, T payload) {
+        // Rounded up, so a timeout never fires before its deadline
+        Timeout<T> timeout = new Timeout<>(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), payload);
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    // False when the timeout already fired or was cancelled
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot == NONE) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    // Moves time forward to nowMillis and hands every timeout due by then to expired, in tick order
+    public void advance(long nowMillis, Consumer<? super T> expired) {
+        fire(dueSlot, expired);
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < target) {
+            currentTick++;
+            // Top-down, so timeouts moved out of a higher level can land in a slot of a lower level entered now
+            for (int level = levels - 1; level > 0; level--) {
+                int shift = bits * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    int slot = level * (mask + 1) + (int) ((currentTick >>> shift) & mask);
+                    Timeout<T> timeout;
+                    while ((timeout = heads[slot]) != null) {
+                        unlink(timeout);
+                        insert(timeout);
+                    }
+                }
+            }
+            fire((int) (currentTick & mask), expired);
+            fire(dueSlot, expired);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void insert(Timeout<T> timeout) {
+        long deadline = timeout.deadlineTick;
+        if (deadline <= currentTick) {
+            link(timeout, dueSlot);
+            return;
+        }
+        for (int level = 0; level < levels; level++) {
+            int shift = bits * level;
+            long slot = deadline >>> shift;
+            if (slot - (currentTick >>> shift) <= mask) {
+                link(timeout, level * (mask + 1) + (int) (slot & mask));
+                return;
+            }
+        }
+        int top = levels - 1;
+        link(timeout, top * (mask + 1) + (int) (((currentTick >>> (bits * top)) + mask) & mask));
+    }
+
+    // One at a time, so a callback can still cancel a timeout of the same slot
+    private void fire(int slot, Consumer<? super T> expired) {
+        Timeout<T> timeout;
+        while ((timeout = heads[slot]) != null) {
+            unlink(timeout);
+            size--;
+            expired.accept(timeout.payload);
+        }
+    }
+
+    private void link(Timeout<T> timeout, int slot) {
+        Timeout<T> first = heads[slot];
+        timeout.next = first;
+        timeout.prev = null;
+        if (first != null) {
+            first.prev = timeout;
+        }
+        heads[slot] = timeout;
+        timeout.slot = slot;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            heads[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.slot = NONE;
+    }
+}
@@ -0,0 +1,55 @@
+package com.tickmate.backend.service.export;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum TaskExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TaskExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    // An explicit ?format= wins over the Accept header; NDJSON is the default
+    public static TaskExportFormat negotiate(String format, List<MediaType> accept) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> supported = Arrays.stream(values()).map(TaskExportFormat::mediaType).toList();
+
+        if (format != null && !format.isBlank()) {
+            return Arrays.stream(values())
+                    .filter(candidate -> candidate.extension.equalsIgnoreCase(format.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new HttpMediaTypeNotAcceptableException(supported));
+        }
+        if (accept == null || accept.isEmpty()) {
+            return NDJSON;
+        }
+
+        List<MediaType> ordered = accept.stream()
+                .sorted((a, b) -> Double.compare(b.getQualityValue(), a.getQualityValue()))
+                .toList();
+        for (MediaType requested : ordered) {
+            for (TaskExportFormat candidate : values()) {
+                if (requested.isCompatibleWith(candidate.mediaType)) {
+                    return candidate;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(supported);
+    }
+}
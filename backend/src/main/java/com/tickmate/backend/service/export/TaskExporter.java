@@ -0,0 +1,103 @@
+package com.tickmate.backend.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Writes each row to the response as soon as it is read; nothing is collected in memory
+@Component
+@RequiredArgsConstructor
+public class TaskExporter {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String CSV_HEADER = "id,title,description,status,priority,dueDate,completedAt,createdAt,updatedAt";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+
+    public long export(TaskExportFormat format,
+                       List<TaskEntity.Status> status,
+                       List<TaskEntity.Priority> priority,
+                       OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> exportNdjson(status, priority, out);
+            case CSV -> exportCsv(status, priority, out);
+        };
+    }
+
+    private long exportNdjson(List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, OutputStream out) throws IOException {
+        // Flushing per value would turn every row into a socket write
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // The container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            long rows = taskService.exportTasks(status, priority, task -> {
+                writer.writeValue(generator, task);
+                generator.writeRaw('\n');
+            });
+            generator.flush();
+            return rows;
+        }
+    }
+
+    private long exportCsv(List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long rows = taskService.exportTasks(status, priority, task -> {
+            writer.write(task.getId().toString());
+            writer.write(',');
+            writer.write(csv(task.getTitle()));
+            writer.write(',');
+            writer.write(csv(task.getDescription()));
+            writer.write(',');
+            writer.write(task.getStatus().name());
+            writer.write(',');
+            writer.write(task.getPriority().name());
+            writer.write(',');
+            writer.write(date(task.getDueDate()));
+            writer.write(',');
+            writer.write(date(task.getCompletedAt()));
+            writer.write(',');
+            writer.write(date(task.getCreatedAt()));
+            writer.write(',');
+            writer.write(date(task.getUpdatedAt()));
+            writer.write('\n');
+        });
+        writer.flush();
+        return rows;
+    }
+
+    // RFC 4180 quoting: only fields containing a separator, quote or line break are quoted
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String date(LocalDateTime value) {
+        return value != null ? DATE_FORMAT.format(value) : "";
+    }
+}
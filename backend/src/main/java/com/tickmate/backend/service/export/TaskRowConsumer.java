@@ -0,0 +1,10 @@
+package com.tickmate.backend.service.export;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface TaskRowConsumer {
+    void accept(TaskEntity task) throws IOException;
+}
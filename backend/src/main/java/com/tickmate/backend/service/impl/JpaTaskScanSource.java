@@ -0,0 +1,64 @@
+package com.tickmate.backend.service.impl;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.pagination.TaskCursor;
+import com.tickmate.backend.domain.stats.TaskCountRow;
+import com.tickmate.backend.domain.stats.TaskDueCountRow;
+import com.tickmate.backend.repository.TaskRepository;
+import com.tickmate.backend.service.TaskScanSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "tickmate.storage.engine", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaTaskScanSource implements TaskScanSource {
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public List<TaskCountRow> countTasks() {
+        return taskRepository.countTasks();
+    }
+
+    @Override
+    public List<TaskDueCountRow> countOpenTasksDueBefore(LocalDateTime before) {
+        return taskRepository.countOpenTasksDueBefore(before);
+    }
+
+    @Override
+    public List<TaskDueCountRow> countOpenTasksDue(LocalDateTime from, LocalDateTime to) {
+        return taskRepository.countOpenTasksDue(from, to);
+    }
+
+    @Override
+    public List<TaskEntity> scrollTasks(TaskCursor after, int limit) {
+        return taskRepository.scrollTasks(null, null, null, "createdAt", Sort.Direction.ASC, after, limit);
+    }
+
+    @Override
+    public List<TaskEntity> scrollOpenTasksDue(LocalDateTime from, LocalDateTime to, TaskCursor after, int limit) {
+        return after == null
+                ? taskRepository.findOpenTasksDue(from, to, Limit.of(limit))
+                : taskRepository.findOpenTasksDueAfter(after.value(), after.id(), to, Limit.of(limit));
+    }
+
+    // PostgreSQL with the pg_trgm index of data-postgresql.sql, which serves the LIKE and relevance queries
+    @Override
+    public boolean indexesTitles() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof PostgreSQLDialect
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT to_regclass('idx_tasks_title_trgm') IS NOT NULL", Boolean.class));
+    }
+}
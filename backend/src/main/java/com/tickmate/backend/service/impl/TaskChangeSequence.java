@@ -0,0 +1,174 @@
+package com.tickmate.backend.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out change-feed positions from the {@code task_change_seq} database sequence, one per transaction: every
+ * task the transaction writes and every tombstone it leaves shares it.
+ * <p>
+ * Positions are taken in order but committed in any order, so a feed read must not hand out a position while a
+ * lower one may still commit. This instance tracks the positions of its own open transactions and caps reads
+ * below the lowest. The database round trip runs outside the lock. While it is under way the position it will
+ * return is only known to be above every position registered before it started, and reads are capped below that
+ * floor instead.
+ * <p>
+ * On PostgreSQL the writes of every instance are seen: the statement that takes a position first holds a
+ * transaction-scoped advisory lock keyed by its floor (one above the last position taken), which every session sees
+ * in pg_locks until the transaction ends. A read reads the last position taken, then caps below the lowest floor
+ * still held. A writer that was not holding its floor yet takes a position above the last one read. The sequence must
+ * not be cached (CACHE 1, as data.sql creates it), and nothing else may take bigint advisory locks on the database.
+ * Other databases only see this instance's transactions, which is all the embedded one can have.
+ */
+@Component
+@ConditionalOnProperty(name = "tickmate.storage.engine", havingValue = "jpa", matchIfMissing = true)
+public class TaskChangeSequence {
+    // Holds the floor, then takes the position: the materialized CTE runs before nextval
+    private static final String SHARED_NEXT_VALUE = """
+            WITH floor AS MATERIALIZED (
+              SELECT pg_advisory_xact_lock_shared(taken + 1) AS held
+              FROM (SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END AS taken FROM task_change_seq) seq
+            )
+            SELECT nextval('task_change_seq') FROM floor""";
+    // Reads the last position taken, then the floors held at or below it: the subquery depends on that row
+    private static final String SHARED_BOUND = """
+            SELECT LEAST(seq.taken, (
+              SELECT MIN((l.classid::bigint << 32) | l.objid::bigint) - 1 FROM pg_locks l
+              WHERE l.locktype = 'advisory' AND l.objsubid = 1
+                AND l.database = (SELECT oid FROM pg_database WHERE datname = current_database())
+                AND ((l.classid::bigint << 32) | l.objid::bigint) <= seq.taken
+            ))
+            FROM (SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END AS taken
+                  FROM task_change_seq OFFSET 0) seq""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValue;
+    private final boolean shared;
+
+    // Lock rather than synchronized so writers on virtual threads never pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+    // Floors of the nextval round trips under way, with how many share each
+    private final NavigableMap<Long, Integer> fetching = new TreeMap<>();
+    private long lastTaken;
+
+    public TaskChangeSequence(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.jdbcTemplate = jdbcTemplate;
+        this.shared = dialect instanceof PostgreSQLDialect;
+        this.nextValue = shared
+                ? SHARED_NEXT_VALUE
+                : dialect.getSequenceSupport().getSequenceNextValString("task_change_seq");
+    }
+
+    // The current transaction's position, taken on first use and released when the transaction completes
+    public long current() {
+        Long bound = (Long) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change positions are only taken inside a transaction");
+        }
+
+        // The sequence returns more than any value handed out before the call, so more than anything registered yet
+        long floor;
+        lock.lock();
+        try {
+            floor = lastTaken + 1;
+            fetching.merge(floor, 1, Integer::sum);
+        } finally {
+            lock.unlock();
+        }
+
+        Long fetched = null;
+        try {
+            fetched = jdbcTemplate.queryForObject(nextValue, Long.class);
+        } finally {
+            lock.lock();
+            try {
+                fetching.computeIfPresent(floor, (key, count) -> count == 1 ? null : count - 1);
+                if (fetched != null) {
+                    inFlight.add(fetched);
+                    lastTaken = Math.max(lastTaken, fetched);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        long seq = fetched;
+
+        TransactionSynchronizationManager.bindResource(this, seq);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeSequence.this);
+                lock.lock();
+                try {
+                    inFlight.remove(seq);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+        return seq;
+    }
+
+    // Opens a feed read; its rows are only handed out up to read.upTo() once the read is done. Its queries must run
+    // after this, outside a transaction, so they see every write that finished below the bound.
+    public Read read() {
+        long bound;
+        long takenBefore;
+        lock.lock();
+        try {
+            long lowest = Math.min(inFlight.isEmpty() ? Long.MAX_VALUE : inFlight.first(),
+                    fetching.isEmpty() ? Long.MAX_VALUE : fetching.firstKey());
+            bound = lowest == Long.MAX_VALUE ? Long.MAX_VALUE : lowest - 1;
+            takenBefore = lastTaken;
+        } finally {
+            lock.unlock();
+        }
+        if (shared) {
+            bound = Math.min(bound, jdbcTemplate.queryForObject(SHARED_BOUND, Long.class));
+        }
+        return new Read(bound, takenBefore);
+    }
+
+    public final class Read {
+        private final long bound;
+        private final long takenBefore;
+
+        private Read(long bound, long takenBefore) {
+            this.bound = bound;
+            this.takenBefore = takenBefore;
+        }
+
+        // Upper bound for the queries of the read
+        public long bound() {
+            return bound;
+        }
+
+        // Positions taken while the read ran may commit after a higher one it already saw, so then it stops before them
+        public long upTo() {
+            lock.lock();
+            try {
+                return lastTaken == takenBefore ? bound : Math.min(bound, takenBefore);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,128 +1,574 @@
 package com.tickmate.backend.service.impl;
 
+import com.tickmate.backend.domain.batch.TaskBatchOutcome;
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.entity.TaskArchiveEntity;
 import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.entity.TaskImportEntity;
+import com.tickmate.backend.domain.entity.TaskTombstoneEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import com.tickmate.backend.domain.pagination.CursorPage;
+import com.tickmate.backend.domain.pagination.TaskChangePage;
+import com.tickmate.backend.domain.projection.TaskField;
 import com.tickmate.backend.exception.TaskNotFoundException;
+import com.tickmate.backend.repository.TaskArchiveRepository;
+import com.tickmate.backend.repository.TaskImportRepository;
 import com.tickmate.backend.repository.TaskRepository;
+import com.tickmate.backend.repository.TaskTombstoneRepository;
+import com.tickmate.backend.service.TaskChangeFeed;
+import com.tickmate.backend.service.TaskChanges;
+import com.tickmate.backend.service.TaskCursorPaging;
 import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.cache.TaskCache;
+import com.tickmate.backend.service.cache.TaskCountCache;
+import com.tickmate.backend.service.metrics.TaskMetrics;
+import com.tickmate.backend.service.routing.ReplicaReads;
+import com.tickmate.backend.service.export.TaskRowConsumer;
+import com.tickmate.backend.service.search.SearchHit;
+import com.tickmate.backend.service.search.TaskSearchIndex;
+import com.tickmate.backend.service.stats.TaskStatistics;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
+@ConditionalOnProperty(name = "tickmate.storage.engine", havingValue = "jpa", matchIfMissing = true)
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
+    private final TaskImportRepository taskImportRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskChangeSequence taskChangeSequence;
+    private final ReplicaReads replicaReads;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskCache taskCache;
+    private final TaskMetrics taskMetrics;
+    private final TaskStatistics taskStatistics;
+    private final TaskCountCache taskCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${tickmate.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    @Value("${tickmate.changes.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Value("${tickmate.search.index.max-sorted-hits:1000}")
+    private int maxSortedHits;
 
     @Override
+    @Transactional
     public TaskEntity createTask(TaskEntity taskRequest) {
-        TaskEntity task = TaskEntity.builder()
-                .title(taskRequest.getTitle())
-                .description(taskRequest.getDescription())
-                .status(
-                        taskRequest.getStatus() != null
-                                ? taskRequest.getStatus()
-                                : TaskEntity.Status.PENDING
-                )
-                .priority(
-                        taskRequest.getPriority() != null
-                                ? taskRequest.getPriority()
-                                : TaskEntity.Priority.MEDIUM
-                )
-                .dueDate(taskRequest.getDueDate())
-                .completedAt(taskRequest.getCompletedAt())
-                .build();
-
-        return taskRepository.save(task);
+        TaskEntity saved = taskRepository.save(changed(TaskChanges.newTask(taskRequest)));
+        publish(TaskChangedEvent.created(saved));
+        return saved;
     }
 
-
+    // Listings are served by a read replica when one is configured and the client has not just written
     @Override
     public Page<TaskEntity> getTasks(String query,
                                      List<TaskEntity.Status> status,
                                      List<TaskEntity.Priority> priority,
                                      Pageable pageable) {
-        boolean hasStatus = status != null && !status.isEmpty();
-        boolean hasPriority = priority != null && !priority.isEmpty();
+        return replicaReads.read(() -> findTasks(query, status, priority, pageable));
+    }
+
+    // Both tiers in one query the database orders and pages, so only the requested page is read
+    @Override
+    public Page<TaskEntity> getTasksIncludingArchived(String query,
+                                                      List<TaskEntity.Status> status,
+                                                      List<TaskEntity.Priority> priority,
+                                                      Pageable pageable) {
         boolean hasQuery = query != null && !query.trim().isEmpty();
 
-        if (!hasStatus && !hasPriority && !hasQuery) {
-            Page<TaskEntity> result = taskRepository.findAll(pageable);
-            System.out.println("findAll - Total elements: " + result.getTotalElements());
-            return result;
+        taskMetrics.countSearchTasks();
+        return replicaReads.read(() ->
+                taskRepository.findTasksIncludingArchived(status, priority, hasQuery ? query.trim() : "", pageable));
+    }
+
+    // Same branches as getTasks, but only the requested columns are read and no entities are materialised
+    @Override
+    public Page<TaskResponseDTO> getTaskFields(String query,
+                                               List<TaskEntity.Status> status,
+                                               List<TaskEntity.Priority> priority,
+                                               Set<TaskField> fields,
+                                               Pageable pageable) {
+        return replicaReads.read(() -> findTaskFields(query, status, priority, fields, pageable));
+    }
+
+    @Override
+    public Slice<TaskEntity> getTaskSlice(String query,
+                                          List<TaskEntity.Status> status,
+                                          List<TaskEntity.Priority> priority,
+                                          Pageable pageable) {
+        return replicaReads.read(() -> findTaskSlice(query, status, priority, pageable));
+    }
+
+    // Served from memory where possible: the statistics counters answer status/priority filters,
+    // text queries are counted once (by the search index, else the database) and cached briefly
+    @Override
+    public long estimateTaskCount(String query,
+                                  List<TaskEntity.Status> status,
+                                  List<TaskEntity.Priority> priority) {
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        if (query == null || query.trim().isEmpty()) {
+            return taskStatistics.count(status, priority);
         }
 
-        Page<TaskEntity> result = taskRepository.searchTasks(
-                hasStatus ? status : null,
-                hasPriority ? priority : null,
-                hasQuery ? query.trim() : "",
-                pageable
-        );
+        String trimmed = query.trim();
+        return taskCountCache.get(trimmed, status, priority, () -> taskSearchIndex.canSearch(trimmed)
+                ? (long) taskSearchIndex.search(trimmed, hasStatus ? status : null, hasPriority ? priority : null).size()
+                : replicaReads.read(() -> taskRepository.countMatchingTasks(
+                        hasStatus ? status : null, hasPriority ? priority : null, trimmed)));
+    }
 
-        return result;
+    @Override
+    public CursorPage<TaskEntity> getTasksByCursor(String query,
+                                                   List<TaskEntity.Status> status,
+                                                   List<TaskEntity.Priority> priority,
+                                                   String cursor,
+                                                   Sort sort,
+                                                   int size) {
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        boolean hasQuery = query != null && !query.trim().isEmpty();
+
+        return replicaReads.read(() -> TaskCursorPaging.page(cursor, sort, size,
+                (property, direction, after, limit) -> taskRepository.scrollTasks(
+                        hasStatus ? status : null,
+                        hasPriority ? priority : null,
+                        hasQuery ? query.trim() : null,
+                        property,
+                        direction,
+                        after,
+                        limit
+                )));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(List<TaskEntity.Status> status,
+                            List<TaskEntity.Priority> priority,
+                            TaskRowConsumer consumer) throws IOException {
+        long rows = 0;
+        try (Stream<TaskEntity> tasks = taskRepository.streamTasks(status, priority, exportFetchSize)) {
+            Iterator<TaskEntity> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                TaskEntity task = iterator.next();
+                consumer.accept(task);
+                // Detach as we go so the persistence context, and the heap, stay flat
+                entityManager.detach(task);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    // Cache misses are read from a replica unless the task or the client was written to within the pin window
     @Override
     public Optional<TaskEntity> getTaskById(UUID taskId) {
-        return taskRepository.findById(taskId);
+        // The cache is only filled from the primary: a lagging replica's copy would be served for the whole TTL
+        if (taskCache.isEnabled()) {
+            return taskCache.get(taskId, taskRepository::findById);
+        }
+        return replicaReads.read(taskId, () -> taskRepository.findById(taskId));
+    }
+
+    @Override
+    public Optional<TaskEntity> getArchivedTaskById(UUID taskId) {
+        return taskArchiveRepository.findById(taskId).map(TaskArchiveEntity::toTask);
     }
 
+    // Transactional so the loaded entity stays managed and is flushed directly, without save() merging it again
     @Override
+    @Transactional
     public TaskEntity updateTask(UUID taskId, TaskEntity taskRequestDTO) {
         TaskEntity existingTask = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
 
-        if (taskRequestDTO.getTitle() != null) {
-            existingTask.setTitle(taskRequestDTO.getTitle());
+        TaskEntity previous = existingTask.toBuilder().build();
+        TaskChanges.apply(existingTask, taskRequestDTO);
+        changed(existingTask);
+
+        TaskEntity saved = taskRepository.save(existingTask);
+        publish(TaskChangedEvent.updated(previous, saved));
+        return saved;
+    }
+
+    // One UPDATE with no read before it, returning the before-image; the after-image is the before-image with the
+    // same patch rules applied in memory, so the row is not read back
+    @Override
+    @Transactional
+    public TaskEntity patchTask(UUID taskId, TaskEntity changes) {
+        LocalDateTime now = LocalDateTime.now();
+        long changeSeq = taskChangeSequence.current();
+        TaskEntity previous = taskRepository.patchTask(
+                taskId,
+                changes.getTitle(),
+                changes.getDescription(),
+                changes.getStatus(),
+                changes.getPriority(),
+                changes.getDueDate(),
+                changes.getCompletedAt(),
+                now,
+                changeSeq
+        ).orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+
+        TaskEntity saved = previous.toBuilder().changeSeq(changeSeq).build();
+        TaskChanges.patch(saved, changes, now);
+        publish(TaskChangedEvent.updated(previous, saved));
+        return saved;
+    }
+
+    // A single DELETE returning the deleted row, which tells a missing task apart. The tombstone goes in with the
+    // same commit.
+    @Override
+    @Transactional
+    public void deleteTask(UUID taskId) {
+        TaskEntity previous = taskRepository.deleteTask(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+        entityManager.persist(tombstone(taskId));
+        publish(TaskChangedEvent.deleted(taskId, previous));
+    }
+
+    @Override
+    @Transactional
+    public TaskBatchOutcome batchWrite(List<TaskEntity> creates, Map<UUID, TaskEntity> updates, Collection<UUID> deletes) {
+        List<TaskEntity> created = new ArrayList<>(creates.size());
+        Map<UUID, TaskEntity> updated = new LinkedHashMap<>();
+        Map<UUID, TaskEntity> previous = new LinkedHashMap<>();
+        Map<UUID, TaskEntity> deleted = new LinkedHashMap<>();
+
+        // Inserts are JDBC-batched (ids are generated in the JVM); flush and clear per batch to keep the persistence context small
+        for (List<TaskEntity> chunk : chunks(creates)) {
+            for (TaskEntity request : chunk) {
+                created.add(taskRepository.save(changed(TaskChanges.newTask(request))));
+            }
+            flushAndClear();
         }
-        if (taskRequestDTO.getDescription() != null) {
-            existingTask.setDescription(taskRequestDTO.getDescription());
+
+        for (List<UUID> chunk : chunks(List.copyOf(updates.keySet()))) {
+            for (TaskEntity task : taskRepository.findAllById(chunk)) {
+                previous.put(task.getId(), task.toBuilder().build());
+                TaskChanges.apply(task, updates.get(task.getId()));
+                changed(task);
+                updated.put(task.getId(), task);
+            }
+            flushAndClear();
+        }
+
+        for (List<UUID> chunk : chunks(List.copyOf(new LinkedHashSet<>(deletes)))) {
+            for (TaskEntity task : taskRepository.findAllById(chunk)) {
+                taskRepository.delete(task);
+                entityManager.persist(tombstone(task.getId()));
+                deleted.put(task.getId(), task);
+            }
+            flushAndClear();
         }
-        if (taskRequestDTO.getStatus() != null) {
-            TaskEntity.Status oldStatus = existingTask.getStatus();
-            TaskEntity.Status newStatus = taskRequestDTO.getStatus();
 
-            existingTask.setStatus(newStatus);
+        created.forEach(task -> publish(TaskChangedEvent.created(task)));
+        updated.values().forEach(task -> publish(TaskChangedEvent.updated(previous.get(task.getId()), task)));
+        deleted.forEach((id, task) -> publish(TaskChangedEvent.deleted(id, task)));
 
-            // Automatically manage completedAt based on status changes
-            if (newStatus == TaskEntity.Status.COMPLETED) {
-                // If just completed now → set completedAt to now (if not manually set)
-                if (existingTask.getCompletedAt() == null) {
-                    existingTask.setCompletedAt(LocalDateTime.now());
-                }
-            } else {
-                // If reopened or changed from COMPLETED → clear completedAt
-                if (oldStatus == TaskEntity.Status.COMPLETED) {
-                    existingTask.setCompletedAt(null);
+        return new TaskBatchOutcome(created, updated, deleted.keySet());
+    }
+
+    // One batch of the hot-to-cold move: copy, then delete, in one transaction. For the hot-tier listeners
+    // (search index, caches, statistics, stream) the moved tasks are deletions.
+    @Override
+    @Transactional
+    public int archiveTasks(LocalDateTime finishedBefore, int limit) {
+        List<TaskEntity> tasks = taskRepository.findTasksToArchive(finishedBefore, Limit.of(limit));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        for (TaskEntity task : tasks) {
+            entityManager.persist(TaskArchiveEntity.of(task));
+            entityManager.persist(tombstone(task.getId()));
+        }
+        taskRepository.deleteTasksById(tasks.stream().map(TaskEntity::getId).toList());
+
+        tasks.forEach(task -> publish(TaskChangedEvent.archived(task)));
+        return tasks.size();
+    }
+
+    // Two keyset probes, one per table, each capped below the positions of transactions still open
+    @Override
+    public TaskChangePage getChanges(String since, int limit) {
+        return TaskChangeFeed.page(since, limit, tombstoneRetention, (afterSeq, afterId, max) -> {
+            TaskChangeSequence.Read read = taskChangeSequence.read();
+            TaskChangeFeed.Rows rows = new TaskChangeFeed.Rows(
+                    taskRepository.findChangedAfter(afterSeq, afterId, read.bound(), Limit.of(max)),
+                    taskTombstoneRepository.findDeletedAfter(afterSeq, afterId, read.bound(), Limit.of(max))
+            );
+            return rows.upTo(read.upTo());
+        });
+    }
+
+    @Override
+    @Transactional
+    public int purgeTombstones(LocalDateTime deletedBefore) {
+        return taskTombstoneRepository.deleteDeletedBefore(deletedBefore);
+    }
+
+    @Override
+    public Optional<TaskImportEntity> getImportProgress(String importId) {
+        return taskImportRepository.findById(importId);
+    }
+
+    // One commit per chunk: the rows and the import's resume position succeed or fail together
+    @Override
+    @Transactional
+    public TaskImportEntity importChunk(String importId,
+                                       List<TaskEntity> tasks,
+                                       long position,
+                                       long rejected,
+                                       boolean completed) {
+        TaskImportEntity progress = taskImportRepository.findById(importId)
+                .orElseGet(() -> TaskImportEntity.builder().importId(importId).build());
+
+        List<TaskEntity> created = new ArrayList<>(tasks.size());
+        for (TaskEntity request : tasks) {
+            created.add(taskRepository.save(changed(TaskChanges.newTask(request))));
+        }
+
+        progress.setPosition(position);
+        progress.setImported(progress.getImported() + created.size());
+        progress.setRejected(rejected);
+        progress.setCompleted(completed);
+        TaskImportEntity saved = taskImportRepository.save(progress);
+
+        flushAndClear();
+        created.forEach(task -> publish(TaskChangedEvent.created(task)));
+        return saved;
+    }
+
+    // Listeners only ever see committed state: inside a transaction the event is held until after commit
+    private void publish(TaskChangedEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(event);
                 }
-            }
+            });
+        } else {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    // Moves the task to the end of the change feed, at this transaction's position
+    private TaskEntity changed(TaskEntity task) {
+        task.setChangeSeq(taskChangeSequence.current());
+        return task;
+    }
+
+    private TaskTombstoneEntity tombstone(UUID taskId) {
+        return TaskTombstoneEntity.builder()
+                .taskId(taskId)
+                .changeSeq(taskChangeSequence.current())
+                .deletedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += jdbcBatchSize) {
+            chunks.add(items.subList(i, Math.min(i + jdbcBatchSize, items.size())));
+        }
+        return chunks;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Page<TaskResponseDTO> findTaskFields(String query,
+                                                 List<TaskEntity.Status> status,
+                                                 List<TaskEntity.Priority> priority,
+                                                 Set<TaskField> fields,
+                                                 Pageable pageable) {
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        boolean hasQuery = query != null && !query.trim().isEmpty();
+
+        IndexedPage indexed = hasQuery ? indexedPage(query.trim(), status, priority, pageable) : null;
+        if (indexed != null) {
+            Map<UUID, TaskResponseDTO> rowsById = taskRepository.findTaskFieldsById(indexed.ids(), fields).stream()
+                    .collect(Collectors.toMap(TaskResponseDTO::getId, Function.identity()));
+            List<TaskResponseDTO> content = indexed.ids().stream()
+                    .map(rowsById::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new PageImpl<>(content, pageable, indexed.total());
+        }
+        pageable = TaskSearchIndex.withoutRelevance(pageable);
+
+        if (hasStatus || hasPriority || hasQuery) {
+            taskMetrics.countSearchTasks();
+        } else {
+            taskMetrics.countFindAll();
+        }
+        return taskRepository.findTaskFields(
+                hasStatus ? status : null,
+                hasPriority ? priority : null,
+                hasQuery ? query.trim() : null,
+                fields,
+                pageable
+        );
+    }
+
+    private Slice<TaskEntity> findTaskSlice(String query,
+                                            List<TaskEntity.Status> status,
+                                            List<TaskEntity.Priority> priority,
+                                            Pageable pageable) {
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        boolean hasQuery = query != null && !query.trim().isEmpty();
+
+        IndexedPage indexed = hasQuery ? indexedPage(query.trim(), status, priority, pageable) : null;
+        if (indexed != null) {
+            Page<TaskEntity> page = new PageImpl<>(load(indexed.ids()), pageable, indexed.total());
+            return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
         }
-        if (taskRequestDTO.getPriority() != null) {
-            existingTask.setPriority(taskRequestDTO.getPriority());
+        pageable = TaskSearchIndex.withoutRelevance(pageable);
+
+        if (!hasStatus && !hasPriority && !hasQuery) {
+            taskMetrics.countFindAll();
+            return taskRepository.findAllBy(pageable);
         }
-        if (taskRequestDTO.getDueDate() != null) {
-            existingTask.setDueDate(taskRequestDTO.getDueDate());
+
+        taskMetrics.countSearchTasks();
+        return taskRepository.searchTaskSlice(
+                hasStatus ? status : null,
+                hasPriority ? priority : null,
+                hasQuery ? query.trim() : "",
+                pageable
+        );
+    }
+
+    private Page<TaskEntity> findTasks(String query,
+                                       List<TaskEntity.Status> status,
+                                       List<TaskEntity.Priority> priority,
+                                       Pageable pageable) {
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        boolean hasQuery = query != null && !query.trim().isEmpty();
+
+        IndexedPage indexed = hasQuery ? indexedPage(query.trim(), status, priority, pageable) : null;
+        if (indexed != null) {
+            return new PageImpl<>(load(indexed.ids()), pageable, indexed.total());
         }
-        // Allow manual override of completedAt (if explicitly provided)
-        if (taskRequestDTO.getCompletedAt() != null) {
-            existingTask.setCompletedAt(taskRequestDTO.getCompletedAt());
+        pageable = TaskSearchIndex.withoutRelevance(pageable);
+
+        if (!hasStatus && !hasPriority && !hasQuery) {
+            taskMetrics.countFindAll();
+            return taskRepository.findAll(pageable);
         }
 
-        return taskRepository.save(existingTask);
+        taskMetrics.countSearchTasks();
+        Page<TaskEntity> result = taskRepository.searchTasks(
+                hasStatus ? status : null,
+                hasPriority ? priority : null,
+                hasQuery ? query.trim() : "",
+                pageable
+        );
+
+        return result;
     }
 
-    @Override
-    public void deleteTask(UUID taskId) {
-        if (!taskRepository.existsById(taskId)) {
-            throw new TaskNotFoundException("Task not found with id: " + taskId);
+    // The page of a text search served from the trigram index: in relevance order when asked for, else the database
+    // orders the hits by the requested columns. Null when the index cannot serve it and the LIKE query runs instead,
+    // including when there are too many hits to hand the database as ids. Where the database has the trigram index
+    // it ranks by relevance itself.
+    private IndexedPage indexedPage(String query,
+                                    List<TaskEntity.Status> status,
+                                    List<TaskEntity.Priority> priority,
+                                    Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return null;
+        }
+        if (taskSearchIndex.isInDatabase() && TaskSearchIndex.ranksByRelevance(pageable.getSort())) {
+            taskMetrics.countSearchTasks();
+            Page<UUID> ranked = taskRepository.findTaskIdsByRelevance(
+                    status != null && !status.isEmpty() ? status : null,
+                    priority != null && !priority.isEmpty() ? priority : null,
+                    query, pageable);
+            return new IndexedPage(ranked.getContent(), ranked.getTotalElements());
+        }
+        if (!taskSearchIndex.canSearch(query)) {
+            return null;
+        }
+        List<SearchHit> hits = taskSearchIndex.search(query,
+                status != null && !status.isEmpty() ? status : null,
+                priority != null && !priority.isEmpty() ? priority : null);
+
+        if (TaskSearchIndex.ranksByRelevance(pageable.getSort())) {
+            taskMetrics.countSearchIndex();
+            int from = (int) Math.min(pageable.getOffset(), hits.size());
+            int to = Math.min(from + pageable.getPageSize(), hits.size());
+            return new IndexedPage(hits.subList(from, to).stream().map(SearchHit::taskId).toList(), hits.size());
         }
+        if (hits.size() > maxSortedHits) {
+            return null;
+        }
+        taskMetrics.countSearchIndex();
+        List<UUID> ids = hits.isEmpty()
+                ? List.of()
+                : taskRepository.findTaskIds(hits.stream().map(SearchHit::taskId).toList(), pageable);
+        return new IndexedPage(ids, hits.size());
+    }
+
+    // The tasks in the order of the ids; any deleted meanwhile are left out
+    private List<TaskEntity> load(List<UUID> ids) {
+        Map<UUID, TaskEntity> tasksById = StreamSupport.stream(taskRepository.findAllById(ids).spliterator(), false)
+                .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-        taskRepository.deleteById(taskId);
+    private record IndexedPage(List<UUID> ids, long total) {
     }
 }
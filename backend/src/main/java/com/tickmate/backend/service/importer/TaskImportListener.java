@@ -0,0 +1,10 @@
+package com.tickmate.backend.service.importer;
+
+import com.tickmate.backend.domain.dto.TaskImportProgressDTO;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface TaskImportListener {
+    void onProgress(TaskImportProgressDTO progress) throws IOException;
+}
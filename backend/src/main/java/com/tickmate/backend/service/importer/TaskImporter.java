@@ -0,0 +1,243 @@
+package com.tickmate.backend.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickmate.backend.domain.dto.TaskImportProgressDTO;
+import com.tickmate.backend.domain.dto.TaskRequestDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.entity.TaskImportEntity;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.service.TaskService;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an NDJSON or CSV body record by record, validates each one like {@link TaskRequestDTO}
+ * and commits accepted rows in chunks. The import's position is stored with every chunk, so
+ * re-sending the same input under the same import id skips what is already committed.
+ */
+@Component
+public class TaskImporter {
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public TaskImporter(TaskService taskService,
+                        TaskMapper taskMapper,
+                        ObjectMapper objectMapper,
+                        Validator validator,
+                        @Value("${tickmate.import.chunk-size:1000}") int chunkSize) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public TaskImportProgressDTO importTasks(String importId,
+                                             boolean csv,
+                                             InputStream body,
+                                             TaskImportListener listener) throws IOException {
+        TaskImportEntity previous = taskService.getImportProgress(importId).orElse(null);
+        long resumeFrom = previous != null ? previous.getPosition() : 0;
+        long imported = previous != null ? previous.getImported() : 0;
+        long rejected = previous != null ? previous.getRejected() : 0;
+
+        listener.onProgress(TaskImportProgressDTO.builder()
+                .type("started")
+                .importId(importId)
+                .position(resumeFrom)
+                .imported(imported)
+                .rejected(rejected)
+                .build());
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RecordSource source = csv ? new CsvSource(new CsvRecordReader(reader)) : new NdjsonSource(reader);
+
+        long start = System.nanoTime();
+        long importedThisRun = 0;
+        long position = 0;
+        List<TaskEntity> chunk = new ArrayList<>(chunkSize);
+
+        ParsedRecord record;
+        while ((record = source.next()) != null) {
+            if (position < resumeFrom) {
+                // Already covered by a committed chunk of an earlier attempt
+                position++;
+                continue;
+            }
+
+            Map<String, String> errors = record.errors();
+            if (errors.isEmpty()) {
+                validator.validate(record.task()).forEach(violation ->
+                        errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            }
+
+            if (errors.isEmpty()) {
+                chunk.add(taskMapper.toEntity(record.task()));
+            } else {
+                rejected++;
+                listener.onProgress(TaskImportProgressDTO.builder()
+                        .type("rejected")
+                        .record(position)
+                        .errors(errors)
+                        .build());
+            }
+            position++;
+
+            if (chunk.size() >= chunkSize) {
+                TaskImportEntity progress = taskService.importChunk(importId, chunk, position, rejected, false);
+                importedThisRun += chunk.size();
+                chunk = new ArrayList<>(chunkSize);
+                listener.onProgress(progress("progress", progress, importedThisRun, start));
+            }
+        }
+
+        TaskImportEntity progress = taskService.importChunk(importId, chunk, Math.max(position, resumeFrom), rejected, true);
+        importedThisRun += chunk.size();
+
+        TaskImportProgressDTO completed = progress("completed", progress, importedThisRun, start);
+        listener.onProgress(completed);
+        return completed;
+    }
+
+    private TaskImportProgressDTO progress(String type, TaskImportEntity progress, long importedThisRun, long start) {
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return TaskImportProgressDTO.builder()
+                .type(type)
+                .importId(progress.getImportId())
+                .position(progress.getPosition())
+                .imported(progress.getImported())
+                .rejected(progress.getRejected())
+                .rowsPerSecond(seconds > 0 ? importedThisRun / seconds : 0)
+                .build();
+    }
+
+    private record ParsedRecord(TaskRequestDTO task, Map<String, String> errors) {
+    }
+
+    private interface RecordSource {
+        ParsedRecord next() throws IOException;
+    }
+
+    private class NdjsonSource implements RecordSource {
+        private final BufferedReader reader;
+
+        NdjsonSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            try {
+                return new ParsedRecord(objectMapper.readValue(line, TaskRequestDTO.class), new LinkedHashMap<>());
+            } catch (JsonProcessingException ex) {
+                Map<String, String> errors = new LinkedHashMap<>();
+                errors.put("record", "Malformed JSON: " + ex.getOriginalMessage());
+                return new ParsedRecord(null, errors);
+            }
+        }
+    }
+
+    // Columns are matched by header name; unknown columns (id, createdAt, ...) are ignored
+    private static class CsvSource implements RecordSource {
+        private final CsvRecordReader reader;
+        private Map<String, Integer> columns;
+
+        CsvSource(CsvRecordReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            if (columns == null) {
+                List<String> header = reader.next();
+                if (header == null) {
+                    return null;
+                }
+                columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+            }
+
+            List<String> fields;
+            do {
+                fields = reader.next();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+            Map<String, String> errors = new LinkedHashMap<>();
+            TaskRequestDTO task = TaskRequestDTO.builder()
+                    .title(field(fields, "title"))
+                    .description(field(fields, "description"))
+                    .status(parseEnum(TaskEntity.Status.class, fields, "status", errors))
+                    .priority(parseEnum(TaskEntity.Priority.class, fields, "priority", errors))
+                    .dueDate(parseDate(fields, "duedate", "dueDate", errors))
+                    .completedAt(parseDate(fields, "completedat", "completedAt", errors))
+                    .build();
+            return new ParsedRecord(task, errors);
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        private <E extends Enum<E>> E parseEnum(Class<E> type, List<String> fields, String column, Map<String, String> errors) {
+            String value = field(fields, column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                errors.put(column, "Unknown value '" + value + "'");
+                return null;
+            }
+        }
+
+        private LocalDateTime parseDate(List<String> fields, String column, String property, Map<String, String> errors) {
+            String value = field(fields, column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDateTime.parse(value.trim());
+            } catch (DateTimeParseException ex) {
+                errors.put(property, "Invalid date '" + value + "'");
+                return null;
+            }
+        }
+    }
+}
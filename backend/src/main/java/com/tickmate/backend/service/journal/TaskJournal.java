@@ -0,0 +1,391 @@
+package com.tickmate.backend.service.journal;
+
+import com.tickmate.backend.domain.codec.TaskBinaryCodec;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of every committed task write, in memory-mapped segment files.
+ * <p>
+ * The request thread only stamps the change and puts it on a bounded queue; one writer thread drains whatever
+ * has queued up every linger interval, encodes it and appends it as a group, forcing the written range once per
+ * group (group commit).
+ * Each record is {@code [int length][int crc32c][byte type][long recordedAt][uuid taskId][task]}, the task being
+ * the state after the write in {@link TaskBinaryCodec} form, the archived state for archiving and left out for
+ * deletions.
+ * <p>
+ * A record is addressed by its offset, the byte position in the journal as a whole: segments are
+ * {@code journal-<offset of their first byte>.bin} and the first record of a new one gets the offset right after the
+ * last record of the previous one (its header overlapping that record), so an offset finds its segment and position
+ * without an index and names exactly one record. Readers see records once their group is committed.
+ */
+@Component
+@ConditionalOnProperty(name = "tickmate.journal.enabled", havingValue = "true")
+public class TaskJournal {
+    private static final Logger log = LoggerFactory.getLogger(TaskJournal.class);
+    private static final Pattern FILE_NAME = Pattern.compile("journal-(\\d{20})\\.bin");
+    private static final int MAGIC = 0x544D4A31; // "TMJ1"
+    private static final int HEADER_SIZE = 4;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private static final byte CREATED = 1;
+    private static final byte UPDATED = 2;
+    private static final byte DELETED = 3;
+    private static final byte ARCHIVED = 4;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final boolean syncWrites;
+    private final int maxBatch;
+    private final long lingerNanos;
+    private final BlockingQueue<Pending> queue;
+
+    private final Counter recorded;
+    private final Counter blocked;
+    private final Counter failed;
+    private final DistributionSummary batchSize;
+    private final Timer commitTimer;
+
+    private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // Written by the writer thread only
+    private final CRC32C crc = new CRC32C();
+    private final TaskBinaryCodec.Writer out = new TaskBinaryCodec.Writer(4096);
+    private Segment active;
+    // End of the last committed group; readers stop here
+    private volatile long committed;
+
+    private Thread writer;
+    private volatile boolean stopping;
+
+    private record Pending(TaskChangedEvent event, long recordedAt) {
+    }
+
+    private record Segment(long base, FileChannel channel, MappedByteBuffer buffer) {
+    }
+
+    public TaskJournal(MeterRegistry meterRegistry,
+                       @Value("${tickmate.journal.directory:data/journal}") Path directory,
+                       @Value("${tickmate.journal.segment-size:64MB}") DataSize segmentSize,
+                       @Value("${tickmate.journal.sync-writes:true}") boolean syncWrites,
+                       @Value("${tickmate.journal.queue-size:65536}") int queueSize,
+                       @Value("${tickmate.journal.max-batch:4096}") int maxBatch,
+                       @Value("${tickmate.journal.linger:1ms}") Duration linger) {
+        this.directory = directory;
+        this.segmentSize = segmentSize.toBytes();
+        this.syncWrites = syncWrites;
+        this.maxBatch = maxBatch;
+        this.lingerNanos = linger.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+
+        recorded = Counter.builder("tickmate.journal.records")
+                .description("Task writes appended to the journal")
+                .register(meterRegistry);
+        blocked = Counter.builder("tickmate.journal.blocked")
+                .description("Writes that had to wait for room in the full journal queue")
+                .register(meterRegistry);
+        failed = Counter.builder("tickmate.journal.failed")
+                .description("Journal records lost to an I/O error")
+                .register(meterRegistry);
+        batchSize = DistributionSummary.builder("tickmate.journal.batch.size")
+                .description("Records per group commit")
+                .register(meterRegistry);
+        commitTimer = Timer.builder("tickmate.journal.commit")
+                .description("Time to append and force one group")
+                .register(meterRegistry);
+        Gauge.builder("tickmate.journal.queue.depth", queue, BlockingQueue::size)
+                .description("Task writes waiting to be journaled")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher name = FILE_NAME.matcher(file.getFileName().toString());
+                if (name.matches()) {
+                    long base = Long.parseLong(name.group(1));
+                    segments.put(base, map(base, Math.max(Files.size(file), segmentSize)));
+                }
+            }
+        }
+
+        if (segments.isEmpty()) {
+            active = map(0, segmentSize);
+            segments.put(0L, active);
+            active.buffer().position(HEADER_SIZE);
+        } else {
+            active = segments.lastEntry().getValue();
+            int end = scan(active.buffer());
+            if (end + RECORD_HEADER_SIZE <= active.buffer().limit() && active.buffer().getInt(end) != 0) {
+                // Only the last group can be torn; zero it so a reader never mistakes it for records
+                log.warn("Task journal segment {} ends in a torn record at {}; discarding it", active.base(), end);
+                for (int i = end; i < active.buffer().limit(); i++) {
+                    active.buffer().put(i, (byte) 0);
+                }
+                active.buffer().force();
+            }
+            active.buffer().position(end);
+        }
+        committed = active.base() + active.buffer().position();
+
+        writer = Thread.ofPlatform().name("task-journal").daemon().start(this::run);
+    }
+
+    // Runs on the thread that committed the write: no I/O or encoding here, just a stamp and an enqueue
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Pending pending = new Pending(event, System.currentTimeMillis());
+        if (queue.offer(pending)) {
+            return;
+        }
+        blocked.increment();
+        try {
+            queue.put(pending);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failed.increment();
+        }
+    }
+
+    // Offset of the oldest record still on disk
+    public long firstOffset() {
+        return segments.firstKey() + HEADER_SIZE;
+    }
+
+    // Offset the next committed record will get
+    public long endOffset() {
+        return committed;
+    }
+
+    /**
+     * Up to {@code limit} committed records from {@code offset} on, which must be {@link #firstOffset()}, the offset
+     * of a record or a {@code nextOffset} returned before; anything below the oldest segment reads from its start.
+     */
+    public TaskJournalPage read(long offset, int limit) {
+        long end = committed;
+        if (offset > end) {
+            throw new IllegalArgumentException("Journal offset " + offset + " is beyond its end " + end);
+        }
+        offset = Math.max(offset, firstOffset());
+
+        List<TaskJournalRecord> records = new ArrayList<>(Math.min(limit, 1024));
+        CRC32C checksum = new CRC32C();
+        Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+        while (records.size() < limit && offset < end) {
+            Segment segment = entry.getValue();
+            ByteBuffer buffer = segment.buffer();
+            int position = (int) (offset - segment.base());
+            if (position + RECORD_HEADER_SIZE > buffer.limit() || buffer.getInt(position) == 0) {
+                // The rest of this segment is unused; the journal goes on in the next one
+                entry = segments.higherEntry(segment.base());
+                if (entry == null) {
+                    break;
+                }
+                offset = entry.getKey() + HEADER_SIZE;
+                continue;
+            }
+
+            int length = buffer.getInt(position);
+            if (length < 0 || position + RECORD_HEADER_SIZE + length > buffer.limit()) {
+                throw new IllegalArgumentException("No journal record at offset " + offset);
+            }
+            ByteBuffer body = buffer.slice(position + RECORD_HEADER_SIZE, length);
+            checksum.reset();
+            checksum.update(body.duplicate());
+            if ((int) checksum.getValue() != buffer.getInt(position + 4)) {
+                throw new IllegalArgumentException("No journal record at offset " + offset);
+            }
+            records.add(decode(offset, body));
+            offset += RECORD_HEADER_SIZE + length;
+        }
+        return new TaskJournalPage(records, offset);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        stopping = true;
+        try {
+            writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        for (Segment segment : segments.values()) {
+            segment.channel().close();
+        }
+    }
+
+    // Wakes every linger interval instead of on each write, so a producer never has to signal this thread
+    private void run() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (true) {
+            if (queue.drainTo(batch, maxBatch) == 0) {
+                if (stopping) {
+                    return;
+                }
+                LockSupport.parkNanos(lingerNanos);
+                continue;
+            }
+
+            try {
+                commitTimer.record(() -> append(batch));
+                recorded.increment(batch.size());
+            } catch (UncheckedIOException ex) {
+                log.error("Cannot append {} records to the task journal", batch.size(), ex);
+                failed.increment(batch.size());
+            }
+            batchSize.record(batch.size());
+            batch.clear();
+        }
+    }
+
+    private void append(List<Pending> batch) {
+        try {
+            int from = active.buffer().position();
+            for (Pending pending : batch) {
+                ByteBuffer record = encode(pending);
+                if (active.buffer().remaining() < record.remaining()) {
+                    force(from);
+                    roll(record.remaining());
+                    from = active.buffer().position();
+                }
+                active.buffer().put(record);
+            }
+            force(from);
+            committed = active.base() + active.buffer().position();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void force(int from) {
+        if (syncWrites && active.buffer().position() > from) {
+            active.buffer().force(from, active.buffer().position() - from);
+        }
+    }
+
+    // The next segment's first record gets the offset right after the last record of this one, so the end of a page
+    // that lands on a segment end reads on from the next segment
+    private void roll(int minimumSize) throws IOException {
+        long size = Math.max(segmentSize, minimumSize + HEADER_SIZE);
+        if (active.buffer().position() == HEADER_SIZE) {
+            // Nothing in this segment yet and the record does not fit in it: grow it instead
+            active.channel().close();
+            active = map(active.base(), size);
+        } else {
+            active = map(active.base() + active.buffer().position() - HEADER_SIZE, size);
+        }
+        active.buffer().position(HEADER_SIZE);
+        segments.put(active.base(), active);
+    }
+
+    private Segment map(long base, long size) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(String.format("journal-%020d.bin", base)),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC);
+        } else if (buffer.getInt(0) != MAGIC) {
+            channel.close();
+            throw new IOException("Not a task journal segment: journal-" + base);
+        }
+        return new Segment(base, channel, buffer);
+    }
+
+    // Position after the last intact record of a segment
+    private static int scan(ByteBuffer buffer) {
+        CRC32C checksum = new CRC32C();
+        int position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > buffer.limit()) {
+                break;
+            }
+            checksum.reset();
+            checksum.update(buffer.slice(position + RECORD_HEADER_SIZE, length));
+            if ((int) checksum.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private ByteBuffer encode(Pending pending) {
+        TaskChangedEvent event = pending.event();
+        out.clear().putInt(0).putInt(0);
+        switch (event.type()) {
+            case CREATED -> out.putByte(CREATED);
+            case UPDATED -> out.putByte(UPDATED);
+            case DELETED -> out.putByte(DELETED);
+            case ARCHIVED -> out.putByte(ARCHIVED);
+        }
+        out.putLong(pending.recordedAt()).putUuid(event.taskId());
+        TaskEntity task = event.type() == TaskChangedEvent.Type.ARCHIVED ? event.previous() : event.task();
+        if (task != null) {
+            out.putTask(task);
+        }
+
+        ByteBuffer record = out.buffer();
+        int length = record.position() - RECORD_HEADER_SIZE;
+        crc.reset();
+        crc.update(record.array(), RECORD_HEADER_SIZE, length);
+        record.putInt(0, length).putInt(4, (int) crc.getValue());
+        return record.flip();
+    }
+
+    private static TaskJournalRecord decode(long offset, ByteBuffer body) {
+        byte type = body.get();
+        Instant recordedAt = Instant.ofEpochMilli(body.getLong());
+        UUID taskId = TaskBinaryCodec.getUuid(body);
+        return new TaskJournalRecord(offset,
+                switch (type) {
+                    case CREATED -> TaskChangedEvent.Type.CREATED;
+                    case UPDATED -> TaskChangedEvent.Type.UPDATED;
+                    case DELETED -> TaskChangedEvent.Type.DELETED;
+                    case ARCHIVED -> TaskChangedEvent.Type.ARCHIVED;
+                    default -> throw new IllegalStateException("Unknown task journal record type " + type);
+                },
+                taskId,
+                recordedAt,
+                body.hasRemaining() ? TaskBinaryCodec.getTask(body) : null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tickmate.backend.service.journal;
+
+import java.util.List;
+
+// Records in journal order; nextOffset is where the following read continues, also when records is empty
+public record TaskJournalPage(List<TaskJournalRecord> records, long nextOffset) {
+}
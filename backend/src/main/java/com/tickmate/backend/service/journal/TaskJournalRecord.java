@@ -0,0 +1,11 @@
+package com.tickmate.backend.service.journal;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// One journaled write; task is the state after it, the archived state for archiving and null for deletions
+public record TaskJournalRecord(long offset, TaskChangedEvent.Type type, UUID taskId, Instant recordedAt, TaskEntity task) {
+}
@@ -0,0 +1,569 @@
+package com.tickmate.backend.service.memory;
+
+import com.tickmate.backend.domain.batch.TaskBatchOutcome;
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.entity.TaskImportEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import com.tickmate.backend.domain.id.UuidV7;
+import com.tickmate.backend.domain.pagination.CursorPage;
+import com.tickmate.backend.domain.pagination.TaskChangePage;
+import com.tickmate.backend.domain.projection.TaskField;
+import com.tickmate.backend.exception.TaskNotFoundException;
+import com.tickmate.backend.service.TaskChangeFeed;
+import com.tickmate.backend.service.TaskChanges;
+import com.tickmate.backend.service.TaskCursorPaging;
+import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.cache.TaskCache;
+import com.tickmate.backend.service.cache.TaskCountCache;
+import com.tickmate.backend.service.export.TaskRowConsumer;
+import com.tickmate.backend.service.metrics.TaskMetrics;
+import com.tickmate.backend.service.search.SearchHit;
+import com.tickmate.backend.service.search.TaskSearchIndex;
+import com.tickmate.backend.service.stats.TaskStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@link TaskService} over the {@link MemoryTaskStore}, selected with {@code tickmate.storage.engine=memory}.
+ * Answers the same queries as the JPA engine with the same filter and ordering rules: filters start from the
+ * smallest matching index, dueDate and createdAt orders walk their ordered index, any other order keeps only
+ * the top offset + size rows. The cold tier is an archive map inside the store.
+ */
+@Service
+@ConditionalOnProperty(name = "tickmate.storage.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class MemoryTaskService implements TaskService {
+    private static final List<TaskEntity.Status> FINISHED = List.of(TaskEntity.Status.COMPLETED, TaskEntity.Status.ARCHIVED);
+
+    private final MemoryTaskStore store;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskCache taskCache;
+    private final TaskMetrics taskMetrics;
+    private final TaskStatistics taskStatistics;
+    private final TaskCountCache taskCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${tickmate.changes.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Override
+    public TaskEntity createTask(TaskEntity taskRequest) {
+        TaskEntity saved = store.write(writer -> {
+            TaskEntity task = created(taskRequest);
+            writer.put(task);
+            return task;
+        });
+        eventPublisher.publishEvent(TaskChangedEvent.created(saved));
+        return saved;
+    }
+
+    @Override
+    public Page<TaskEntity> getTasks(String query,
+                                     List<TaskEntity.Status> status,
+                                     List<TaskEntity.Priority> priority,
+                                     Pageable pageable) {
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        boolean hasQuery = query != null && !query.trim().isEmpty();
+
+        if (hasQuery && taskSearchIndex.canSearch(query) && pageable.isPaged() && TaskSearchIndex.ranksByRelevance(pageable.getSort())) {
+            taskMetrics.countSearchIndex();
+            List<SearchHit> hits = taskSearchIndex.search(query.trim(), hasStatus ? status : null, hasPriority ? priority : null);
+            return new PageImpl<>(load(pageOf(hits, pageable)), pageable, hits.size());
+        }
+        pageable = TaskSearchIndex.withoutRelevance(pageable);
+
+        if (!hasStatus && !hasPriority && !hasQuery) {
+            taskMetrics.countFindAll();
+            return page(List.of(store.tasks()), Filter.NONE, pageable);
+        }
+
+        return page(List.of(textCandidates(query, status, priority)), new Filter(status, priority, query), pageable);
+    }
+
+    @Override
+    public Page<TaskEntity> getTasksIncludingArchived(String query,
+                                                      List<TaskEntity.Status> status,
+                                                      List<TaskEntity.Priority> priority,
+                                                      Pageable pageable) {
+        taskMetrics.countSearchTasks();
+        return page(List.of(candidates(status, priority), store.archivedTasks()), new Filter(status, priority, query), pageable);
+    }
+
+    // No columns to skip in memory: the page is built as for getTasks and projected
+    @Override
+    public Page<TaskResponseDTO> getTaskFields(String query,
+                                               List<TaskEntity.Status> status,
+                                               List<TaskEntity.Priority> priority,
+                                               Set<TaskField> fields,
+                                               Pageable pageable) {
+        return getTasks(query, status, priority, pageable).map(task -> TaskField.project(task, fields));
+    }
+
+    @Override
+    public Slice<TaskEntity> getTaskSlice(String query,
+                                          List<TaskEntity.Status> status,
+                                          List<TaskEntity.Priority> priority,
+                                          Pageable pageable) {
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        boolean hasQuery = query != null && !query.trim().isEmpty();
+
+        if (hasQuery && taskSearchIndex.canSearch(query) && pageable.isPaged() && TaskSearchIndex.ranksByRelevance(pageable.getSort())) {
+            taskMetrics.countSearchIndex();
+            List<SearchHit> hits = taskSearchIndex.search(query.trim(), hasStatus ? status : null, hasPriority ? priority : null);
+            List<UUID> ids = pageOf(hits, pageable);
+            return new SliceImpl<>(load(ids), pageable, pageable.getOffset() + ids.size() < hits.size());
+        }
+        pageable = TaskSearchIndex.withoutRelevance(pageable);
+
+        if (!hasStatus && !hasPriority && !hasQuery) {
+            taskMetrics.countFindAll();
+        }
+        Filter filter = new Filter(status, priority, query);
+        Collection<TaskEntity> candidates = textCandidates(query, status, priority);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(select(List.of(candidates), filter, pageable.getSort(), 0, Integer.MAX_VALUE, false).rows());
+        }
+        // One row past the page tells whether another exists
+        Selection selection = select(List.of(candidates), filter, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize() + 1, false);
+        List<TaskEntity> rows = selection.rows();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public long estimateTaskCount(String query,
+                                  List<TaskEntity.Status> status,
+                                  List<TaskEntity.Priority> priority) {
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        if (query == null || query.trim().isEmpty()) {
+            return taskStatistics.count(status, priority);
+        }
+
+        String trimmed = query.trim();
+        return taskCountCache.get(trimmed, status, priority, () -> taskSearchIndex.canSearch(trimmed)
+                ? (long) taskSearchIndex.search(trimmed, hasStatus ? status : null, hasPriority ? priority : null).size()
+                : select(List.of(candidates(status, priority)), new Filter(status, priority, trimmed), Sort.unsorted(), 0, 0, true).total());
+    }
+
+    @Override
+    public CursorPage<TaskEntity> getTasksByCursor(String query,
+                                                   List<TaskEntity.Status> status,
+                                                   List<TaskEntity.Priority> priority,
+                                                   String cursor,
+                                                   Sort sort,
+                                                   int size) {
+        Filter filter = new Filter(status, priority, query);
+        return TaskCursorPaging.page(cursor, sort, size, (property, direction, after, limit) -> {
+            Comparator<TaskEntity> order = MemoryTaskStore.keyOrder(property, direction);
+            TaskEntity probe = after != null ? MemoryTaskStore.probe(after) : null;
+
+            Collection<TaskEntity> scanned = switch (property) {
+                case "dueDate" -> probe == null ? store.byDueDate(direction) : store.byDueDate(direction).tailSet(probe, false);
+                case "createdAt" -> probe == null ? store.byCreatedAt(direction) : store.byCreatedAt(direction).tailSet(probe, false);
+                default -> null;
+            };
+            if (scanned != null) {
+                return walk(scanned, filter, 0, limit);
+            }
+
+            Filter seek = probe == null ? filter : filter.and(task -> order.compare(task, probe) > 0);
+            return topRows(List.of(candidates(status, priority)), seek, order, limit);
+        });
+    }
+
+    // In (createdAt, id) order, like the JPA engine's export
+    @Override
+    public long exportTasks(List<TaskEntity.Status> status,
+                            List<TaskEntity.Priority> priority,
+                            TaskRowConsumer consumer) throws IOException {
+        Filter filter = new Filter(status, priority, null);
+        long rows = 0;
+        for (TaskEntity task : store.byCreatedAt(Sort.Direction.ASC)) {
+            if (filter.matches(task)) {
+                consumer.accept(task);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    // Kept behind TaskCache so its statistics read the same on both engines; a miss costs one more hash lookup
+    @Override
+    public Optional<TaskEntity> getTaskById(UUID taskId) {
+        return taskCache.get(taskId, id -> Optional.ofNullable(store.get(id)));
+    }
+
+    @Override
+    public Optional<TaskEntity> getArchivedTaskById(UUID taskId) {
+        return Optional.ofNullable(store.getArchived(taskId));
+    }
+
+    @Override
+    public TaskEntity updateTask(UUID taskId, TaskEntity taskRequest) {
+        return change(taskId, task -> {
+            TaskChanges.apply(task, taskRequest);
+            task.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    @Override
+    public TaskEntity patchTask(UUID taskId, TaskEntity changes) {
+        return change(taskId, task -> TaskChanges.patch(task, changes, LocalDateTime.now()));
+    }
+
+    @Override
+    public void deleteTask(UUID taskId) {
+        TaskEntity previous = store.write(writer -> writer.delete(taskId));
+        if (previous == null) {
+            throw new TaskNotFoundException("Task not found with id: " + taskId);
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(taskId, previous));
+    }
+
+    // One log frame for the whole batch, so it is recovered all or nothing like the JPA engine's transaction
+    @Override
+    public TaskBatchOutcome batchWrite(List<TaskEntity> creates, Map<UUID, TaskEntity> updates, Collection<UUID> deletes) {
+        List<TaskEntity> created = new ArrayList<>(creates.size());
+        Map<UUID, TaskEntity> updated = new LinkedHashMap<>();
+        Map<UUID, TaskEntity> previous = new LinkedHashMap<>();
+        Map<UUID, TaskEntity> deleted = new LinkedHashMap<>();
+
+        store.write(writer -> {
+            for (TaskEntity request : creates) {
+                TaskEntity task = created(request);
+                writer.put(task);
+                created.add(task);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            updates.forEach((id, changes) -> {
+                TaskEntity existing = writer.get(id);
+                if (existing != null) {
+                    TaskEntity task = existing.toBuilder().build();
+                    TaskChanges.apply(task, changes);
+                    task.setUpdatedAt(now);
+                    writer.put(task);
+                    previous.putIfAbsent(id, existing);
+                    updated.put(id, task);
+                }
+            });
+
+            for (UUID id : new LinkedHashSet<>(deletes)) {
+                TaskEntity existing = writer.delete(id);
+                if (existing != null) {
+                    deleted.put(id, existing);
+                }
+            }
+            return null;
+        });
+
+        created.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+        updated.values().forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.updated(previous.get(task.getId()), task)));
+        deleted.forEach((id, task) -> eventPublisher.publishEvent(TaskChangedEvent.deleted(id, task)));
+
+        return new TaskBatchOutcome(created, updated, deleted.keySet());
+    }
+
+    @Override
+    public int archiveTasks(LocalDateTime finishedBefore, int limit) {
+        List<TaskEntity> moved = store.write(writer -> {
+            List<TaskEntity> tasks = new ArrayList<>();
+            for (TaskEntity.Status status : FINISHED) {
+                for (TaskEntity task : store.withStatus(status)) {
+                    if (tasks.size() == limit) {
+                        break;
+                    }
+                    LocalDateTime finishedAt = task.getCompletedAt() != null ? task.getCompletedAt() : task.getUpdatedAt();
+                    if (finishedAt.isBefore(finishedBefore)) {
+                        writer.archive(task.getId());
+                        tasks.add(task);
+                    }
+                }
+            }
+            return tasks;
+        });
+
+        moved.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.archived(task)));
+        return moved.size();
+    }
+
+    // Walks the (changeSeq, id) indexes of the tasks and the tombstones from the token's position
+    @Override
+    public TaskChangePage getChanges(String since, int limit) {
+        return TaskChangeFeed.page(since, limit, tombstoneRetention, (afterSeq, afterId, max) -> {
+            long upTo = store.visibleChangeSeq();
+            return new TaskChangeFeed.Rows(
+                    store.changedAfter(afterSeq, afterId, upTo, max),
+                    store.deletedAfter(afterSeq, afterId, upTo, max)
+            );
+        });
+    }
+
+    @Override
+    public int purgeTombstones(LocalDateTime deletedBefore) {
+        return store.write(writer -> writer.purgeTombstones(deletedBefore));
+    }
+
+    @Override
+    public Optional<TaskImportEntity> getImportProgress(String importId) {
+        return Optional.ofNullable(store.getImportProgress(importId));
+    }
+
+    // The rows and the import's resume position share one log frame, so they are recovered together
+    @Override
+    public TaskImportEntity importChunk(String importId,
+                                       List<TaskEntity> tasks,
+                                       long position,
+                                       long rejected,
+                                       boolean completed) {
+        List<TaskEntity> created = new ArrayList<>(tasks.size());
+        TaskImportEntity saved = store.write(writer -> {
+            for (TaskEntity request : tasks) {
+                TaskEntity task = created(request);
+                writer.put(task);
+                created.add(task);
+            }
+
+            TaskImportEntity previous = store.getImportProgress(importId);
+            TaskImportEntity progress = TaskImportEntity.builder()
+                    .importId(importId)
+                    .position(position)
+                    .imported((previous != null ? previous.getImported() : 0) + created.size())
+                    .rejected(rejected)
+                    .completed(completed)
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            writer.putImportProgress(progress);
+            return progress;
+        });
+
+        created.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+        return saved;
+    }
+
+    private static TaskEntity created(TaskEntity request) {
+        TaskEntity task = TaskChanges.newTask(request);
+        LocalDateTime now = LocalDateTime.now();
+        task.setId(UuidV7.generate());
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        return task;
+    }
+
+    // Changes a copy and stores it in place of the original, which stays intact for readers and the event
+    private TaskEntity change(UUID taskId, Consumer<TaskEntity> changes) {
+        TaskChangedEvent event = store.write(writer -> {
+            TaskEntity existing = writer.get(taskId);
+            if (existing == null) {
+                throw new TaskNotFoundException("Task not found with id: " + taskId);
+            }
+            TaskEntity task = existing.toBuilder().build();
+            changes.accept(task);
+            writer.put(task);
+            return TaskChangedEvent.updated(existing, task);
+        });
+        eventPublisher.publishEvent(event);
+        return event.task();
+    }
+
+    // The smallest index that covers the status or priority filter, else every task
+    private Collection<TaskEntity> candidates(List<TaskEntity.Status> status, List<TaskEntity.Priority> priority) {
+        Collection<TaskEntity> best = store.tasks();
+        int bestSize = store.size();
+        if (status != null && !status.isEmpty()) {
+            List<Collection<TaskEntity>> parts = new ArrayList<>();
+            int size = 0;
+            for (TaskEntity.Status value : new LinkedHashSet<>(status)) {
+                parts.add(store.withStatus(value));
+                size += store.withStatus(value).size();
+            }
+            if (size < bestSize) {
+                best = concat(parts);
+                bestSize = size;
+            }
+        }
+        if (priority != null && !priority.isEmpty()) {
+            List<Collection<TaskEntity>> parts = new ArrayList<>();
+            int size = 0;
+            for (TaskEntity.Priority value : new LinkedHashSet<>(priority)) {
+                parts.add(store.withPriority(value));
+                size += store.withPriority(value).size();
+            }
+            if (size < bestSize) {
+                best = concat(parts);
+            }
+        }
+        return best;
+    }
+
+    private static Collection<TaskEntity> concat(List<Collection<TaskEntity>> parts) {
+        return parts.size() == 1 ? parts.get(0) : parts.stream().flatMap(Collection::stream).toList();
+    }
+
+    private Page<TaskEntity> page(List<Collection<TaskEntity>> sources, Filter filter, Pageable pageable) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        Selection selection = select(sources, filter, pageable.getSort(), offset, limit, true);
+        return new PageImpl<>(selection.rows(), pageable, selection.total());
+    }
+
+    private record Selection(List<TaskEntity> rows, long total) {
+    }
+
+    // Rows [offset, offset + limit) of the matching tasks in sort order, and how many match when asked to count
+    private Selection select(List<Collection<TaskEntity>> sources, Filter filter, Sort sort, long offset, int limit, boolean count) {
+        // A single dueDate or createdAt order over the hot tier walks its ordered index instead of sorting
+        Sort.Order only = sort.stream().count() == 1 ? sort.iterator().next() : null;
+        if (only != null && sources.size() == 1 && (only.getProperty().equals("dueDate") || only.getProperty().equals("createdAt"))) {
+            Collection<TaskEntity> ordered = only.getProperty().equals("dueDate")
+                    ? store.byDueDate(only.getDirection())
+                    : store.byCreatedAt(only.getDirection());
+            List<TaskEntity> rows = walk(ordered, filter, offset, limit);
+            long total = count ? count(sources, filter) : -1;
+            return new Selection(rows, total);
+        }
+
+        long end = Math.min(Integer.MAX_VALUE - 1, offset + limit);
+        List<TaskEntity> top = topRows(sources, filter, TaskField.comparator(sort), (int) end);
+        List<TaskEntity> rows = offset >= top.size() ? List.of() : top.subList((int) offset, top.size());
+        return new Selection(rows, count ? count(sources, filter) : -1);
+    }
+
+    private static List<TaskEntity> walk(Collection<TaskEntity> ordered, Filter filter, long offset, int limit) {
+        List<TaskEntity> rows = new ArrayList<>(Math.min(limit, 1024));
+        long skipped = 0;
+        for (TaskEntity task : ordered) {
+            if (rows.size() >= limit) {
+                break;
+            }
+            if (filter.matches(task)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    rows.add(task);
+                }
+            }
+        }
+        return rows;
+    }
+
+    // Keeps only the first limit rows in a bounded heap, so a page costs O(n log limit) rather than a full sort
+    private static List<TaskEntity> topRows(List<Collection<TaskEntity>> sources, Filter filter, Comparator<TaskEntity> order, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<TaskEntity> heap = new PriorityQueue<>(Math.min(limit + 1, 1024), order.reversed());
+        for (Collection<TaskEntity> source : sources) {
+            for (TaskEntity task : source) {
+                if (!filter.matches(task)) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.add(task);
+                } else if (order.compare(task, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(task);
+                }
+            }
+        }
+        List<TaskEntity> rows = new ArrayList<>(heap);
+        rows.sort(order);
+        return rows;
+    }
+
+    private static long count(List<Collection<TaskEntity>> sources, Filter filter) {
+        long total = 0;
+        for (Collection<TaskEntity> source : sources) {
+            if (filter == Filter.NONE) {
+                total += source.size();
+                continue;
+            }
+            for (TaskEntity task : source) {
+                if (filter.matches(task)) {
+                    total++;
+                }
+            }
+        }
+        return total;
+    }
+
+    // The tasks a filtered listing has to look at: the search index's hits for a text query it can answer, which
+    // the filter then orders like any other candidates, else the smallest status or priority bucket
+    private Collection<TaskEntity> textCandidates(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority) {
+        if (query != null && !query.isBlank() && taskSearchIndex.canSearch(query)) {
+            taskMetrics.countSearchIndex();
+            List<SearchHit> hits = taskSearchIndex.search(query.trim(), status, priority);
+            return load(hits.stream().map(SearchHit::taskId).toList());
+        }
+        if ((status != null && !status.isEmpty()) || (priority != null && !priority.isEmpty()) || (query != null && !query.isBlank())) {
+            taskMetrics.countSearchTasks();
+        }
+        return candidates(status, priority);
+    }
+
+    private static List<UUID> pageOf(List<SearchHit> hits, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        return hits.subList(from, to).stream().map(SearchHit::taskId).toList();
+    }
+
+    private List<TaskEntity> load(List<UUID> ids) {
+        return ids.stream().map(store::get).filter(Objects::nonNull).toList();
+    }
+
+    // The WHERE clause of the JPA queries: status IN, priority IN and a case-insensitive title substring
+    private record Filter(Set<TaskEntity.Status> status, Set<TaskEntity.Priority> priority, String query,
+                          Predicate<TaskEntity> seek) {
+        static final Filter NONE = new Filter(null, null, null);
+
+        Filter(List<TaskEntity.Status> status, List<TaskEntity.Priority> priority, String query) {
+            this(status != null && !status.isEmpty() ? Set.copyOf(status) : null,
+                    priority != null && !priority.isEmpty() ? Set.copyOf(priority) : null,
+                    query != null && !query.isBlank() ? query.trim().toLowerCase() : null,
+                    null);
+        }
+
+        Filter and(Predicate<TaskEntity> condition) {
+            return new Filter(status, priority, query, condition);
+        }
+
+        boolean matches(TaskEntity task) {
+            return (status == null || status.contains(task.getStatus()))
+                    && (priority == null || priority.contains(task.getPriority()))
+                    && (query == null || task.getTitle().toLowerCase().contains(query))
+                    && (seek == null || seek.test(task));
+        }
+    }
+}
@@ -0,0 +1,509 @@
+package com.tickmate.backend.service.memory;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.entity.TaskImportEntity;
+import com.tickmate.backend.domain.entity.TaskTombstoneEntity;
+import com.tickmate.backend.domain.pagination.TaskCursor;
+import com.tickmate.backend.domain.stats.TaskCountRow;
+import com.tickmate.backend.domain.stats.TaskDueCountRow;
+import com.tickmate.backend.exception.InvalidCursorException;
+import com.tickmate.backend.service.TaskChangeFeed;
+import com.tickmate.backend.service.TaskScanSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Tasks held in memory for the {@code memory} storage engine, with a primary-key map, per-status and
+ * per-priority indexes and (dueDate, id), (createdAt, id) and (changeSeq, id) ordered indexes, plus the
+ * tombstones of deleted and archived tasks for the change feed. Writes go to the {@link TaskLog} first and are
+ * applied to the maps after, one writer at a time; reads take no lock. Each write takes the next change-feed
+ * position, which becomes visible to feed reads once all of the write is applied. Stored tasks are never
+ * modified in place, a write replaces them, so the instances handed out can be read without copying and
+ * must be treated as read-only.
+ */
+@Component
+@ConditionalOnProperty(name = "tickmate.storage.engine", havingValue = "memory")
+public class MemoryTaskStore implements TaskScanSource {
+    private static final Logger log = LoggerFactory.getLogger(MemoryTaskStore.class);
+    private static final Set<TaskEntity.Status> OPEN = Set.of(TaskEntity.Status.PENDING, TaskEntity.Status.IN_PROGRESS);
+
+    // Ascending key order of the cursor scans: NULLs last, then id; descending is the exact reverse
+    private static final Comparator<TaskEntity> BY_DUE_DATE = Comparator
+            .comparing(TaskEntity::getDueDate, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(TaskEntity::getId);
+    private static final Comparator<TaskEntity> BY_CREATED_AT = Comparator
+            .comparing(TaskEntity::getCreatedAt)
+            .thenComparing(TaskEntity::getId);
+    private static final Comparator<TaskEntity> BY_UPDATED_AT = Comparator
+            .comparing(TaskEntity::getUpdatedAt)
+            .thenComparing(TaskEntity::getId);
+
+    private final TaskLog taskLog;
+    private final long snapshotAfter;
+
+    private final Map<UUID, TaskEntity> tasks = new ConcurrentHashMap<>();
+    private final Map<TaskEntity.Status, Map<UUID, TaskEntity>> byStatus = new EnumMap<>(TaskEntity.Status.class);
+    private final Map<TaskEntity.Priority, Map<UUID, TaskEntity>> byPriority = new EnumMap<>(TaskEntity.Priority.class);
+    private final NavigableSet<TaskEntity> byDueDate = new ConcurrentSkipListSet<>(BY_DUE_DATE);
+    private final NavigableSet<TaskEntity> byCreatedAt = new ConcurrentSkipListSet<>(BY_CREATED_AT);
+    private final NavigableSet<TaskEntity> byChangeSeq = new ConcurrentSkipListSet<>(TaskChangeFeed.TASK_ORDER);
+    private final Map<UUID, TaskTombstoneEntity> tombstones = new ConcurrentHashMap<>();
+    private final NavigableSet<TaskTombstoneEntity> tombstonesByChangeSeq = new ConcurrentSkipListSet<>(TaskChangeFeed.TOMBSTONE_ORDER);
+    private final Map<UUID, TaskEntity> archived = new ConcurrentHashMap<>();
+    private final Map<String, TaskImportEntity> imports = new ConcurrentHashMap<>();
+
+    // Lock rather than synchronized so writers on virtual threads never pin their carrier
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Only one snapshot at a time; writes carry on while it is written
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    // Last change-feed position taken, and the last one whose write is fully applied
+    private long changeSeq;
+    private volatile long visibleChangeSeq;
+
+    public MemoryTaskStore(@Value("${tickmate.storage.memory.directory:data/tasks}") Path directory,
+                           @Value("${tickmate.storage.memory.segment-size:64MB}") DataSize segmentSize,
+                           @Value("${tickmate.storage.memory.sync-writes:false}") boolean syncWrites,
+                           @Value("${tickmate.storage.memory.snapshot-after:64MB}") DataSize snapshotAfter) {
+        this.taskLog = new TaskLog(directory, segmentSize.toBytes(), syncWrites);
+        this.snapshotAfter = snapshotAfter.toBytes();
+        for (TaskEntity.Status status : TaskEntity.Status.values()) {
+            byStatus.put(status, new ConcurrentHashMap<>());
+        }
+        for (TaskEntity.Priority priority : TaskEntity.Priority.values()) {
+            byPriority.put(priority, new ConcurrentHashMap<>());
+        }
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        long start = System.nanoTime();
+        taskLog.recover(this::apply);
+        visibleChangeSeq = changeSeq;
+        log.info("Task store recovered: {} tasks, {} archived in {} ms",
+                tasks.size(), archived.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            taskLog.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public TaskEntity get(UUID id) {
+        return tasks.get(id);
+    }
+
+    public TaskEntity getArchived(UUID id) {
+        return archived.get(id);
+    }
+
+    public TaskImportEntity getImportProgress(String importId) {
+        return imports.get(importId);
+    }
+
+    public int size() {
+        return tasks.size();
+    }
+
+    public Collection<TaskEntity> tasks() {
+        return tasks.values();
+    }
+
+    public Collection<TaskEntity> archivedTasks() {
+        return archived.values();
+    }
+
+    public Collection<TaskEntity> withStatus(TaskEntity.Status status) {
+        return byStatus.get(status).values();
+    }
+
+    public Collection<TaskEntity> withPriority(TaskEntity.Priority priority) {
+        return byPriority.get(priority).values();
+    }
+
+    // Tasks in (dueDate, id) order with NULLs last, or the exact reverse
+    public NavigableSet<TaskEntity> byDueDate(Sort.Direction direction) {
+        return direction.isAscending() ? byDueDate : byDueDate.descendingSet();
+    }
+
+    // Tasks in (createdAt, id) order, or the exact reverse
+    public NavigableSet<TaskEntity> byCreatedAt(Sort.Direction direction) {
+        return direction.isAscending() ? byCreatedAt : byCreatedAt.descendingSet();
+    }
+
+    // Highest change-feed position whose write is fully applied; one feed read uses one value for both scans
+    public long visibleChangeSeq() {
+        return visibleChangeSeq;
+    }
+
+    // Change feed: up to limit tasks after the (changeSeq, id) position and up to upTo, in that order
+    public List<TaskEntity> changedAfter(long afterSeq, UUID afterId, long upTo, int limit) {
+        TaskEntity probe = TaskEntity.builder().id(afterId).changeSeq(afterSeq).build();
+        List<TaskEntity> batch = new ArrayList<>(Math.min(limit, 1024));
+        for (TaskEntity task : byChangeSeq.tailSet(probe, false)) {
+            if (batch.size() == limit || TaskChangeFeed.seqOf(task) > upTo) {
+                break;
+            }
+            batch.add(task);
+        }
+        return batch;
+    }
+
+    // Change feed: up to limit tombstones after the (changeSeq, taskId) position and up to upTo, in that order
+    public List<TaskTombstoneEntity> deletedAfter(long afterSeq, UUID afterId, long upTo, int limit) {
+        TaskTombstoneEntity probe = TaskTombstoneEntity.builder().taskId(afterId).changeSeq(afterSeq).build();
+        List<TaskTombstoneEntity> batch = new ArrayList<>(Math.min(limit, 1024));
+        for (TaskTombstoneEntity tombstone : tombstonesByChangeSeq.tailSet(probe, false)) {
+            if (batch.size() == limit || tombstone.getChangeSeq() > upTo) {
+                break;
+            }
+            batch.add(tombstone);
+        }
+        return batch;
+    }
+
+    // Key order of a cursor scan over one of the TaskCursor properties
+    public static Comparator<TaskEntity> keyOrder(String property, Sort.Direction direction) {
+        Comparator<TaskEntity> order = switch (property) {
+            case "dueDate" -> BY_DUE_DATE;
+            case "createdAt" -> BY_CREATED_AT;
+            case "updatedAt" -> BY_UPDATED_AT;
+            default -> throw new InvalidCursorException("Unsupported cursor sort property: " + property);
+        };
+        return direction.isAscending() ? order : order.reversed();
+    }
+
+    // A stand-in task at the cursor's position, to seek the ordered indexes and compare against
+    public static TaskEntity probe(TaskCursor cursor) {
+        TaskEntity probe = TaskEntity.builder().id(cursor.id()).build();
+        switch (cursor.property()) {
+            case "dueDate" -> probe.setDueDate(cursor.value());
+            case "createdAt" -> probe.setCreatedAt(cursor.value());
+            case "updatedAt" -> probe.setUpdatedAt(cursor.value());
+            default -> throw new InvalidCursorException("Unsupported cursor sort property: " + cursor.property());
+        }
+        return probe;
+    }
+
+    /**
+     * Runs one write: the changes the work makes through the {@link Writer} are appended to the log as a single
+     * frame and then applied, all under the write lock, so a read-modify-write sees no concurrent change.
+     * Readers may observe the changes of a multi-task write one task at a time.
+     */
+    public <T> T write(Function<Writer, T> work) {
+        writeLock.lock();
+        try {
+            Writer writer = new Writer();
+            T result = work.apply(writer);
+            if (!writer.entries.isEmpty()) {
+                taskLog.append(writer.entries);
+                writer.entries.forEach(this::apply);
+                visibleChangeSeq = changeSeq;
+            }
+            return result;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public final class Writer {
+        private final List<TaskLog.Entry> entries = new ArrayList<>();
+        // This write's own changes, visible to its later reads; a null value is a removed task
+        private final Map<UUID, TaskEntity> pending = new LinkedHashMap<>();
+        // Change-feed position of everything this write changes
+        private final long seq = changeSeq + 1;
+
+        private Writer() {
+        }
+
+        public TaskEntity get(UUID id) {
+            return pending.containsKey(id) ? pending.get(id) : tasks.get(id);
+        }
+
+        // Takes the task as it is to be stored; its changeSeq is set here
+        public void put(TaskEntity task) {
+            task.setChangeSeq(seq);
+            entries.add(new TaskLog.Put(task));
+            pending.put(task.getId(), task);
+        }
+
+        public TaskEntity delete(UUID id) {
+            TaskEntity existing = get(id);
+            if (existing != null) {
+                entries.add(new TaskLog.Delete(id));
+                entries.add(tombstone(id));
+                pending.put(id, null);
+            }
+            return existing;
+        }
+
+        public TaskEntity archive(UUID id) {
+            TaskEntity existing = get(id);
+            if (existing != null) {
+                entries.add(new TaskLog.Archive(id));
+                entries.add(tombstone(id));
+                pending.put(id, null);
+            }
+            return existing;
+        }
+
+        public void putImportProgress(TaskImportEntity progress) {
+            entries.add(new TaskLog.ImportProgress(progress));
+        }
+
+        // Drops the tombstones of tasks deleted before the instant and returns how many there are
+        public int purgeTombstones(LocalDateTime deletedBefore) {
+            int purged = (int) tombstones.values().stream()
+                    .filter(tombstone -> tombstone.getDeletedAt().isBefore(deletedBefore))
+                    .count();
+            if (purged > 0) {
+                entries.add(new TaskLog.PurgeTombstones(deletedBefore));
+            }
+            return purged;
+        }
+
+        private TaskLog.Tombstone tombstone(UUID id) {
+            return new TaskLog.Tombstone(TaskTombstoneEntity.builder()
+                    .taskId(id)
+                    .changeSeq(seq)
+                    .deletedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickmate.storage.memory.force-interval:1s}")
+    public void force() {
+        taskLog.force();
+    }
+
+    @Scheduled(fixedDelayString = "${tickmate.storage.memory.snapshot-check-interval:30s}")
+    public void snapshotIfDue() {
+        if (taskLog.bytesSinceSnapshot() >= snapshotAfter) {
+            snapshot();
+        }
+    }
+
+    // Rolls the log and writes the state as of that point; only copying the value lists holds up writers
+    public void snapshot() {
+        if (!snapshotLock.tryLock()) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            long generation;
+            long covered;
+            List<TaskEntity> hot;
+            List<TaskEntity> cold;
+            List<TaskImportEntity> progress;
+            List<TaskTombstoneEntity> traces;
+            long lastChangeSeq;
+
+            writeLock.lock();
+            try {
+                covered = taskLog.bytesSinceSnapshot();
+                generation = taskLog.roll();
+                hot = new ArrayList<>(tasks.values());
+                cold = new ArrayList<>(archived.values());
+                progress = new ArrayList<>(imports.values());
+                traces = new ArrayList<>(tombstones.values());
+                lastChangeSeq = changeSeq;
+            } finally {
+                writeLock.unlock();
+            }
+
+            Stream<TaskLog.Entry> entries = Stream.of(
+                    hot.stream().map(TaskLog.Put::new),
+                    cold.stream().map(TaskLog.Archived::new),
+                    progress.stream().map(TaskLog.ImportProgress::new),
+                    traces.stream().map(TaskLog.Tombstone::new),
+                    Stream.of(new TaskLog.ChangeSeq(lastChangeSeq))
+            ).flatMap(Function.identity());
+            taskLog.writeSnapshot(generation, entries::iterator);
+
+            writeLock.lock();
+            try {
+                taskLog.snapshotWritten(covered);
+            } finally {
+                writeLock.unlock();
+            }
+            log.info("Task store snapshot {} written: {} tasks, {} archived in {} ms",
+                    generation, hot.size(), cold.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write a task store snapshot", ex);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public List<TaskCountRow> countTasks() {
+        record Group(TaskEntity.Status status, TaskEntity.Priority priority) {
+        }
+
+        Map<Group, Long> groups = new HashMap<>();
+        for (TaskEntity task : tasks.values()) {
+            groups.merge(new Group(task.getStatus(), task.getPriority()), 1L, Long::sum);
+        }
+
+        List<TaskCountRow> rows = new ArrayList<>(groups.size());
+        groups.forEach((group, count) -> rows.add(new TaskCountRow(group.status(), group.priority(), count)));
+        return rows;
+    }
+
+    @Override
+    public List<TaskDueCountRow> countOpenTasksDueBefore(LocalDateTime before) {
+        Map<TaskEntity.Priority, Long> counts = new EnumMap<>(TaskEntity.Priority.class);
+        for (TaskEntity task : byDueDate) {
+            if (task.getDueDate() == null || !task.getDueDate().isBefore(before)) {
+                break;
+            }
+            if (OPEN.contains(task.getStatus())) {
+                counts.merge(task.getPriority(), 1L, Long::sum);
+            }
+        }
+        List<TaskDueCountRow> rows = new ArrayList<>(counts.size());
+        counts.forEach((priority, count) -> rows.add(new TaskDueCountRow(priority, count)));
+        return rows;
+    }
+
+    @Override
+    public List<TaskDueCountRow> countOpenTasksDue(LocalDateTime from, LocalDateTime to) {
+        record Group(TaskEntity.Priority priority, LocalDateTime dueDate) {
+        }
+
+        Map<Group, Long> groups = new HashMap<>();
+        TaskEntity start = TaskEntity.builder().id(new UUID(Long.MIN_VALUE, Long.MIN_VALUE)).dueDate(from).build();
+        for (TaskEntity task : byDueDate.tailSet(start, true)) {
+            if (task.getDueDate() == null || !task.getDueDate().isBefore(to)) {
+                break;
+            }
+            if (OPEN.contains(task.getStatus())) {
+                groups.merge(new Group(task.getPriority(), task.getDueDate()), 1L, Long::sum);
+            }
+        }
+        List<TaskDueCountRow> rows = new ArrayList<>(groups.size());
+        groups.forEach((group, count) -> rows.add(new TaskDueCountRow(group.priority(), group.dueDate(), count)));
+        return rows;
+    }
+
+    @Override
+    public List<TaskEntity> scrollTasks(TaskCursor after, int limit) {
+        NavigableSet<TaskEntity> ordered = after == null ? byCreatedAt : byCreatedAt.tailSet(probe(after), false);
+        List<TaskEntity> batch = new ArrayList<>(Math.min(limit, tasks.size()));
+        for (TaskEntity task : ordered) {
+            if (batch.size() == limit) {
+                break;
+            }
+            batch.add(task);
+        }
+        return batch;
+    }
+
+    @Override
+    public List<TaskEntity> scrollOpenTasksDue(LocalDateTime from, LocalDateTime to, TaskCursor after, int limit) {
+        TaskEntity start = after != null
+                ? probe(after)
+                : TaskEntity.builder().id(new UUID(Long.MIN_VALUE, Long.MIN_VALUE)).dueDate(from).build();
+        List<TaskEntity> batch = new ArrayList<>(Math.min(limit, 1024));
+        for (TaskEntity task : byDueDate.tailSet(start, after == null)) {
+            if (batch.size() == limit || task.getDueDate() == null || !task.getDueDate().isBefore(to)) {
+                break;
+            }
+            if (OPEN.contains(task.getStatus())) {
+                batch.add(task);
+            }
+        }
+        return batch;
+    }
+
+    // Called under the write lock, or before the store is published during recovery
+    private void apply(TaskLog.Entry entry) {
+        switch (entry) {
+            case TaskLog.Put put -> {
+                unindex(tasks.put(put.task().getId(), put.task()));
+                index(put.task());
+                changeSeq = Math.max(changeSeq, TaskChangeFeed.seqOf(put.task()));
+            }
+            case TaskLog.Delete delete -> unindex(tasks.remove(delete.id()));
+            case TaskLog.Archive archive -> {
+                TaskEntity task = tasks.remove(archive.id());
+                unindex(task);
+                if (task != null) {
+                    archived.put(task.getId(), task);
+                }
+            }
+            case TaskLog.Archived cold -> archived.put(cold.task().getId(), cold.task());
+            case TaskLog.ImportProgress importProgress ->
+                    imports.put(importProgress.progress().getImportId(), importProgress.progress());
+            case TaskLog.Tombstone trace -> {
+                TaskTombstoneEntity tombstone = trace.tombstone();
+                TaskTombstoneEntity replaced = tombstones.put(tombstone.getTaskId(), tombstone);
+                if (replaced != null) {
+                    tombstonesByChangeSeq.remove(replaced);
+                }
+                tombstonesByChangeSeq.add(tombstone);
+                changeSeq = Math.max(changeSeq, tombstone.getChangeSeq());
+            }
+            case TaskLog.ChangeSeq last -> changeSeq = Math.max(changeSeq, last.value());
+            case TaskLog.PurgeTombstones purge -> tombstones.values().removeIf(tombstone -> {
+                boolean expired = tombstone.getDeletedAt().isBefore(purge.deletedBefore());
+                if (expired) {
+                    tombstonesByChangeSeq.remove(tombstone);
+                }
+                return expired;
+            });
+        }
+    }
+
+    private void index(TaskEntity task) {
+        byStatus.get(task.getStatus()).put(task.getId(), task);
+        byPriority.get(task.getPriority()).put(task.getId(), task);
+        byDueDate.add(task);
+        byCreatedAt.add(task);
+        byChangeSeq.add(task);
+    }
+
+    private void unindex(TaskEntity task) {
+        if (task == null) {
+            return;
+        }
+        byStatus.get(task.getStatus()).remove(task.getId());
+        byPriority.get(task.getPriority()).remove(task.getId());
+        byDueDate.remove(task);
+        byCreatedAt.remove(task);
+        byChangeSeq.remove(task);
+    }
+}
@@ -0,0 +1,417 @@
+package com.tickmate.backend.service.memory;
+
+import com.tickmate.backend.domain.codec.TaskBinaryCodec;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.entity.TaskImportEntity;
+import com.tickmate.backend.domain.entity.TaskTombstoneEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable half of the in-memory engine: an append-only log of task writes in memory-mapped segment files,
+ * plus snapshots that let everything before them be dropped.
+ * <p>
+ * Every write is one frame {@code [int length][int crc32c][entries]}, so the entries of a batch or an import
+ * chunk are replayed all or not at all. Segments are {@code log-<generation>.bin}; a frame that does not fit
+ * the current segment starts the next generation. {@code snapshot-<generation>.bin} holds the complete state
+ * as of the start of that generation's log, so recovery loads the newest snapshot and replays the logs from
+ * its generation on, stopping at the first torn or corrupt frame.
+ * <p>
+ * Not thread-safe; the store calls {@link #append} and {@link #roll} under its write lock.
+ */
+public class TaskLog implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(TaskLog.class);
+    private static final Pattern FILE_NAME = Pattern.compile("(log|snapshot)-(\\d{16})\\.bin");
+    private static final int MAGIC = 0x544D4C31; // "TML1"
+    private static final int HEADER_SIZE = 4;
+    private static final int FRAME_HEADER_SIZE = 8;
+    private static final int SNAPSHOT_FRAME_ENTRIES = 1024;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte ARCHIVE = 3;
+    private static final byte ARCHIVED = 4;
+    private static final byte IMPORT_PROGRESS = 5;
+    // A PUT followed by the task's changeSeq; logs written before the change feed hold plain PUTs
+    private static final byte PUT_CHANGED = 6;
+    private static final byte TOMBSTONE = 7;
+    private static final byte CHANGE_SEQ = 8;
+    private static final byte PURGE_TOMBSTONES = 9;
+
+    public sealed interface Entry permits Put, Delete, Archive, Archived, ImportProgress, Tombstone, ChangeSeq, PurgeTombstones {
+    }
+
+    // Inserts or replaces a task
+    public record Put(TaskEntity task) implements Entry {
+    }
+
+    public record Delete(UUID id) implements Entry {
+    }
+
+    // Moves a task to the archive
+    public record Archive(UUID id) implements Entry {
+    }
+
+    // An archived task, as written by snapshots
+    public record Archived(TaskEntity task) implements Entry {
+    }
+
+    public record ImportProgress(TaskImportEntity progress) implements Entry {
+    }
+
+    // Change-feed trace of a deleted or archived task
+    public record Tombstone(TaskTombstoneEntity tombstone) implements Entry {
+    }
+
+    // The last change-feed position taken, as written by snapshots, so positions are never reused after a purge
+    public record ChangeSeq(long value) implements Entry {
+    }
+
+    public record PurgeTombstones(LocalDateTime deletedBefore) implements Entry {
+    }
+
+    private final Path directory;
+    private final long segmentSize;
+    private final boolean syncWrites;
+    private final Encoder encoder = new Encoder();
+
+    private long generation;
+    private FileChannel channel;
+    private volatile MappedByteBuffer segment;
+    private volatile long bytesSinceSnapshot;
+
+    public TaskLog(Path directory, long segmentSize, boolean syncWrites) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncWrites = syncWrites;
+    }
+
+    // Replays the newest snapshot and every log after it into the consumer, then opens the log for appends
+    public void recover(Consumer<Entry> consumer) throws IOException {
+        Files.createDirectories(directory);
+
+        TreeMap<Long, Path> logs = new TreeMap<>();
+        TreeMap<Long, Path> snapshots = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher name = FILE_NAME.matcher(file.getFileName().toString());
+                if (name.matches()) {
+                    (name.group(1).equals("log") ? logs : snapshots).put(Long.parseLong(name.group(2)), file);
+                } else if (file.getFileName().toString().endsWith(".tmp")) {
+                    // A snapshot that was never completed
+                    Files.delete(file);
+                }
+            }
+        }
+
+        long from = 0;
+        if (!snapshots.isEmpty()) {
+            from = snapshots.lastKey();
+            try (FileChannel snapshot = FileChannel.open(snapshots.lastEntry().getValue(), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = snapshot.map(FileChannel.MapMode.READ_ONLY, 0, snapshot.size());
+                if (replay(buffer, consumer) != buffer.limit()) {
+                    throw new IOException("Corrupt task snapshot " + snapshots.lastEntry().getValue());
+                }
+            }
+        }
+
+        generation = from;
+        int end = HEADER_SIZE;
+        boolean torn = false;
+        for (var entry : logs.tailMap(from, true).entrySet()) {
+            if (torn) {
+                // Nothing after a torn frame is trusted: it can only be there if the machine lost writes in between
+                log.warn("Discarding task log {} written after a torn frame", entry.getValue());
+                Files.delete(entry.getValue());
+                continue;
+            }
+            generation = entry.getKey();
+            try (FileChannel segmentChannel = FileChannel.open(entry.getValue(), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = segmentChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentChannel.size());
+                end = replay(buffer, consumer);
+                torn = !endsClean(buffer, end);
+                bytesSinceSnapshot += end;
+            }
+            if (torn) {
+                log.warn("Task log {} ends in a torn frame at offset {}; later writes are discarded", entry.getValue(), end);
+            }
+        }
+
+        if (logs.containsKey(generation)) {
+            open(generation, end, torn);
+        } else {
+            open(generation, HEADER_SIZE, false);
+        }
+        // Left behind when the process stopped between writing a snapshot and removing what it replaced
+        for (Path old : logs.headMap(from).values()) {
+            Files.deleteIfExists(old);
+        }
+        for (Path old : snapshots.headMap(from).values()) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    // Writes the entries as one frame; they are durable once the segment is forced
+    public void append(List<Entry> entries) {
+        ByteBuffer frame = encoder.frame(entries);
+        int length = frame.remaining();
+        try {
+            if (segment.remaining() < length) {
+                roll(length);
+            }
+            segment.put(frame);
+            bytesSinceSnapshot += length;
+            if (syncWrites) {
+                segment.force();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot append to the task log", ex);
+        }
+    }
+
+    // Starts the next generation and returns its number; a snapshot of the state at this point covers all earlier logs
+    public long roll() throws IOException {
+        roll(0);
+        return generation;
+    }
+
+    public long bytesSinceSnapshot() {
+        return bytesSinceSnapshot;
+    }
+
+    // Flushes appended frames to disk; safe to call from another thread while the store appends
+    public void force() {
+        segment.force();
+    }
+
+    /**
+     * Writes the state as of the start of {@code generation} (as returned by {@link #roll}) and removes the files
+     * it replaces. The snapshot becomes visible in one atomic rename, after it has been forced to disk.
+     */
+    public void writeSnapshot(long generation, Iterable<? extends Entry> entries) throws IOException {
+        Path tmp = directory.resolve(snapshotName(generation) + ".tmp");
+        try (FileChannel file = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(file), 256 * 1024);
+            out.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).array());
+
+            // Its own encoder, since appends go on while the snapshot is written
+            Encoder snapshotEncoder = new Encoder();
+            List<Entry> batch = new ArrayList<>(SNAPSHOT_FRAME_ENTRIES);
+            for (Entry entry : entries) {
+                batch.add(entry);
+                if (batch.size() == SNAPSHOT_FRAME_ENTRIES) {
+                    write(out, snapshotEncoder.frame(batch));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(out, snapshotEncoder.frame(batch));
+            }
+            out.flush();
+            file.force(true);
+        }
+        Files.move(tmp, directory.resolve(snapshotName(generation)), StandardCopyOption.ATOMIC_MOVE);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher name = FILE_NAME.matcher(file.getFileName().toString());
+                if (name.matches() && Long.parseLong(name.group(2)) < generation) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    // Bytes appended to the logs the snapshot replaced no longer count towards the next one
+    public void snapshotWritten(long bytesCovered) {
+        bytesSinceSnapshot = Math.max(0, bytesSinceSnapshot - bytesCovered);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            segment.force();
+            channel.close();
+        }
+    }
+
+    private static void write(OutputStream out, ByteBuffer frame) throws IOException {
+        out.write(frame.array(), frame.arrayOffset() + frame.position(), frame.remaining());
+    }
+
+    private void roll(int minimumSize) throws IOException {
+        if (segment != null) {
+            segment.force();
+            channel.close();
+        }
+        generation++;
+        open(generation, HEADER_SIZE, false, Math.max(segmentSize, minimumSize + HEADER_SIZE));
+    }
+
+    private void open(long generation, int position, boolean clearTail) throws IOException {
+        Path file = directory.resolve(logName(generation));
+        long size = Files.exists(file) ? Math.max(Files.size(file), segmentSize) : segmentSize;
+        open(generation, position, clearTail, size);
+    }
+
+    private void open(long generation, int position, boolean clearTail, long size) throws IOException {
+        this.generation = generation;
+        channel = FileChannel.open(directory.resolve(logName(generation)),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.putInt(0, MAGIC);
+        if (clearTail) {
+            // Zero what follows the last good frame so no stale frame beyond it is ever replayed
+            for (int i = position; i < buffer.limit(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        buffer.position(position);
+        segment = buffer;
+    }
+
+    // Applies the frames of one file and returns the offset after the last good one
+    private int replay(ByteBuffer buffer, Consumer<Entry> consumer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE) {
+            return buffer.limit();
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a task log file");
+        }
+
+        CRC32C crc = new CRC32C();
+        int position = HEADER_SIZE;
+        while (position + FRAME_HEADER_SIZE <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + FRAME_HEADER_SIZE + length > buffer.limit()) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(position + FRAME_HEADER_SIZE, length));
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+
+            ByteBuffer frame = buffer.slice(position + FRAME_HEADER_SIZE, length);
+            while (frame.hasRemaining()) {
+                consumer.accept(decode(frame));
+            }
+            position += FRAME_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    // A clean end is the end of the file or unwritten (zero) space; anything else is a frame that failed its checks
+    private static boolean endsClean(ByteBuffer buffer, int end) {
+        return end + FRAME_HEADER_SIZE > buffer.limit() || buffer.getInt(end) == 0;
+    }
+
+    private static Entry decode(ByteBuffer frame) throws IOException {
+        byte type = frame.get();
+        return switch (type) {
+            case PUT -> new Put(TaskBinaryCodec.getTask(frame));
+            case PUT_CHANGED -> {
+                TaskEntity task = TaskBinaryCodec.getTask(frame);
+                task.setChangeSeq(frame.getLong());
+                yield new Put(task);
+            }
+            case DELETE -> new Delete(TaskBinaryCodec.getUuid(frame));
+            case ARCHIVE -> new Archive(TaskBinaryCodec.getUuid(frame));
+            case ARCHIVED -> new Archived(TaskBinaryCodec.getTask(frame));
+            case IMPORT_PROGRESS -> new ImportProgress(TaskImportEntity.builder()
+                    .importId(TaskBinaryCodec.getString(frame))
+                    .position(frame.getLong())
+                    .imported(frame.getLong())
+                    .rejected(frame.getLong())
+                    .completed(frame.get() == 1)
+                    .updatedAt(TaskBinaryCodec.getDate(frame))
+                    .build());
+            case TOMBSTONE -> new Tombstone(TaskTombstoneEntity.builder()
+                    .taskId(TaskBinaryCodec.getUuid(frame))
+                    .changeSeq(frame.getLong())
+                    .deletedAt(TaskBinaryCodec.getDate(frame))
+                    .build());
+            case CHANGE_SEQ -> new ChangeSeq(frame.getLong());
+            case PURGE_TOMBSTONES -> new PurgeTombstones(TaskBinaryCodec.getDate(frame));
+            default -> throw new IOException("Unknown task log entry type " + type);
+        };
+    }
+
+    private static String logName(long generation) {
+        return String.format("log-%016d.bin", generation);
+    }
+
+    private static String snapshotName(long generation) {
+        return String.format("snapshot-%016d.bin", generation);
+    }
+
+    // Reusable frame buffer: a frame is the header followed by its entries, grown as a batch needs
+    private static final class Encoder {
+        private final CRC32C crc = new CRC32C();
+        private final TaskBinaryCodec.Writer out = new TaskBinaryCodec.Writer(64 * 1024);
+
+        ByteBuffer frame(List<Entry> entries) {
+            out.clear().putInt(0).putInt(0);
+            for (Entry entry : entries) {
+                encode(entry);
+            }
+            ByteBuffer frame = out.buffer();
+            int payload = frame.position() - FRAME_HEADER_SIZE;
+            crc.reset();
+            crc.update(frame.array(), FRAME_HEADER_SIZE, payload);
+            frame.putInt(0, payload).putInt(4, (int) crc.getValue());
+            return frame.flip();
+        }
+
+        private void encode(Entry entry) {
+            switch (entry) {
+                case Put put -> out.putByte(PUT_CHANGED).putTask(put.task())
+                        .putLong(put.task().getChangeSeq() != null ? put.task().getChangeSeq() : 0);
+                case Delete delete -> out.putByte(DELETE).putUuid(delete.id());
+                case Archive archive -> out.putByte(ARCHIVE).putUuid(archive.id());
+                case Archived archived -> out.putByte(ARCHIVED).putTask(archived.task());
+                case ImportProgress importProgress -> {
+                    TaskImportEntity progress = importProgress.progress();
+                    out.putByte(IMPORT_PROGRESS)
+                            .putString(progress.getImportId())
+                            .putLong(progress.getPosition())
+                            .putLong(progress.getImported())
+                            .putLong(progress.getRejected())
+                            .putByte((byte) (progress.isCompleted() ? 1 : 0))
+                            .putDate(progress.getUpdatedAt());
+                }
+                case Tombstone tombstone -> out.putByte(TOMBSTONE)
+                        .putUuid(tombstone.tombstone().getTaskId())
+                        .putLong(tombstone.tombstone().getChangeSeq())
+                        .putDate(tombstone.tombstone().getDeletedAt());
+                case ChangeSeq changeSeq -> out.putByte(CHANGE_SEQ).putLong(changeSeq.value());
+                case PurgeTombstones purge -> out.putByte(PURGE_TOMBSTONES).putDate(purge.deletedBefore());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.tickmate.backend.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// Which query path served GET /api/tasks: plain findAll, the trigram index or the filtered searchTasks query
+@Component
+public class TaskMetrics {
+    private final Counter findAll;
+    private final Counter searchIndex;
+    private final Counter searchTasks;
+
+    public TaskMetrics(MeterRegistry meterRegistry) {
+        this.findAll = searchBranch(meterRegistry, "findAll");
+        this.searchIndex = searchBranch(meterRegistry, "searchIndex");
+        this.searchTasks = searchBranch(meterRegistry, "searchTasks");
+    }
+
+    public void countFindAll() {
+        findAll.increment();
+    }
+
+    public void countSearchIndex() {
+        searchIndex.increment();
+    }
+
+    public void countSearchTasks() {
+        searchTasks.increment();
+    }
+
+    private static Counter searchBranch(MeterRegistry meterRegistry, String branch) {
+        return Counter.builder("tickmate.tasks.search")
+                .description("getTasks calls per query branch")
+                .tag("branch", branch)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.tickmate.backend.service.routing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Tells {@link ReplicaReads} which client a request comes from, and pins a client to the primary once one of its
+ * writes completes. Clients are told apart by the {@code X-Client-Id} header, else by their remote address.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaReads replicaReads;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        replicaReads.bindClient(clientKey(request));
+        return true;
+    }
+
+    // The async part of the request runs on another thread
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        replicaReads.unbindClient();
+    }
+
+    // Pinned after the write has committed, so the window covers the replicas catching up with it
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        replicaReads.unbindClient();
+        if (!READ_METHODS.contains(request.getMethod())) {
+            replicaReads.pin(clientKey(request));
+        }
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+}
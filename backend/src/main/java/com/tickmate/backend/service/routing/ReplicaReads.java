@@ -0,0 +1,163 @@
+package com.tickmate.backend.service.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Decides which reads may be served by a read replica. Without a {@link ReplicaRoutingDataSource} (no replicas
+ * configured) every read simply runs against the one database.
+ * <p>
+ * Replicas lag the primary, so for pin-window after a write a client's reads stay on the primary (read-your-writes),
+ * and so does every point read of a task written that recently. Point reads only come here when the task cache is
+ * off; the cache is filled from the primary alone. A read that finds its replica unreachable marks it down and is
+ * retried once on the primary; the health check brings it back. Reads inside a transaction stay on the
+ * transaction's connection.
+ */
+@Component
+public class ReplicaReads {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaReads.class);
+
+    private final ReplicaRoutingDataSource dataSource;
+    private final Cache<String, Boolean> pinnedClients;
+    private final Cache<UUID, Boolean> recentlyWritten;
+    // The client of the request being served, bound by ReadYourWritesInterceptor
+    private final ThreadLocal<String> client = new ThreadLocal<>();
+    // Set once the request has committed to reading from the primary, see readsFromPrimary
+    private final ThreadLocal<Boolean> primaryOnly = new ThreadLocal<>();
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+    private final Counter failovers;
+
+    public ReplicaReads(ObjectProvider<ReplicaRoutingDataSource> dataSource,
+                        MeterRegistry meterRegistry,
+                        @Value("${tickmate.datasource.replica.pin-window:5s}") Duration pinWindow,
+                        @Value("${tickmate.datasource.replica.max-pinned-clients:100000}") long maxPinnedClients) {
+        this.dataSource = dataSource.getIfAvailable();
+        this.pinnedClients = Caffeine.newBuilder().maximumSize(maxPinnedClients).expireAfterWrite(pinWindow).build();
+        this.recentlyWritten = Caffeine.newBuilder().maximumSize(maxPinnedClients).expireAfterWrite(pinWindow).build();
+
+        this.primaryReads = Counter.builder("tickmate.datasource.reads")
+                .description("Routable reads by the database that served them")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        this.replicaReads = Counter.builder("tickmate.datasource.reads")
+                .description("Routable reads by the database that served them")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.failovers = Counter.builder("tickmate.datasource.replica.failovers")
+                .description("Replica reads retried on the primary after the replica failed")
+                .register(meterRegistry);
+        if (this.dataSource != null) {
+            Gauge.builder("tickmate.datasource.replicas.healthy", this.dataSource, ReplicaRoutingDataSource::healthyReplicaCount)
+                    .description("Read replicas that passed their last health check")
+                    .register(meterRegistry);
+        }
+    }
+
+    // A read that does not depend on one task, e.g. a listing
+    public <T> T read(Supplier<T> read) {
+        String current = client.get();
+        return route(current != null && pinnedClients.getIfPresent(current) != null, read);
+    }
+
+    // A point read of one task; a task written within the pin window is read from the primary by everyone
+    public <T> T read(UUID taskId, Supplier<T> read) {
+        String current = client.get();
+        boolean pinned = recentlyWritten.getIfPresent(taskId) != null
+                || current != null && pinnedClients.getIfPresent(current) != null;
+        return route(pinned, read);
+    }
+
+    /**
+     * Whether the current request's reads are answered by the primary, so that a response may be validated against
+     * {@code TaskChangeVersion}, which counts the primary's writes; a replica can lag it and must not be tagged with
+     * it. Once this returns true, the rest of the request's reads stay on the primary.
+     */
+    public boolean readsFromPrimary() {
+        if (dataSource == null) {
+            return true;
+        }
+        String current = client.get();
+        boolean primary = current != null && pinnedClients.getIfPresent(current) != null
+                || dataSource.healthyReplicaCount() == 0;
+        if (primary) {
+            primaryOnly.set(Boolean.TRUE);
+        }
+        return primary;
+    }
+
+    public void bindClient(String clientKey) {
+        client.set(clientKey);
+    }
+
+    public void unbindClient() {
+        client.remove();
+        primaryOnly.remove();
+    }
+
+    public void pin(String clientKey) {
+        if (dataSource != null) {
+            pinnedClients.put(clientKey, Boolean.TRUE);
+        }
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (dataSource != null) {
+            recentlyWritten.put(event.taskId(), Boolean.TRUE);
+        }
+    }
+
+    // Replicas start out healthy, so the first check waits an interval; with a scheduler pool it would otherwise
+    // race whatever else runs at startup
+    @Scheduled(fixedDelayString = "${tickmate.datasource.replica.health-check-interval:5s}",
+            initialDelayString = "${tickmate.datasource.replica.health-check-interval:5s}")
+    public void checkHealth() {
+        if (dataSource != null) {
+            dataSource.checkHealth();
+        }
+    }
+
+    private <T> T route(boolean pinned, Supplier<T> read) {
+        if (dataSource == null) {
+            return read.get();
+        }
+        int replica = pinned || primaryOnly.get() != null || TransactionSynchronizationManager.isActualTransactionActive()
+                ? -1
+                : dataSource.nextHealthyReplica();
+        if (replica < 0) {
+            primaryReads.increment();
+            return read.get();
+        }
+
+        try {
+            T result = dataSource.onReplica(replica, read);
+            replicaReads.increment();
+            return result;
+        } catch (DataAccessResourceFailureException | CannotCreateTransactionException ex) {
+            dataSource.markDown(replica, ex);
+            failovers.increment();
+            log.debug("Read on replica {} failed, retrying on the primary", replica, ex);
+            primaryReads.increment();
+            return read.get();
+        }
+    }
+}
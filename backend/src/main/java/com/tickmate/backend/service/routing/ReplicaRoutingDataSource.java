@@ -0,0 +1,122 @@
+package com.tickmate.backend.service.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+
+/**
+ * The application's DataSource when read replicas are configured: connections come from the primary unless the
+ * thread is inside {@link #onReplica}, which routes the connections taken meanwhile to one replica. Replicas are
+ * picked round-robin among those that passed their last health check; a replica that fails one is skipped until
+ * it passes again.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final int validationTimeoutSeconds;
+    // 1 while the replica at that index is considered healthy
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ThreadLocal<Integer> route = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, int validationTimeoutSeconds) {
+        this.replicas = List.copyOf(replicas);
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+            healthy.set(i, 1);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer replica = route.get();
+        return replica != null ? replica : PRIMARY;
+    }
+
+    // Runs the read with its connections taken from the given replica
+    public <T> T onReplica(int replica, Supplier<T> read) {
+        Integer outer = route.get();
+        route.set(replica);
+        try {
+            return read.get();
+        } finally {
+            if (outer != null) {
+                route.set(outer);
+            } else {
+                route.remove();
+            }
+        }
+    }
+
+    // The next healthy replica in round-robin order, or -1 when there is none
+    public int nextHealthyReplica() {
+        if (replicas.isEmpty()) {
+            return -1;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int candidate = (start + i) % replicas.size();
+            if (healthy.get(candidate) == 1) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    public int healthyReplicaCount() {
+        int count = 0;
+        for (int i = 0; i < healthy.length(); i++) {
+            count += healthy.get(i);
+        }
+        return count;
+    }
+
+    public void markDown(int replica, Throwable cause) {
+        if (healthy.getAndSet(replica, 0) == 1) {
+            log.warn("Read replica {} is down, its reads go to the primary: {}", replica, cause.toString());
+        }
+    }
+
+    // Takes and validates one connection per replica; the result decides whether reads are routed there
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            Exception failure = null;
+            try (Connection connection = replicas.get(i).getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    failure = new SQLException("Connection is not valid");
+                }
+            } catch (SQLException | RuntimeException ex) {
+                failure = ex;
+            }
+            if (failure != null) {
+                markDown(i, failure);
+            } else if (healthy.getAndSet(i, 1) == 0) {
+                log.info("Read replica {} is back up", i);
+            }
+        }
+    }
+}
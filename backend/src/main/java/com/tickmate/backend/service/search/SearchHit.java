@@ -0,0 +1,6 @@
+package com.tickmate.backend.service.search;
+
+import java.util.UUID;
+
+public record SearchHit(UUID taskId, double score) {
+}
@@ -0,0 +1,315 @@
+package com.tickmate.backend.service.search;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import com.tickmate.backend.domain.pagination.TaskCursor;
+import com.tickmate.backend.service.TaskScanSource;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process trigram inverted index over task titles, answering the same question as the
+ * {@code LOWER(title) LIKE %q%} query: the trigrams inside the query narrow the candidates, and each candidate's
+ * title is then checked to contain the query. Titles are also padded per word the way pg_trgm does it, which
+ * gives every hit a {@code word_similarity}-like score for callers that ask to rank by relevance.
+ * Kept in step with writes through {@link TaskChangedEvent}.
+ * <p>
+ * Stays off where the database has its own trigram index on titles (PostgreSQL with data-postgresql.sql). Elsewhere
+ * it is built in the background after startup and holds at most {@code max-tasks} tasks; callers run their own
+ * search until it is ready, for queries it has no trigram of, and for good once the store outgrows it.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // The sort property that asks for hits in relevance order instead of a column order
+    public static final String RELEVANCE = "relevance";
+
+    private final TaskScanSource taskScanSource;
+
+    @Value("${tickmate.search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tickmate.search.index.max-tasks:200000}")
+    private int maxTasks;
+
+    private final Map<String, Set<UUID>> titlePostings = new ConcurrentHashMap<>();
+    private final Map<UUID, IndexedTask> documents = new ConcurrentHashMap<>();
+
+    // Ids deleted while a rebuild is in flight, so the rebuild cannot resurrect them
+    private final Set<UUID> deletedDuringRebuild = ConcurrentHashMap.newKeySet();
+    // A lock rather than synchronized so virtual threads writing tasks do not pin their carrier
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Writes are indexed from the start of the rebuild until the index outgrows max-tasks or the rebuild fails
+    private volatile boolean active;
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+    private volatile boolean inDatabase;
+
+    public boolean isReady() {
+        return active && ready;
+    }
+
+    // Whether the index answers this query: it is ready and the query has a trigram to narrow the candidates with
+    public boolean canSearch(String query) {
+        return isReady() && !innerTrigrams(lowerCase(query).trim()).isEmpty();
+    }
+
+    // Whether the database searches titles with its own trigram index, and ranks them by relevance too
+    public boolean isInDatabase() {
+        return inDatabase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (taskScanSource.indexesTitles()) {
+            inDatabase = true;
+            log.info("Search index off: the database indexes task titles");
+            return;
+        }
+
+        active = true;
+        Thread.ofVirtual().name("search-index-rebuild").start(this::rebuild);
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        rebuilding = true;
+        try {
+            TaskCursor position = null;
+            List<TaskEntity> batch;
+            do {
+                batch = taskScanSource.scrollTasks(position, REBUILD_BATCH_SIZE);
+                for (TaskEntity task : batch) {
+                    if (!deletedDuringRebuild.contains(task.getId())) {
+                        index(task);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    position = TaskCursor.after(batch.get(batch.size() - 1), "createdAt", Sort.Direction.ASC);
+                }
+            } while (active && batch.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException ex) {
+            turnOff();
+            log.error("Search index rebuild failed, searches use the store", ex);
+            return;
+        } finally {
+            rebuilding = false;
+            deletedDuringRebuild.clear();
+        }
+
+        if (!active) {
+            return;
+        }
+        ready = true;
+        log.info("Search index built: {} tasks, {} title grams in {} ms",
+                documents.size(), titlePostings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!active) {
+            return;
+        }
+
+        if (event.task() == null) {
+            remove(event.taskId());
+        } else {
+            index(event.task());
+        }
+    }
+
+    public void index(TaskEntity task) {
+        writeLock.lock();
+        try {
+            if (!active) {
+                return;
+            }
+            IndexedTask existing = documents.get(task.getId());
+            if (existing != null && isOlder(task.getUpdatedAt(), existing.updatedAt())) {
+                // A rebuild read a stale row after a newer write was already applied
+                return;
+            }
+            if (existing == null && documents.size() >= maxTasks) {
+                turnOff();
+                log.warn("Search index off: more than {} tasks, searches use the store", maxTasks);
+                return;
+            }
+
+            Set<String> titleGrams = trigrams(task.getTitle());
+
+            if (existing != null) {
+                unlink(task.getId(), existing);
+            }
+            titleGrams.forEach(gram -> titlePostings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(task.getId()));
+
+            documents.put(task.getId(), new IndexedTask(lowerCase(task.getTitle()), titleGrams,
+                    task.getStatus(), task.getPriority(), task.getUpdatedAt()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(UUID taskId) {
+        writeLock.lock();
+        try {
+            if (rebuilding) {
+                deletedDuringRebuild.add(taskId);
+            }
+
+            IndexedTask existing = documents.remove(taskId);
+            if (existing != null) {
+                unlink(taskId, existing);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Tasks whose title contains the query, ignoring case, ranked by relevance (the share of the query's word
+    // trigrams found in the title). Only for queries canSearch accepts: without a trigram every title would be checked.
+    public List<SearchHit> search(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority) {
+        String needle = lowerCase(query);
+        Collection<UUID> candidates = null;
+        for (String gram : innerTrigrams(needle)) {
+            Set<UUID> posting = titlePostings.getOrDefault(gram, Set.of());
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+        if (candidates == null) {
+            throw new IllegalArgumentException("The search index has no trigram of the query: " + query);
+        }
+
+        boolean hasStatus = status != null && !status.isEmpty();
+        boolean hasPriority = priority != null && !priority.isEmpty();
+        Set<String> queryGrams = trigrams(query);
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (UUID id : candidates) {
+            IndexedTask doc = documents.get(id);
+            if (doc == null
+                    || !doc.title().contains(needle)
+                    || (hasStatus && !status.contains(doc.status()))
+                    || (hasPriority && !priority.contains(doc.priority()))) {
+                continue;
+            }
+            long shared = queryGrams.stream().filter(doc.titleGrams()::contains).count();
+            hits.add(new SearchHit(id, queryGrams.isEmpty() ? 0 : (double) shared / queryGrams.size()));
+        }
+
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed().thenComparing(SearchHit::taskId));
+        return hits;
+    }
+
+    public static boolean ranksByRelevance(Sort sort) {
+        return sort.getOrderFor(RELEVANCE) != null;
+    }
+
+    // The request without the relevance order, for the paths that sort by columns only
+    public static Pageable withoutRelevance(Pageable pageable) {
+        if (!ranksByRelevance(pageable.getSort())) {
+            return pageable;
+        }
+        Sort columns = Sort.by(pageable.getSort().stream().filter(order -> !RELEVANCE.equals(order.getProperty())).toList());
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), columns) : Pageable.unpaged(columns);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    static Set<String> trigrams(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+
+        Set<String> grams = new HashSet<>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase())) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    // Trigrams made of letters and digits only: any title containing the query has all of them unpadded
+    static Set<String> innerTrigrams(String needle) {
+        Set<String> grams = new HashSet<>();
+        for (String word : WORD_SEPARATOR.split(needle)) {
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                grams.add(word.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static String lowerCase(String text) {
+        return text == null ? "" : text.toLowerCase();
+    }
+
+    // Hands the memory back; searches use the store until a restart
+    private void turnOff() {
+        writeLock.lock();
+        try {
+            active = false;
+            ready = false;
+            documents.clear();
+            titlePostings.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void unlink(UUID taskId, IndexedTask existing) {
+        existing.titleGrams().forEach(gram -> detach(titlePostings, gram, taskId));
+    }
+
+    private static void detach(Map<String, Set<UUID>> postings, String gram, UUID taskId) {
+        postings.computeIfPresent(gram, (g, ids) -> {
+            ids.remove(taskId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static boolean isOlder(LocalDateTime candidate, LocalDateTime current) {
+        return candidate != null && current != null && candidate.isBefore(current);
+    }
+
+    private record IndexedTask(String title,
+                               Set<String> titleGrams,
+                               TaskEntity.Status status,
+                               TaskEntity.Priority priority,
+                               LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,275 @@
+package com.tickmate.backend.service.stats;
+
+import com.tickmate.backend.domain.dto.TaskStatsDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import com.tickmate.backend.domain.stats.TaskCountRow;
+import com.tickmate.backend.domain.stats.TaskDueCountRow;
+import com.tickmate.backend.service.TaskScanSource;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Task counts per status and priority plus overdue counts, kept in memory so dashboard reads never
+ * query the store. Seeded with one grouped count, moved by every {@link TaskChangedEvent} and
+ * periodically replaced by a fresh count to correct drift (writes made by other replicas, for instance).
+ * <p>
+ * Overdue counts are seeded separately: open tasks already due are counted per priority, and only the open
+ * tasks due within two reconcile intervals are held by dueDate so they can turn overdue as time passes. Tasks due
+ * later are left to the scheduled recount, which moves the window on an interval before it runs out. Should a
+ * recount be late or fail, snapshots keep serving the held counters and are marked stale.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskStatistics {
+    private static final Logger log = LoggerFactory.getLogger(TaskStatistics.class);
+    private static final Set<TaskEntity.Status> OPEN = EnumSet.of(TaskEntity.Status.PENDING, TaskEntity.Status.IN_PROGRESS);
+    private static final TaskEntity.Status[] STATUSES = TaskEntity.Status.values();
+    private static final TaskEntity.Priority[] PRIORITIES = TaskEntity.Priority.values();
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final TaskScanSource taskScanSource;
+
+    @Value("${tickmate.stats.reconcile-interval:5m}")
+    private Duration reconcileInterval;
+
+    private final AtomicLong changes = new AtomicLong();
+    // Recounts swap in their counters one at a time, so an older count never replaces a newer one
+    private final ReentrantLock recountLock = new ReentrantLock();
+    private volatile Counters counters = new Counters(LocalDateTime.now(), LocalDateTime.now());
+    private volatile LocalDateTime reconciledAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${tickmate.stats.reconcile-interval:5m}",
+            initialDelayString = "${tickmate.stats.reconcile-interval:5m}")
+    public void reconcile() {
+        recount();
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        changes.incrementAndGet();
+        Counters current = counters;
+
+        switch (event.type()) {
+            case CREATED -> current.add(event.task(), 1);
+            case UPDATED -> {
+                current.add(event.previous(), -1);
+                current.add(event.task(), 1);
+            }
+            case DELETED, ARCHIVED -> current.add(event.previous(), -1);
+        }
+    }
+
+    // Number of tasks in the given statuses and priorities (all of them when a list is null or empty)
+    public long count(List<TaskEntity.Status> status, List<TaskEntity.Priority> priority) {
+        Counters current = counters;
+        long count = 0;
+        for (TaskEntity.Status s : STATUSES) {
+            if (status != null && !status.isEmpty() && !status.contains(s)) {
+                continue;
+            }
+            for (TaskEntity.Priority p : PRIORITIES) {
+                if (priority == null || priority.isEmpty() || priority.contains(p)) {
+                    count += current.cells[s.ordinal()][p.ordinal()].sum();
+                }
+            }
+        }
+        return count;
+    }
+
+    public TaskStatsDTO snapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        Counters current = counters;
+        long[] overdue = current.overdue(now);
+
+        Map<TaskEntity.Status, Map<TaskEntity.Priority, Long>> cells = new EnumMap<>(TaskEntity.Status.class);
+        Map<TaskEntity.Status, Long> byStatus = new EnumMap<>(TaskEntity.Status.class);
+        Map<TaskEntity.Priority, Long> byPriority = new EnumMap<>(TaskEntity.Priority.class);
+        Map<TaskEntity.Priority, Long> overdueByPriority = new EnumMap<>(TaskEntity.Priority.class);
+        long total = 0;
+        long overdueTotal = 0;
+
+        for (TaskEntity.Status status : STATUSES) {
+            Map<TaskEntity.Priority, Long> row = new EnumMap<>(TaskEntity.Priority.class);
+            for (TaskEntity.Priority priority : PRIORITIES) {
+                long count = current.cells[status.ordinal()][priority.ordinal()].sum();
+                row.put(priority, count);
+                byStatus.merge(status, count, Long::sum);
+                byPriority.merge(priority, count, Long::sum);
+                total += count;
+            }
+            cells.put(status, row);
+        }
+        for (TaskEntity.Priority priority : PRIORITIES) {
+            overdueByPriority.put(priority, overdue[priority.ordinal()]);
+            overdueTotal += overdue[priority.ordinal()];
+        }
+
+        return TaskStatsDTO.builder()
+                .total(total)
+                .byStatus(byStatus)
+                .byPriority(byPriority)
+                .byStatusAndPriority(cells)
+                .overdue(overdueTotal)
+                .overdueByPriority(overdueByPriority)
+                .reconciledAt(reconciledAt)
+                .stale(!now.isBefore(current.horizon))
+                .build();
+    }
+
+    private void recount() {
+        recountLock.lock();
+        try {
+            Counters fresh = null;
+            for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+                long before = changes.get();
+                fresh = load();
+                // Only swap in a count no write raced with, otherwise that write would be lost or counted twice
+                if (changes.get() == before) {
+                    break;
+                }
+            }
+
+            long drift = Math.abs(counters.total() - fresh.total());
+            if (reconciledAt != null && drift > 0) {
+                log.warn("Task statistics drifted by {} tasks since the last reconciliation", drift);
+            }
+            counters = fresh;
+            reconciledAt = LocalDateTime.now();
+        } finally {
+            recountLock.unlock();
+        }
+    }
+
+    private Counters load() {
+        LocalDateTime now = LocalDateTime.now();
+        Counters loaded = new Counters(now, now.plus(reconcileInterval.multipliedBy(2)));
+        for (TaskCountRow row : taskScanSource.countTasks()) {
+            loaded.cells[row.status().ordinal()][row.priority().ordinal()].add(row.count());
+        }
+        for (TaskDueCountRow row : taskScanSource.countOpenTasksDueBefore(now)) {
+            loaded.overdue[row.priority().ordinal()] += row.count();
+        }
+        for (TaskDueCountRow row : taskScanSource.countOpenTasksDue(now, loaded.horizon)) {
+            loaded.upcoming.computeIfAbsent(row.dueDate(), d -> new long[PRIORITIES.length])[row.priority().ordinal()] += row.count();
+        }
+        return loaded;
+    }
+
+    private static final class Counters {
+        // Striped per cell, so concurrent writers to different (or the same) cells do not contend
+        private final LongAdder[][] cells = new LongAdder[STATUSES.length][PRIORITIES.length];
+
+        // Open tasks not yet overdue and due before the horizon, by due date. Entries move into overdue as time
+        // passes the watermark.
+        private final ReentrantLock dueLock = new ReentrantLock();
+        private final TreeMap<LocalDateTime, long[]> upcoming = new TreeMap<>();
+        private final long[] overdue = new long[PRIORITIES.length];
+        private final LocalDateTime horizon;
+        private LocalDateTime watermark;
+
+        Counters(LocalDateTime watermark, LocalDateTime horizon) {
+            this.watermark = watermark;
+            this.horizon = horizon;
+            for (LongAdder[] row : cells) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = new LongAdder();
+                }
+            }
+        }
+
+        void add(TaskEntity task, long delta) {
+            if (task == null) {
+                // A write without its before-image; the next reconciliation corrects the count
+                return;
+            }
+            add(task.getStatus(), task.getPriority(), task.getDueDate(), delta);
+        }
+
+        void add(TaskEntity.Status status, TaskEntity.Priority priority, LocalDateTime dueDate, long delta) {
+            if (status == null || priority == null) {
+                return;
+            }
+            cells[status.ordinal()][priority.ordinal()].add(delta);
+            if (dueDate == null || !OPEN.contains(status)) {
+                return;
+            }
+
+            dueLock.lock();
+            try {
+                if (dueDate.isBefore(watermark)) {
+                    overdue[priority.ordinal()] += delta;
+                } else if (dueDate.isBefore(horizon)) {
+                    long[] counts = upcoming.computeIfAbsent(dueDate, d -> new long[PRIORITIES.length]);
+                    counts[priority.ordinal()] += delta;
+                    if (isEmpty(counts)) {
+                        upcoming.remove(dueDate);
+                    }
+                }
+            } finally {
+                dueLock.unlock();
+            }
+        }
+
+        long[] overdue(LocalDateTime now) {
+            dueLock.lock();
+            try {
+                if (now.isAfter(watermark)) {
+                    Map<LocalDateTime, long[]> due = upcoming.headMap(now, false);
+                    for (long[] counts : due.values()) {
+                        for (int i = 0; i < counts.length; i++) {
+                            overdue[i] += counts[i];
+                        }
+                    }
+                    due.clear();
+                    watermark = now;
+                }
+                return overdue.clone();
+            } finally {
+                dueLock.unlock();
+            }
+        }
+
+        long total() {
+            long total = 0;
+            for (LongAdder[] row : cells) {
+                for (LongAdder cell : row) {
+                    total += cell.sum();
+                }
+            }
+            return total;
+        }
+
+        private static boolean isEmpty(long[] counts) {
+            for (long count : counts) {
+                if (count != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
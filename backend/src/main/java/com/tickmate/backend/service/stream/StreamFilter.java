@@ -0,0 +1,27 @@
+package com.tickmate.backend.service.stream;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+
+import java.util.List;
+
+// Same filter parameters as GET /api/tasks, evaluated against the in-memory task
+record StreamFilter(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority) {
+
+    static StreamFilter of(String query, List<TaskEntity.Status> status, List<TaskEntity.Priority> priority) {
+        return new StreamFilter(
+                query != null && !query.isBlank() ? query.trim().toLowerCase() : null,
+                status != null && !status.isEmpty() ? List.copyOf(status) : null,
+                priority != null && !priority.isEmpty() ? List.copyOf(priority) : null
+        );
+    }
+
+    boolean matches(TaskEntity task) {
+        if (status != null && !status.contains(task.getStatus())) {
+            return false;
+        }
+        if (priority != null && !priority.contains(task.getPriority())) {
+            return false;
+        }
+        return query == null || (task.getTitle() != null && task.getTitle().toLowerCase().contains(query));
+    }
+}
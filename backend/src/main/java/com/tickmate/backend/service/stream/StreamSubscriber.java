@@ -0,0 +1,84 @@
+package com.tickmate.backend.service.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// One open stream: a bounded outbound buffer plus a flag ensuring at most one drain runs at a time
+class StreamSubscriber {
+    private final SseEmitter emitter;
+    private final StreamFilter filter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // Events up to this sequence were replayed or predate the subscription; the fan-out skips them
+    private volatile long joinedAfter = Long.MAX_VALUE;
+    // The drain thread and System.nanoTime() at the start of its send, while a send is under way
+    private volatile Thread sender;
+    private volatile long sendingSince;
+
+    StreamSubscriber(SseEmitter emitter, StreamFilter filter, int bufferSize) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    StreamFilter filter() {
+        return filter;
+    }
+
+    long joinedAfter() {
+        return joinedAfter;
+    }
+
+    void joinAfter(long sequence) {
+        joinedAfter = sequence;
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder frame) {
+        return buffer.offer(frame);
+    }
+
+    SseEmitter.SseEventBuilder poll() {
+        return buffer.poll();
+    }
+
+    boolean isIdle() {
+        return buffer.isEmpty();
+    }
+
+    void startSend() {
+        sendingSince = System.nanoTime();
+        sender = Thread.currentThread();
+    }
+
+    void endSend() {
+        sender = null;
+    }
+
+    // How long the send under way has been blocked, 0 when there is none
+    long sendingFor(long now) {
+        return sender != null ? now - sendingSince : 0;
+    }
+
+    void interruptSend() {
+        Thread thread = sender;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    boolean tryStartDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        sender = null;
+        draining.set(false);
+    }
+}
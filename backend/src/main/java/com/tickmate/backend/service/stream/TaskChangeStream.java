@@ -0,0 +1,329 @@
+package com.tickmate.backend.service.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickmate.backend.domain.dto.TaskStreamEventDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import com.tickmate.backend.mapper.TaskMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans committed task changes out to Server-Sent Events subscribers.
+ * Connections are servlet-async, so idle subscribers hold no thread; each one gets a bounded
+ * buffer drained on a virtual thread of the stream's own executor, so a client that stops reading only
+ * parks its own drain. A subscriber that falls behind, or whose send blocks past send-timeout, is
+ * disconnected so it can reconnect and catch up from the replay log via {@code Last-Event-ID}.
+ * The writer's thread only renders the change and appends it to the replay log; handing it to the
+ * subscribers is one ordered fan-out pass on the same executor.
+ */
+@Component
+public class TaskChangeStream {
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeStream.class);
+
+    private final ObjectMapper objectMapper;
+    private final TaskMapper taskMapper;
+    // Drains block in emitter.send for as long as the client takes to read, so they never run on a shared pool
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("task-stream-", 0).factory());
+    private final int bufferSize;
+    private final int replaySize;
+    private final Duration timeout;
+    private final Duration reconnectDelay;
+    private final Duration sendTimeout;
+
+    // Event ids are "<epoch>:<sequence>" so ids handed out before a restart are recognised as unreplayable
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<StreamEvent> replayLog = new ArrayDeque<>();
+    // Guards replayLog; a lock rather than synchronized so publishing virtual threads never pin their carrier
+    private final ReentrantLock publishLock = new ReentrantLock();
+    // Appended events in sequence order, waiting for the fan-out; at most one fan-out runs at a time
+    private final Queue<StreamEvent> pendingFanOut = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean fanningOut = new AtomicBoolean();
+
+    public TaskChangeStream(ObjectMapper objectMapper,
+                            TaskMapper taskMapper,
+                            @Value("${tickmate.stream.buffer-size:256}") int bufferSize,
+                            @Value("${tickmate.stream.replay-size:1024}") int replaySize,
+                            @Value("${tickmate.stream.timeout:30m}") Duration timeout,
+                            @Value("${tickmate.stream.reconnect-delay:3s}") Duration reconnectDelay,
+                            @Value("${tickmate.stream.send-timeout:10s}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.taskMapper = taskMapper;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeout = timeout;
+        this.reconnectDelay = reconnectDelay;
+        this.sendTimeout = sendTimeout;
+    }
+
+    public SseEmitter subscribe(String query,
+                                List<TaskEntity.Status> status,
+                                List<TaskEntity.Priority> priority,
+                                String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        StreamSubscriber subscriber = new StreamSubscriber(emitter, StreamFilter.of(query, status, priority), bufferSize);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        subscriber.offer(SseEmitter.event().reconnectTime(reconnectDelay.toMillis()).comment("connected"));
+
+        // Replay and registration happen under the publish lock so no event is missed or delivered twice: the
+        // fan-out only hands the subscriber events appended after this point
+        publishLock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId);
+            }
+            subscriber.joinAfter(sequence.get());
+            subscribers.add(subscriber);
+        } finally {
+            publishLock.unlock();
+        }
+
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent change) {
+        publishLock.lock();
+        try {
+            StreamEvent event = render(sequence.incrementAndGet(), change);
+            replayLog.addLast(event);
+            if (replayLog.size() > replaySize) {
+                replayLog.removeFirst();
+            }
+            pendingFanOut.add(event);
+        } finally {
+            publishLock.unlock();
+        }
+        scheduleFanOut();
+    }
+
+    // Also drops the subscribers whose send has been blocked for longer than send-timeout
+    @Scheduled(fixedRateString = "${tickmate.stream.heartbeat-interval:15s}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (StreamSubscriber subscriber : subscribers) {
+            if (subscriber.sendingFor(now) > sendTimeout.toNanos()) {
+                disconnectStalled(subscriber);
+            } else if (subscriber.isIdle()) {
+                enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void replay(StreamSubscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        long oldest = replayLog.isEmpty() ? sequence.get() + 1 : replayLog.peekFirst().sequence();
+
+        if (lastSequence < 0 || lastSequence + 1 < oldest) {
+            // The gap is no longer in the replay log: tell the client to reload the list
+            subscriber.offer(SseEmitter.event().name("reset").data("{\"type\":\"reset\"}"));
+            return;
+        }
+
+        for (StreamEvent event : replayLog) {
+            if (event.sequence() > lastSequence) {
+                deliver(subscriber, event);
+            }
+        }
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.indexOf(':');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private void scheduleFanOut() {
+        if (fanningOut.compareAndSet(false, true)) {
+            executor.execute(this::fanOut);
+        }
+    }
+
+    private void fanOut() {
+        try {
+            StreamEvent event;
+            while ((event = pendingFanOut.poll()) != null) {
+                for (StreamSubscriber subscriber : subscribers) {
+                    if (event.sequence() > subscriber.joinedAfter()) {
+                        deliver(subscriber, event);
+                    }
+                }
+            }
+        } finally {
+            fanningOut.set(false);
+        }
+
+        // An event may have been appended between the last poll and clearing the flag
+        if (!pendingFanOut.isEmpty()) {
+            scheduleFanOut();
+        }
+    }
+
+    private void deliver(StreamSubscriber subscriber, StreamEvent event) {
+        StreamFilter filter = subscriber.filter();
+        TaskChangedEvent change = event.change();
+
+        String type;
+        String payload;
+        switch (change.type()) {
+            case CREATED -> {
+                if (!filter.matches(change.task())) {
+                    return;
+                }
+                type = "created";
+                payload = event.taskJson();
+            }
+            case UPDATED -> {
+                if (filter.matches(change.task())) {
+                    type = "updated";
+                    payload = event.taskJson();
+                } else if (change.previous() == null || filter.matches(change.previous())) {
+                    type = "removed";
+                    payload = event.removedJson();
+                } else {
+                    return;
+                }
+            }
+            default -> {
+                if (change.previous() != null && !filter.matches(change.previous())) {
+                    return;
+                }
+                type = "deleted";
+                payload = event.deletedJson();
+            }
+        }
+
+        enqueue(subscriber, SseEmitter.event().id(event.id()).name(type).data(payload));
+    }
+
+    private void enqueue(StreamSubscriber subscriber, SseEmitter.SseEventBuilder frame) {
+        if (!subscriber.offer(frame)) {
+            // Buffer full: drop the subscriber rather than block publishers; it resumes from the replay log
+            log.debug("Disconnecting slow stream subscriber after {} buffered events", bufferSize);
+            subscribers.remove(subscriber);
+            subscriber.emitter().complete();
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(StreamSubscriber subscriber) {
+        if (subscriber.tryStartDraining()) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(StreamSubscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder frame;
+            while ((frame = subscriber.poll()) != null) {
+                subscriber.startSend();
+                subscriber.emitter().send(frame);
+                subscriber.endSend();
+            }
+        } catch (IOException | IllegalStateException ex) {
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(ex);
+            return;
+        } finally {
+            subscriber.stopDraining();
+        }
+
+        // An event may have been offered between the last poll and stopDraining
+        if (!subscriber.isIdle()) {
+            schedule(subscriber);
+        }
+    }
+
+    // Nothing more is handed to the subscriber. Its drain is interrupted, and the emitter is completed on a thread
+    // of its own, as completing it may wait for the blocked send.
+    private void disconnectStalled(StreamSubscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        log.debug("Disconnecting stream subscriber blocked in a send for more than {}", sendTimeout);
+        subscriber.interruptSend();
+        executor.execute(() -> subscriber.emitter().completeWithError(
+                new TimeoutException("Stream send blocked for more than " + sendTimeout)));
+    }
+
+    private StreamEvent render(long sequence, TaskChangedEvent change) {
+        String taskJson = null;
+        if (change.task() != null) {
+            String type = change.type() == TaskChangedEvent.Type.CREATED ? "created" : "updated";
+            taskJson = toJson(new TaskStreamEventDTO(type, change.taskId(), taskMapper.toDTO(change.task())));
+        }
+
+        return new StreamEvent(
+                sequence,
+                epoch + ":" + sequence,
+                change,
+                taskJson,
+                toJson(new TaskStreamEventDTO("removed", change.taskId(), null)),
+                toJson(new TaskStreamEventDTO("deleted", change.taskId(), null))
+        );
+    }
+
+    private String toJson(TaskStreamEventDTO dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize stream event", ex);
+        }
+    }
+
+    // One change rendered once, shared by every subscriber
+    private record StreamEvent(long sequence,
+                               String id,
+                               TaskChangedEvent change,
+                               String taskJson,
+                               String removedJson,
+                               String deletedJson) {
+    }
+}
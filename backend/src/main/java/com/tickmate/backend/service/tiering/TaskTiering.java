@@ -0,0 +1,67 @@
+package com.tickmate.backend.service.tiering;
+
+import com.tickmate.backend.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Moves tasks that were finished (COMPLETED or ARCHIVED) longer ago than {@code tickmate.tiering.after}
+ * from "tasks" into the "tasks_archive" cold tier, one small transaction per batch, so the hot table
+ * and everything scanning or counting it stay proportional to active work.
+ */
+@Component
+public class TaskTiering {
+    private static final Logger log = LoggerFactory.getLogger(TaskTiering.class);
+
+    private final TaskService taskService;
+    private final boolean enabled;
+    private final Duration after;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TaskTiering(TaskService taskService,
+                       @Value("${tickmate.tiering.enabled:true}") boolean enabled,
+                       @Value("${tickmate.tiering.after:30d}") Duration after,
+                       @Value("${tickmate.tiering.batch-size:500}") int batchSize,
+                       @Value("${tickmate.tiering.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.taskService = taskService;
+        this.enabled = enabled;
+        this.after = after;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${tickmate.tiering.interval:10m}",
+            initialDelayString = "${tickmate.tiering.interval:10m}")
+    public void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    // At most maxBatchesPerRun batches, so a large backlog cannot hold the scheduler thread; the next run goes on
+    public long run() {
+        LocalDateTime finishedBefore = LocalDateTime.now().minus(after);
+        long start = System.nanoTime();
+        long moved = 0;
+
+        int batch;
+        int batches = 0;
+        do {
+            batch = taskService.archiveTasks(finishedBefore, batchSize);
+            moved += batch;
+        } while (batch == batchSize && ++batches < maxBatchesPerRun);
+
+        if (moved > 0) {
+            log.info("Moved {} tasks finished before {} to the archive in {} ms",
+                    moved, finishedBefore, (System.nanoTime() - start) / 1_000_000);
+        }
+        return moved;
+    }
+}
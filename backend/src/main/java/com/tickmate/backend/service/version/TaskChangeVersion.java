@@ -0,0 +1,35 @@
+package com.tickmate.backend.service.version;
+
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Table-level change counter kept in memory and bumped on every committed write.
+// The epoch makes tags issued before a restart stale, since the counter itself restarts at zero.
+@Component
+public class TaskChangeVersion {
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+    private volatile long lastModified = epoch;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        bump();
+    }
+
+    // Also to be called when another replica announces a write (see TaskCacheInvalidationBus)
+    public void bump() {
+        version.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+    }
+
+    public String etag() {
+        return "\"" + Long.toHexString(epoch) + "-" + version.get() + "\"";
+    }
+
+    public long lastModified() {
+        return lastModified;
+    }
+}
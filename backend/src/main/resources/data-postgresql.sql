@@ -0,0 +1,5 @@
+-- PostgreSQL only, run after data.sql when spring.sql.init.platform=postgresql.
+-- Trigram index on titles: serves the title search of GET /api/tasks (LOWER(title) LIKE '%q%') and the candidates
+-- sort=relevance ranks by word_similarity. With it in place the in-process search index stays off.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_tasks_title_trgm ON tasks USING gin (LOWER(title) gin_trgm_ops);
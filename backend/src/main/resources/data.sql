@@ -13,6 +13,57 @@ CREATE TABLE IF NOT EXISTS tasks (
 
 CREATE INDEX IF NOT EXISTS idx_tasks_status ON tasks(status);
 CREATE INDEX IF NOT EXISTS idx_tasks_due_date ON tasks(due_date);
+-- Composite keys backing cursor (keyset) pagination: sort column plus id tie-breaker
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_id ON tasks(due_date, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_updated_at_id ON tasks(updated_at, id);
+
+-- Change feed (GET /api/tasks/changes): one position per write transaction, tombstones for deleted tasks.
+-- Rows written before the feed existed sit at position 0.
+CREATE SEQUENCE IF NOT EXISTS task_change_seq;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_seq BIGINT;
+CREATE INDEX IF NOT EXISTS idx_tasks_change_seq_id ON tasks(change_seq, id);
+
+CREATE TABLE IF NOT EXISTS task_tombstones (
+    task_id         UUID PRIMARY KEY,
+    change_seq      BIGINT NOT NULL,
+    deleted_at      TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_change_seq_id ON task_tombstones(change_seq, task_id);
+
+-- Cold tier: tasks finished long ago, moved out of tasks by the tiering job with their id and timestamps unchanged.
+-- Read only by includeArchived=true listings (ordered by a sort column plus id) and by id.
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id              UUID PRIMARY KEY,
+    title           VARCHAR(255) NOT NULL,
+    description     TEXT,
+    status          VARCHAR(50) NOT NULL CHECK (status IN ('PENDING','IN_PROGRESS','COMPLETED','ARCHIVED')),
+    priority        VARCHAR(20) NOT NULL CHECK (priority IN ('LOW','MEDIUM','HIGH')),
+    due_date        TIMESTAMP(3) NULL,
+    completed_at    TIMESTAMP(3) NULL,
+    created_at      TIMESTAMP(3) NOT NULL,
+    updated_at      TIMESTAMP(3) NOT NULL,
+    archived_at     TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_due_date_id ON tasks_archive(due_date, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_created_at_id ON tasks_archive(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_updated_at_id ON tasks_archive(updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_completed_at ON tasks_archive(completed_at);
+
+-- Tiering picks finished tasks by completed_at, or by updated_at (idx_tasks_updated_at_id) where that is unset
+CREATE INDEX IF NOT EXISTS idx_tasks_completed_at ON tasks(completed_at);
+
+-- Progress of resumable bulk imports (POST /api/tasks/import)
+CREATE TABLE IF NOT EXISTS task_imports (
+    import_id       VARCHAR(100) PRIMARY KEY,
+    position        BIGINT NOT NULL,
+    imported        BIGINT NOT NULL,
+    rejected        BIGINT NOT NULL,
+    completed       BOOLEAN NOT NULL,
+    updated_at      TIMESTAMP(3) NOT NULL
+);
 
 -- Insert well-known UUIDs for specific tasks
 INSERT INTO tasks (id, title, description, status, priority, due_date, completed_at, created_at, updated_at)
@@ -193,4 +244,7 @@ SELECT '223e4567-e89b-12d3-a456-426614174014',
        '2025-09-29 13:50:00',
        NOW(),
        NOW()
-    WHERE NOT EXISTS (SELECT 1 FROM tasks WHERE id = '223e4567-e89b-12d3-a456-426614174014');
\ No newline at end of file
+    WHERE NOT EXISTS (SELECT 1 FROM tasks WHERE id = '223e4567-e89b-12d3-a456-426614174014');
+
+-- Seeded rows, and rows from before the change feed, join it at position 0
+UPDATE tasks SET change_seq = 0 WHERE change_seq IS NULL;
@@ -0,0 +1,38 @@
+package com.tickmate.backend.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the JMH benchmarks in this package and writes the results as JSON for comparison between builds.
+ * Run with: mvn test -Pbenchmark -Dtest=JmhBenchmarkTest [-Djmh.include=TaskMapperBenchmark] [-Djmh.result=path]
+ * [-Djmh.prof=gc] (the gc profiler adds bytes allocated per operation as gc.alloc.rate.norm)
+ */
+@Tag("benchmark")
+public class JmhBenchmarkTest {
+
+    @Test
+    public void runMicrobenchmarks() throws Exception {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include("com\\.tickmate\\.backend\\.benchmark\\." + System.getProperty("jmh.include", "\\w+Benchmark") + "\\.")
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("jmh.result", "target/jmh-result.json"))
+                .shouldFailOnError(true);
+        String profiler = System.getProperty("jmh.prof");
+        if (profiler != null && !profiler.isBlank()) {
+            options.addProfiler(profiler);
+        }
+
+        Collection<RunResult> results = new Runner(options.build()).run();
+        assertThat(results).isNotEmpty();
+    }
+}
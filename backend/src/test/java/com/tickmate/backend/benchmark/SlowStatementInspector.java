@@ -0,0 +1,20 @@
+package com.tickmate.backend.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Stands in for a slow database: every SQL statement costs a fixed round trip on the calling thread
+public class SlowStatementInspector implements StatementInspector {
+    static volatile long latencyMillis;
+
+    @Override
+    public String inspect(String sql) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
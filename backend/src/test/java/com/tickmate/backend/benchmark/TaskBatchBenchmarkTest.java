@@ -0,0 +1,75 @@
+package com.tickmate.backend.benchmark;
+
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.service.TaskService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Rows/sec of the single-item create path against the batched path. Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class TaskBatchBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(TaskBatchBenchmarkTest.class);
+    private static final int ROWS = 5_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Test
+    public void compareSingleItemAndBatchInsertThroughput() {
+        // Warm up both paths so JIT and connection pool are settled
+        insertOneByOne(500);
+        taskService.batchWrite(requests(500), Map.of(), List.of());
+
+        double single = 0;
+        double batch = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            single = Math.max(single, insertOneByOne(ROWS));
+
+            List<TaskEntity> requests = requests(ROWS);
+            long start = System.nanoTime();
+            assertThat(taskService.batchWrite(requests, Map.of(), List.of()).created()).hasSize(ROWS);
+            batch = Math.max(batch, rowsPerSecond(ROWS, System.nanoTime() - start));
+        }
+
+        log.info("Insert throughput over {} rows: single-item {} rows/s, batch {} rows/s ({}x)",
+                ROWS, Math.round(single), Math.round(batch), String.format("%.1f", batch / single));
+    }
+
+    private double insertOneByOne(int rows) {
+        List<TaskEntity> requests = requests(rows);
+        long start = System.nanoTime();
+        requests.forEach(taskService::createTask);
+        return rowsPerSecond(rows, System.nanoTime() - start);
+    }
+
+    private List<TaskEntity> requests(int rows) {
+        List<TaskEntity> requests = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            requests.add(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+        }
+        return requests;
+    }
+
+    private static double rowsPerSecond(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.tickmate.backend.benchmark;
+
+import com.tickmate.backend.domain.id.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batched insert throughput and primary-key index size for random (v4) against time-ordered (v7) ids.
+ * Index size needs PostgreSQL; point the test at a scratch database to get it, e.g.
+ * mvn test -Pbenchmark -Dtest=TaskIdBenchmarkTest -Dspring.datasource.url=jdbc:postgresql://localhost:5432/bench
+ * -Dspring.datasource.username=... -Dspring.datasource.password=... -Dspring.datasource.driver-class-name=org.postgresql.Driver
+ * On the default in-memory H2 only throughput and the share of right-edge inserts are reported.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class TaskIdBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(TaskIdBenchmarkTest.class);
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_bench_v4");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_bench_v7");
+    }
+
+    @Test
+    public void compareRandomAndTimeOrderedIds() {
+        // Warm-up round so JIT and the connection pool are settled
+        insert("id_bench_v4", ids(UUID::randomUUID, 20_000));
+        insert("id_bench_v7", ids(UuidV7::generate, 20_000));
+        dropTables();
+
+        List<UUID> random = ids(UUID::randomUUID, ROWS);
+        List<UUID> ordered = ids(UuidV7::generate, ROWS);
+
+        double randomRate = insert("id_bench_v4", random);
+        double orderedRate = insert("id_bench_v7", ordered);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_bench_v7", Long.class)).isEqualTo(ROWS);
+
+        log.info("Insert throughput over {} rows: v4 {} rows/s, v7 {} rows/s ({}x)",
+                ROWS, Math.round(randomRate), Math.round(orderedRate), String.format("%.2f", orderedRate / randomRate));
+        log.info("Inserts landing at the right edge of the key order: v4 {}%, v7 {}%",
+                rightEdgeShare(random), rightEdgeShare(ordered));
+
+        Long randomIndex = indexBytes("id_bench_v4");
+        Long orderedIndex = indexBytes("id_bench_v7");
+        if (randomIndex != null && orderedIndex != null) {
+            log.info("Primary-key index size: v4 {} KiB, v7 {} KiB ({}x smaller)",
+                    randomIndex / 1024, orderedIndex / 1024, String.format("%.2f", (double) randomIndex / orderedIndex));
+        } else {
+            log.info("Primary-key index size needs PostgreSQL (pg_relation_size); skipped on this database");
+        }
+    }
+
+    private double insert(String table, List<UUID> ids) {
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, title VARCHAR(255) NOT NULL)");
+
+        long start = System.nanoTime();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (UUID id : ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()))) {
+                batch.add(new Object[]{id, "Benchmark task"});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, title) VALUES (?, ?)", batch);
+        }
+        return ids.size() / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    // A B-tree only splits its rightmost page when keys arrive in order; every other insert hits a random page
+    private static long rightEdgeShare(List<UUID> ids) {
+        String max = "";
+        int rightEdge = 0;
+        for (UUID id : ids) {
+            String key = id.toString();
+            if (key.compareTo(max) > 0) {
+                max = key;
+                rightEdge++;
+            }
+        }
+        return Math.round(100.0 * rightEdge / ids.size());
+    }
+
+    private Long indexBytes(String table) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject("SELECT pg_relation_size('" + table + "_pkey')", Long.class);
+    }
+
+    private static List<UUID> ids(Supplier<UUID> generator, int rows) {
+        List<UUID> ids = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ids.add(generator.get());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,74 @@
+package com.tickmate.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.config.Config;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.id.UuidV7;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.mapper.TaskMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Rendering a page of entities the old way (TaskMapper to DTOs, Page.map, @JsonFormat dates) against writing the
+// entities directly through TaskEntitySerializer. Run with -Djmh.prof=gc for bytes allocated per page.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListSerializationBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    // The message converter leaves the response stream open as well
+    private final ObjectMapper objectMapper = new Config().objectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    // Discards the bytes so only the serialization path is measured, not a growing byte array
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    private Page<TaskEntity> page;
+
+    @Setup
+    public void setup() {
+        List<TaskEntity> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            TaskEntity task = i % 2 == 0 ? TestData.createTestTaskEntityA() : TestData.createTestTaskEntityB();
+            task.setId(UuidV7.generate());
+            task.setCreatedAt(task.getDueDate().minusDays(3).plusSeconds(i));
+            task.setUpdatedAt(task.getCreatedAt().plusMinutes(i));
+            content.add(task);
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public void mappedToDTOs() throws IOException {
+        objectMapper.writeValue(out, page.map(taskMapper::toDTO));
+    }
+
+    @Benchmark
+    public void writtenFromEntities() throws IOException {
+        objectMapper.writeValue(out, page);
+    }
+}
@@ -0,0 +1,42 @@
+package com.tickmate.backend.benchmark;
+
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.domain.dto.TaskRequestDTO;
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.mapper.TaskMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of the generated MapStruct mapper on the request and response paths
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final TaskEntity entity = TestData.createTestTaskEntityA();
+    private final TaskRequestDTO request = TestData.createTestTaskRequestA();
+
+    @Benchmark
+    public TaskResponseDTO toDTO() {
+        return taskMapper.toDTO(entity);
+    }
+
+    @Benchmark
+    public TaskEntity toEntity() {
+        return taskMapper.toEntity(request);
+    }
+}
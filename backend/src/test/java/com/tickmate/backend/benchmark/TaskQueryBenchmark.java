@@ -0,0 +1,113 @@
+package com.tickmate.backend.benchmark;
+
+import com.tickmate.backend.BackendApplication;
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.projection.TaskField;
+import com.tickmate.backend.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// TaskService.getTasks on the JPA engine (embedded H2) and the in-memory engine, seeded with rows tasks (one application context per combination)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskQueryBenchmark {
+    private static final String[] WORDS = {"report", "deploy", "review", "invoice", "migrate", "design", "backup", "audit"};
+    private static final int SEED_CHUNK = 5_000;
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    @Param({"jpa", "memory"})
+    private String engine;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private final Pageable firstPage = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "dueDate"));
+    private final Set<TaskField> listFields = TaskField.parse("title,status,priority,dueDate");
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "spring.main.keep-alive=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn")
+                // As arguments, so they win over application.properties
+                .run("--tickmate.storage.engine=" + engine,
+                        "--tickmate.storage.memory.directory=target/benchmark-store/" + UUID.randomUUID());
+        taskService = context.getBean(TaskService.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        TaskEntity.Status[] statuses = TaskEntity.Status.values();
+        TaskEntity.Priority[] priorities = TaskEntity.Priority.values();
+        for (int from = 0; from < rows; from += SEED_CHUNK) {
+            List<TaskEntity> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = from; i < Math.min(rows, from + SEED_CHUNK); i++) {
+                chunk.add(TaskEntity.builder()
+                        .title(WORDS[i % WORDS.length] + " task " + i)
+                        .description("Seeded row " + i + " for " + WORDS[(i / 7) % WORDS.length])
+                        .status(statuses[i % statuses.length])
+                        .priority(priorities[(i / 3) % priorities.length])
+                        .dueDate(now.plusMinutes(i % 50_000))
+                        .build());
+            }
+            taskService.batchWrite(chunk, Map.of(), List.of());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskEntity> firstPage() {
+        return taskService.getTasks(null, null, null, firstPage);
+    }
+
+    @Benchmark
+    public Page<TaskEntity> filteredPage() {
+        return taskService.getTasks(null, List.of(TaskEntity.Status.PENDING), List.of(TaskEntity.Priority.HIGH), firstPage);
+    }
+
+    @Benchmark
+    public Page<TaskEntity> searchPage() {
+        return taskService.getTasks("invoice", null, null, firstPage);
+    }
+
+    // The list view's columns only (fields=title,status,priority,dueDate), compare with firstPage
+    @Benchmark
+    public Page<TaskResponseDTO> projectedPage() {
+        return taskService.getTaskFields(null, null, null, listFields, firstPage);
+    }
+}
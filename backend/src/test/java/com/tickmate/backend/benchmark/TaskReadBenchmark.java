@@ -0,0 +1,93 @@
+package com.tickmate.backend.benchmark;
+
+import com.tickmate.backend.BackendApplication;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/tasks/{id} below the controller: a random id out of 100k tasks per call, with the task cache off so
+// every call reaches the storage engine (JPA on embedded H2 against the in-memory store)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskReadBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int SEED_CHUNK = 5_000;
+
+    @Param({"jpa", "memory"})
+    private String engine;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UUID[] ids;
+    private int next;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "spring.main.keep-alive=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn")
+                // As arguments, so they win over application.properties
+                .run("--tickmate.cache.task.enabled=false",
+                        "--tickmate.storage.engine=" + engine,
+                        "--tickmate.storage.memory.directory=target/benchmark-store/" + UUID.randomUUID());
+        taskService = context.getBean(TaskService.class);
+
+        List<UUID> created = new ArrayList<>(ROWS);
+        for (int from = 0; from < ROWS; from += SEED_CHUNK) {
+            List<TaskEntity> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = from; i < Math.min(ROWS, from + SEED_CHUNK); i++) {
+                chunk.add(TaskEntity.builder()
+                        .title("Read benchmark task " + i)
+                        .description("Seeded row " + i)
+                        .dueDate(LocalDateTime.now().plusMinutes(i))
+                        .build());
+            }
+            taskService.batchWrite(chunk, Map.of(), List.of()).created().forEach(task -> created.add(task.getId()));
+        }
+        // Shuffled so consecutive reads do not walk the index in order
+        Collections.shuffle(created, new Random(42));
+        ids = created.toArray(UUID[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<TaskEntity> getTaskById() {
+        UUID id = ids[next];
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return taskService.getTaskById(id);
+    }
+}
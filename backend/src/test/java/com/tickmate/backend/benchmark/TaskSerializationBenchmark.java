@@ -0,0 +1,99 @@
+package com.tickmate.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.config.Config;
+import com.tickmate.backend.config.WireFormatConfig;
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.pagination.LeanPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Rendering of single tasks and pages with the mappers the application registers: JSON with the full Page envelope
+// against the lean envelope in JSON, Smile and CBOR, and the cost of gzipping a JSON page. Bytes on the wire are
+// reported by TaskWireSizeBenchmarkTest.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+    private final ObjectMapper objectMapper = new Config().objectMapper();
+    private final ObjectMapper smileMapper = new WireFormatConfig().smileHttpMessageConverter().getObjectMapper();
+    private final ObjectMapper cborMapper = new WireFormatConfig().cborHttpMessageConverter().getObjectMapper();
+    private final TaskResponseDTO task = TestData.createTestTaskResponseA();
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+        @Param({"20", "100"})
+        private int pageSize;
+
+        private Page<TaskResponseDTO> page;
+        private LeanPage<TaskResponseDTO> leanPage;
+
+        @Setup
+        public void setup() {
+            List<TaskResponseDTO> content = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                content.add(i % 2 == 0 ? TestData.createTestTaskResponseA() : TestData.createTestTaskResponseB());
+            }
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+            leanPage = LeanPage.of(page);
+        }
+    }
+
+    @Benchmark
+    public byte[] task() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] page(PageState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.page);
+    }
+
+    @Benchmark
+    public byte[] pageGzip(PageState state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, state.page);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] leanPage(PageState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.leanPage);
+    }
+
+    @Benchmark
+    public byte[] leanPageSmile(PageState state) throws JsonProcessingException {
+        return smileMapper.writeValueAsBytes(state.leanPage);
+    }
+
+    @Benchmark
+    public byte[] leanPageCbor(PageState state) throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(state.leanPage);
+    }
+}
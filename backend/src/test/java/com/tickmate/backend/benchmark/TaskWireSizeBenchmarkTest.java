@@ -0,0 +1,81 @@
+package com.tickmate.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.config.Config;
+import com.tickmate.backend.config.WireFormatConfig;
+import com.tickmate.backend.domain.dto.TaskResponseDTO;
+import com.tickmate.backend.domain.id.UuidV7;
+import com.tickmate.backend.domain.pagination.LeanPage;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes on the wire for one page of tasks in each response format, raw and gzipped.
+ * Serialization CPU for the same formats is measured by TaskSerializationBenchmark. Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+public class TaskWireSizeBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(TaskWireSizeBenchmarkTest.class);
+
+    private final ObjectMapper objectMapper = new Config().objectMapper();
+    private final ObjectMapper smileMapper = new WireFormatConfig().smileHttpMessageConverter().getObjectMapper();
+    private final ObjectMapper cborMapper = new WireFormatConfig().cborHttpMessageConverter().getObjectMapper();
+
+    @Test
+    public void compareResponseSizes() throws IOException {
+        for (int pageSize : new int[]{20, 100}) {
+            Page<TaskResponseDTO> page = page(pageSize);
+            LeanPage<TaskResponseDTO> leanPage = LeanPage.of(page);
+
+            byte[] json = objectMapper.writeValueAsBytes(page);
+            byte[] leanJson = objectMapper.writeValueAsBytes(leanPage);
+            byte[] smile = smileMapper.writeValueAsBytes(leanPage);
+            byte[] cbor = cborMapper.writeValueAsBytes(leanPage);
+
+            log.info("Page of {}: JSON {} B (gzip {}), lean JSON {} B (gzip {}), Smile {} B (gzip {}), CBOR {} B (gzip {})",
+                    pageSize, json.length, gzip(json), leanJson.length, gzip(leanJson),
+                    smile.length, gzip(smile), cbor.length, gzip(cbor));
+
+            assertThat(leanJson.length).isLessThan(json.length);
+            assertThat(smile.length).isLessThan(leanJson.length);
+            assertThat(cbor.length).isLessThan(leanJson.length);
+        }
+    }
+
+    private static Page<TaskResponseDTO> page(int size) {
+        List<TaskResponseDTO> content = new ArrayList<>(size);
+        // Distinct ids, titles and timestamps so repeated values do not flatter gzip or Smile's shared strings
+        for (int i = 0; i < size; i++) {
+            TaskResponseDTO task = i % 2 == 0 ? TestData.createTestTaskResponseA() : TestData.createTestTaskResponseB();
+            task.setId(UuidV7.generate());
+            task.setTitle(task.getTitle() + " #" + i);
+            task.setDueDate(task.getDueDate().plusMinutes(37L * i));
+            task.setCreatedAt(task.getDueDate().minusDays(3).plusSeconds(i));
+            task.setUpdatedAt(task.getCreatedAt().plusSeconds(17L * i));
+            content.add(task);
+        }
+        return new PageImpl<>(content, PageRequest.of(0, size), 10_000);
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
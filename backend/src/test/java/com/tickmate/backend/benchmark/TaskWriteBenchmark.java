@@ -0,0 +1,103 @@
+package com.tickmate.backend.benchmark;
+
+import com.tickmate.backend.BackendApplication;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.repository.TaskRepository;
+import com.tickmate.backend.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// PUT (load, then flush) against single-statement PATCH, and the single-statement DELETE against loading the row first.
+// latencyMillis adds a fixed round trip to every SQL statement, so the difference in statement count shows up as latency.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskWriteBenchmark {
+    @Param({"0", "1"})
+    private long latencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private UUID taskId;
+    private boolean completed;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "spring.main.keep-alive=false",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" + SlowStatementInspector.class.getName(),
+                        "logging.level.root=warn")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskId = taskService.createTask(task()).getId();
+        SlowStatementInspector.latencyMillis = latencyMillis;
+    }
+
+    @TearDown
+    public void tearDown() {
+        SlowStatementInspector.latencyMillis = 0;
+        context.close();
+    }
+
+    @Benchmark
+    public TaskEntity put() {
+        return taskService.updateTask(taskId, nextStatus());
+    }
+
+    @Benchmark
+    public TaskEntity patch() {
+        return taskService.patchTask(taskId, nextStatus());
+    }
+
+    // Both delete benchmarks pay for the insert that gives them something to delete
+    @Benchmark
+    public void deleteSingleStatement() {
+        taskService.deleteTask(taskService.createTask(task()).getId());
+    }
+
+    @Benchmark
+    public void deleteAfterLoad() {
+        UUID id = taskService.createTask(task()).getId();
+        taskRepository.delete(taskRepository.findById(id).orElseThrow());
+    }
+
+    // Alternates the status so every write really changes the row and runs the completedAt rules
+    private TaskEntity nextStatus() {
+        completed = !completed;
+        return TaskEntity.builder()
+                .status(completed ? TaskEntity.Status.COMPLETED : TaskEntity.Status.IN_PROGRESS)
+                .build();
+    }
+
+    private static TaskEntity task() {
+        return TaskEntity.builder()
+                .title("Benchmark task")
+                .description("Written and removed by TaskWriteBenchmark")
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
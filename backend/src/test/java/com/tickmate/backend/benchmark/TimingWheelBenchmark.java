@@ -0,0 +1,70 @@
+package com.tickmate.backend.benchmark;
+
+import com.tickmate.backend.service.deadline.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// The deadline scheduler's timing wheel (one-second ticks, 512 slots, 3 levels) holding 1M and 4M timers spread over
+// the next day. scheduleAndCancel replaces a random pending timer; tick advances one second and re-arms every timer
+// it fires a day later, so the number pending stays constant in both.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TimingWheelBenchmark {
+    private static final long TICK = 1000;
+    private static final long DAY = 86_400_000;
+    private static final Object PAYLOAD = new Object();
+
+    @Param({"1000000", "4000000"})
+    private int pending;
+
+    private TimingWheel<Object> wheel;
+    private TimingWheel.Timeout<Object>[] timeouts;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private long now;
+    private int fired;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        now = 1_700_000_000_000L;
+        wheel = new TimingWheel<>(TICK, 512, 3, now);
+        timeouts = new TimingWheel.Timeout[pending];
+        for (int i = 0; i < pending; i++) {
+            timeouts[i] = wheel.schedule(now + 1 + random.nextLong(DAY), PAYLOAD);
+        }
+    }
+
+    @Benchmark
+    public TimingWheel.Timeout<Object> scheduleAndCancel() {
+        int index = random.nextInt(pending);
+        wheel.cancel(timeouts[index]);
+        return timeouts[index] = wheel.schedule(now + 1 + random.nextLong(DAY), PAYLOAD);
+    }
+
+    @Benchmark
+    public int tick() {
+        now += TICK;
+        fired = 0;
+        wheel.advance(now, payload -> {
+            fired++;
+            wheel.schedule(now + DAY, payload);
+        });
+        return fired;
+    }
+}
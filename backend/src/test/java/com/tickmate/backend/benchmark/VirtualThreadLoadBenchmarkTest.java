@@ -0,0 +1,143 @@
+package com.tickmate.backend.benchmark;
+
+import com.tickmate.backend.BackendApplication;
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.config.VirtualThreadPinningMonitor;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.service.TaskService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Platform-thread against virtual-thread request handling with a slow database. One in five requests
+ * lists tasks (two statements at {@link #DB_LATENCY_MILLIS} each); the rest read a cached task and
+ * never touch the database. Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+public class VirtualThreadLoadBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadBenchmarkTest.class);
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int PLATFORM_THREADS = 50;
+    private static final long DB_LATENCY_MILLIS = 100;
+
+    @Test
+    public void comparePlatformAndVirtualThreadModes() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        log.info("platform threads: {}", platform);
+        log.info("virtual threads:  {}", virtual);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.pinnedEvents()).isZero();
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        SlowStatementInspector.latencyMillis = 0;
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" + SlowStatementInspector.class.getName(),
+                        "logging.level.root=warn")
+                .run()) {
+            TaskEntity task = app.getBean(TaskService.class)
+                    .createTask(app.getBean(TaskMapper.class).toEntity(TestData.createTestTaskRequestA()));
+            String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            URI list = URI.create(base + "/api/tasks?size=20");
+            URI byId = URI.create(base + "/api/tasks/" + task.getId());
+
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            // Warm up JIT, cache and connection pool before the database turns slow
+            for (int i = 0; i < 200; i++) {
+                client.send(HttpRequest.newBuilder(i % 5 == 0 ? list : byId).build(), HttpResponse.BodyHandlers.discarding());
+            }
+            SlowStatementInspector.latencyMillis = DB_LATENCY_MILLIS;
+
+            List<Long> listLatencies = Collections.synchronizedList(new ArrayList<>());
+            List<Long> readLatencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger failures = new AtomicInteger();
+
+            long start = System.nanoTime();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> running = new ArrayList<>();
+                for (int c = 0; c < CLIENTS; c++) {
+                    int offset = c;
+                    running.add(clients.submit(() -> {
+                        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                            boolean slow = (offset + i) % 5 == 0;
+                            long sent = System.nanoTime();
+                            try {
+                                int status = client.send(HttpRequest.newBuilder(slow ? list : byId).build(),
+                                        HttpResponse.BodyHandlers.discarding()).statusCode();
+                                if (status != 200) {
+                                    failures.incrementAndGet();
+                                }
+                            } catch (Exception ex) {
+                                failures.incrementAndGet();
+                            }
+                            (slow ? listLatencies : readLatencies).add(System.nanoTime() - sent);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : running) {
+                    future.get();
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            SlowStatementInspector.latencyMillis = 0;
+
+            long pinned = app.getBeanProvider(VirtualThreadPinningMonitor.class)
+                    .getIfAvailable(() -> null) instanceof VirtualThreadPinningMonitor monitor ? monitor.pinnedEvents() : 0;
+            return new LoadResult(CLIENTS * REQUESTS_PER_CLIENT / seconds,
+                    percentile(readLatencies, 0.50), percentile(readLatencies, 0.99),
+                    percentile(listLatencies, 0.50), percentile(listLatencies, 0.99),
+                    failures.get(), pinned);
+        }
+    }
+
+    private static double percentile(List<Long> nanos, double percentile) {
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private record LoadResult(double requestsPerSecond,
+                              double readP50Millis,
+                              double readP99Millis,
+                              double listP50Millis,
+                              double listP99Millis,
+                              int failures,
+                              long pinnedEvents) {
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, cached read p50 %.1f ms / p99 %.1f ms, list p50 %.1f ms / p99 %.1f ms, %d failures, %d pinned",
+                    requestsPerSecond, readP50Millis, readP99Millis, listP50Millis, listP99Millis, failures, pinnedEvents);
+        }
+    }
+}
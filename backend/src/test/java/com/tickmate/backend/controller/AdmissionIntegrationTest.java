@@ -0,0 +1,68 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.service.admission.AdmissionClass;
+import com.tickmate.backend.service.admission.AdmissionLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "tickmate.admission.initial-limit=2",
+        "tickmate.admission.min-limit=2",
+        "tickmate.admission.max-concurrency.bulk=0",
+        "tickmate.admission.queue.timeout=0ms"})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class AdmissionIntegrationTest {
+    private final MockMvc mockMvc;
+    private final AdmissionLimiter admissionLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public AdmissionIntegrationTest(MockMvc mockMvc, AdmissionLimiter admissionLimiter, MeterRegistry meterRegistry) {
+        this.mockMvc = mockMvc;
+        this.admissionLimiter = admissionLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Test
+    public void testThatShedRequestsGet503WithRetryAfter() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/export"))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.service").exists());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertThat(meterRegistry.get("tickmate.admission.rejected").tag("class", "bulk").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("tickmate.admission.rejected").tag("class", "search").counter().count()).isZero();
+        assertThat(meterRegistry.get("tickmate.admission.in.flight").tag("class", "search").gauge().value()).isZero();
+    }
+
+    @Test
+    public void testThatSearchesAreShedBeforePointReads() {
+        // A limit of 2 leaves searches one slot (75%) and point reads both
+        assertThat(admissionLimiter.tryAcquire(AdmissionClass.SEARCH)).isTrue();
+        assertThat(admissionLimiter.tryAcquire(AdmissionClass.SEARCH)).isFalse();
+        assertThat(admissionLimiter.tryAcquire(AdmissionClass.READ)).isTrue();
+        assertThat(admissionLimiter.tryAcquire(AdmissionClass.READ)).isFalse();
+
+        admissionLimiter.release(AdmissionClass.SEARCH, 1_000_000);
+        assertThat(admissionLimiter.tryAcquire(AdmissionClass.READ)).isTrue();
+        admissionLimiter.release(AdmissionClass.READ, 1_000_000);
+        admissionLimiter.release(AdmissionClass.READ, 1_000_000);
+    }
+}
@@ -0,0 +1,27 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.service.TaskService;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+// The change-feed tests against the in-memory engine's changeSeq and tombstone indexes
+@SpringBootTest(properties = {
+        "tickmate.changes.tombstone-retention=1d",
+        "tickmate.storage.engine=memory",
+        "tickmate.storage.memory.directory=target/memory-store/${random.uuid}"
+})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class MemoryTaskChangesIntegrationTest extends TaskChangesIntegrationTest {
+
+    @Autowired
+    public MemoryTaskChangesIntegrationTest(MockMvc mockMvc, TaskService taskService) {
+        super(mockMvc, taskService);
+    }
+}
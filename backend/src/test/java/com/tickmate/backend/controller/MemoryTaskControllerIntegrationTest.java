@@ -0,0 +1,77 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.id.UuidV7;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.repository.TaskRepository;
+import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.memory.MemoryTaskStore;
+import com.tickmate.backend.service.search.TaskSearchIndex;
+import com.tickmate.backend.service.stats.TaskStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDateTime;
+
+// The whole controller suite against the in-memory engine, each test with a fresh log directory
+@SpringBootTest(properties = {
+        "tickmate.storage.engine=memory",
+        "tickmate.storage.memory.directory=target/memory-store/${random.uuid}"
+})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class MemoryTaskControllerIntegrationTest extends TaskControllerIntegrationTest {
+    private final MockMvc mockMvc;
+    private final TaskMapper taskMapper;
+    private final TaskStatistics taskStatistics;
+    private final MemoryTaskStore memoryTaskStore;
+
+    @Autowired
+    public MemoryTaskControllerIntegrationTest(TaskService taskService,
+                                               MockMvc mockMvc,
+                                               TaskMapper taskMapper,
+                                               TaskRepository taskRepository,
+                                               TaskStatistics taskStatistics,
+                                               TaskSearchIndex taskSearchIndex,
+                                               MemoryTaskStore memoryTaskStore) {
+        super(taskService, mockMvc, taskMapper, taskRepository, taskStatistics, taskSearchIndex);
+        this.mockMvc = mockMvc;
+        this.taskMapper = taskMapper;
+        this.taskStatistics = taskStatistics;
+        this.memoryTaskStore = memoryTaskStore;
+    }
+
+    // The unseen write goes straight into the store instead of the (unused) database
+    @Test
+    @Override
+    public void testStatsReconcileWritesTheyDidNotSee() throws Exception {
+        TaskEntity unseen = taskMapper.toEntity(TestData.createTestTaskRequestC());
+        unseen.setId(UuidV7.generate());
+        unseen.setCreatedAt(LocalDateTime.now());
+        unseen.setUpdatedAt(LocalDateTime.now());
+        memoryTaskStore.write(writer -> {
+            writer.put(unseen);
+            return null;
+        });
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/stats"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(1));
+
+        taskStatistics.reconcile();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/stats"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.byStatus.COMPLETED").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.reconciledAt").exists());
+    }
+}
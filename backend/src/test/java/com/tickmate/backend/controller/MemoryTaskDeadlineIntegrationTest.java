@@ -0,0 +1,28 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.deadline.TaskDeadlineScheduler;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+// The deadline tests with windows loaded from the in-memory engine's dueDate index
+@SpringBootTest(properties = {
+        "tickmate.deadlines.due-soon=1h",
+        "tickmate.deadlines.window=6h",
+        "tickmate.storage.engine=memory",
+        "tickmate.storage.memory.directory=target/memory-store/${random.uuid}"
+})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RecordApplicationEvents
+public class MemoryTaskDeadlineIntegrationTest extends TaskDeadlineIntegrationTest {
+
+    @Autowired
+    public MemoryTaskDeadlineIntegrationTest(TaskService taskService, TaskDeadlineScheduler scheduler) {
+        super(taskService, scheduler);
+    }
+}
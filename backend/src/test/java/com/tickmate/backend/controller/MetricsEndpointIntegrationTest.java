@@ -0,0 +1,60 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsEndpointIntegrationTest {
+
+    private final MockMvc mockMvc;
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+
+    @Autowired
+    public MetricsEndpointIntegrationTest(MockMvc mockMvc, TaskService taskService, TaskMapper taskMapper) {
+        this.mockMvc = mockMvc;
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+    }
+
+    @Test
+    public void testPrometheusEndpointExposesTaskApiMetrics() throws Exception {
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestA()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks").param("status", "PENDING"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        String scrape = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{error=\"none\",exception=\"none\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/api/tasks\",le=")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("spring_data_repository_invocations_seconds_count{exception=\"None\",method=\"findAll\",repository=\"TaskRepository\",state=\"SUCCESS\"}")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("tickmate_tasks_search_total{branch=\"findAll\"} 1.0")
+                .contains("tickmate_tasks_search_total{branch=\"searchTasks\"} 1.0")
+                .contains("tickmate_hibernate_statements_bucket{method=\"GET\",uri=\"/api/tasks\",le=\"1.0\"} 2");
+    }
+}
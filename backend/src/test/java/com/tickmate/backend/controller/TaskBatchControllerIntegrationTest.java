@@ -0,0 +1,107 @@
+package com.tickmate.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.domain.dto.TaskBatchRequestDTO;
+import com.tickmate.backend.domain.dto.TaskBatchUpdateDTO;
+import com.tickmate.backend.domain.dto.TaskRequestDTO;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class TaskBatchControllerIntegrationTest {
+
+    private final MockMvc mockMvc;
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskMapper taskMapper;
+
+    private TaskEntity testTask;
+
+    @Autowired
+    public TaskBatchControllerIntegrationTest(TaskService taskService, MockMvc mockMvc, TaskMapper taskMapper) {
+        this.mockMvc = mockMvc;
+        this.taskMapper = taskMapper;
+        this.taskService = taskService;
+        this.objectMapper = new ObjectMapper();
+    }
+
+    @BeforeEach
+    public void setup() {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        testTask = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestA()));
+    }
+
+    @Test
+    public void testBatchReportsPerItemOutcome() throws Exception {
+        TaskRequestDTO update = TestData.createTestTaskRequestA();
+        update.setStatus(TaskEntity.Status.COMPLETED);
+
+        TaskBatchRequestDTO request = TaskBatchRequestDTO.builder()
+                .create(List.of(TestData.createTestTaskRequestB(), new TaskRequestDTO()))
+                .update(List.of(
+                        TaskBatchUpdateDTO.builder().id(testTask.getId()).task(update).build(),
+                        TaskBatchUpdateDTO.builder().id(UUID.randomUUID()).task(update).build()))
+                .delete(List.of(UUID.randomUUID()))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.succeeded").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].status").value(201))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].task.title").value("Implement Authentication"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[1].status").value(400))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[1].errors.title").isNotEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[2].status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[2].task.status").value("COMPLETED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[2].task.completedAt").isNotEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[3].status").value(404))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[4].operation").value("DELETE"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[4].status").value(404));
+
+        assertThat(taskService.getTaskById(testTask.getId()))
+                .hasValueSatisfying(task -> assertThat(task.getStatus()).isEqualTo(TaskEntity.Status.COMPLETED));
+    }
+
+    @Test
+    public void testBatchDeletesExistingTasks() throws Exception {
+        TaskBatchRequestDTO request = TaskBatchRequestDTO.builder()
+                .delete(List.of(testTask.getId()))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].status").value(204));
+
+        assertThat(taskService.getTaskById(testTask.getId())).isEmpty();
+    }
+}
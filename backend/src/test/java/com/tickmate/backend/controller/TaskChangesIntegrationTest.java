@@ -0,0 +1,133 @@
+package com.tickmate.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.pagination.TaskChangeToken;
+import com.tickmate.backend.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "tickmate.changes.tombstone-retention=1d")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class TaskChangesIntegrationTest {
+    private final MockMvc mockMvc;
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    public TaskChangesIntegrationTest(MockMvc mockMvc, TaskService taskService) {
+        this.mockMvc = mockMvc;
+        this.taskService = taskService;
+    }
+
+    @Test
+    public void testChangesSinceTokenHoldOnlyLaterWritesAndDeletions() throws Exception {
+        TaskEntity kept = create("Kept");
+        TaskEntity deleted = create("Deleted");
+        TaskEntity archived = create("Archived");
+        String token = syncAll(null, 100).token();
+
+        taskService.patchTask(kept.getId(), TaskEntity.builder().priority(TaskEntity.Priority.HIGH).build());
+        taskService.deleteTask(deleted.getId());
+        taskService.patchTask(archived.getId(), TaskEntity.builder().status(TaskEntity.Status.COMPLETED).build());
+        taskService.archiveTasks(LocalDateTime.now().plusMinutes(1), 100);
+        TaskEntity created = create("Created");
+
+        Sync sync = syncAll(token, 100);
+        assertThat(sync.changed()).extracting(task -> task.get("id").asText())
+                .containsExactly(kept.getId().toString(), created.getId().toString());
+        assertThat(sync.changed().getFirst().get("priority").asText()).isEqualTo("HIGH");
+        assertThat(sync.deleted()).contains(deleted.getId().toString(), archived.getId().toString());
+
+        Sync nothingNew = syncAll(sync.token(), 100);
+        assertThat(nothingNew.changed()).isEmpty();
+        assertThat(nothingNew.deleted()).isEmpty();
+    }
+
+    @Test
+    public void testChangesArePagedByLimit() throws Exception {
+        String token = syncAll(null, 100).token();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(create("Task " + i).getId().toString());
+        }
+        taskService.deleteTask(UUID.fromString(ids.get(1)));
+
+        JsonNode first = read(token, 2);
+        assertThat(first.get("changed")).hasSize(2);
+        assertThat(first.get("hasMore").asBoolean()).isTrue();
+
+        Sync rest = syncAll(first.get("next").asText(), 2);
+        List<String> changed = new ArrayList<>();
+        first.get("changed").forEach(task -> changed.add(task.get("id").asText()));
+        rest.changed().forEach(task -> changed.add(task.get("id").asText()));
+        assertThat(changed).containsExactly(ids.get(0), ids.get(2), ids.get(3), ids.get(4));
+        assertThat(rest.deleted()).containsExactly(ids.get(1));
+    }
+
+    @Test
+    public void testTokenOlderThanRetentionIsGone() throws Exception {
+        String expired = new TaskChangeToken(0, new UUID(0, 0), Instant.now().minus(Duration.ofDays(2))).encode();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/changes").param("since", expired))
+                .andExpect(MockMvcResultMatchers.status().isGone())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.since").isNotEmpty());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/changes").param("since", "not-a-token"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    private record Sync(List<JsonNode> changed, List<String> deleted, String token) {
+    }
+
+    private TaskEntity create(String title) {
+        return taskService.createTask(TaskEntity.builder().title(title).build());
+    }
+
+    // Reads until hasMore is false, as a syncing client does
+    private Sync syncAll(String since, int limit) throws Exception {
+        List<JsonNode> changed = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        String token = since;
+        JsonNode page;
+        do {
+            page = read(token, limit);
+            page.get("changed").forEach(changed::add);
+            page.get("deleted").forEach(id -> deleted.add(id.asText()));
+            token = page.get("next").asText();
+        } while (page.get("hasMore").asBoolean());
+        return new Sync(changed, deleted, token);
+    }
+
+    private JsonNode read(String since, int limit) throws Exception {
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders.get("/api/tasks/changes")
+                .param("limit", Integer.toString(limit));
+        if (since != null) {
+            request.param("since", since);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
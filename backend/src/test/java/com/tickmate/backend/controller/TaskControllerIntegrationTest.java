@@ -1,14 +1,23 @@
 package com.tickmate.backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jayway.jsonpath.JsonPath;
 import com.tickmate.backend.TestData;
+import com.tickmate.backend.domain.dto.TaskPatchDTO;
 import com.tickmate.backend.domain.dto.TaskRequestDTO;
 import com.tickmate.backend.domain.dto.TaskResponseDTO;
 import com.tickmate.backend.domain.entity.TaskEntity;
 import com.tickmate.backend.mapper.TaskMapper;
+import com.tickmate.backend.repository.TaskRepository;
 import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.search.TaskSearchIndex;
+import com.tickmate.backend.service.stats.TaskStatistics;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,11 +28,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -34,13 +49,24 @@ public class TaskControllerIntegrationTest {
     private final TaskService taskService;
     private final ObjectMapper objectMapper;
     private final TaskMapper taskMapper;
+    private final TaskRepository taskRepository;
+    private final TaskStatistics taskStatistics;
+    private final TaskSearchIndex taskSearchIndex;
 
     private TaskEntity testTask;
 
     @Autowired
-    public TaskControllerIntegrationTest(TaskService taskService, MockMvc mockMvc, TaskMapper taskMapper) {
+    public TaskControllerIntegrationTest(TaskService taskService,
+                                         MockMvc mockMvc,
+                                         TaskMapper taskMapper,
+                                         TaskRepository taskRepository,
+                                         TaskStatistics taskStatistics,
+                                         TaskSearchIndex taskSearchIndex) {
         this.mockMvc = mockMvc;
+        this.taskSearchIndex = taskSearchIndex;
         this.taskMapper = taskMapper;
+        this.taskRepository = taskRepository;
+        this.taskStatistics = taskStatistics;
         this.taskService = taskService;
         this.objectMapper = new ObjectMapper();
     }
@@ -104,6 +130,55 @@ public class TaskControllerIntegrationTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.totalPages").value(2));
     }
 
+    @Test
+    public void testGetTaskSliceReportsHasNextWithoutTotal() throws Exception {
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestC()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("slice", "true")
+                        .param("size", "2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.first").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalPages").doesNotExist());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("slice", "true")
+                        .param("size", "2")
+                        .param("page", "1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(false))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.last").value(true));
+    }
+
+    @Test
+    public void testGetTaskSliceWithApproximateTotal() throws Exception {
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestC()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("slice", "true")
+                        .param("total", "true")
+                        .param("size", "1")
+                        .param("status", "PENDING,IN_PROGRESS"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalPages").value(2));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("slice", "true")
+                        .param("total", "true")
+                        .param("q", "documentation"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title").value("Write API Documentation"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1));
+    }
+
     @Test
     public void testGetTasksWithStatusFilter() throws Exception {
         // Create tasks with different statuses
@@ -120,6 +195,430 @@ public class TaskControllerIntegrationTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].status").value(TaskEntity.Status.COMPLETED.name()));
     }
 
+    @Test
+    public void testGetTasksWithCursorWalksForwardAndBack() throws Exception {
+        TaskResponseDTO taskB = taskMapper.toDTO(taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB())));
+        TaskResponseDTO taskC = taskMapper.toDTO(taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestC())));
+
+        String firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("cursor", "")
+                        .param("size", "2")
+                        .param("sort", "dueDate,asc")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(taskC.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].id").value(testTask.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.prev").isEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        String secondPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("cursor", JsonPath.<String>read(firstPage, "$.next"))
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(taskB.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next").isEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("cursor", JsonPath.<String>read(secondPage, "$.prev"))
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(taskC.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].id").value(testTask.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.prev").isEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next").isNotEmpty());
+    }
+
+    @Test
+    public void testGetTasksWithMalformedCursorReturns400() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("cursor", "not-a-cursor")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void testGetTasksWithSliceAndCursorIsServedByCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("slice", "true")
+                        .param("cursor", "")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(testTask.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.prev").isEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").doesNotExist());
+    }
+
+    @Test
+    public void testSearchTasksMatchesTitleSubstringsInTheRequestedOrder() throws Exception {
+        TaskEntity auth = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+        TaskEntity docs = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestC()));
+
+        // Substrings of the title only: no typo tolerance, no description matches
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("q", "documentaton")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(0));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("q", "endpoints")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("q", "MENT")
+                        .param("sort", "dueDate,asc")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(docs.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].id").value(auth.getId().toString()));
+
+        // "ment" is a larger share of Implement's word than of Documentation's; the index is built in the background
+        awaitSearchIndex();
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("q", "ment")
+                        .param("sort", "relevance")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(auth.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].id").value(docs.getId().toString()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("q", "landing")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(testTask.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    public void testSearchTasksWithAQueryShorterThanATrigram() throws Exception {
+        TaskEntity docs = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestC()));
+        awaitSearchIndex();
+
+        // The index has no trigram to narrow "cu" with, the LIKE query answers it
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("q", "cu")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(docs.getId().toString()));
+    }
+
+    @Test
+    public void testSearchTasksAppliesStatusFilterAndFollowsDeletes() throws Exception {
+        TaskEntity docs = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestC()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("q", "documentation")
+                        .param("status", TaskEntity.Status.PENDING.name())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(0));
+
+        taskService.deleteTask(docs.getId());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("q", "documentation")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    public void testGetTasksAnswersNotModifiedUntilSomethingChanges() throws Exception {
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", Matchers.not(etag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    public void testEachEncodingHasItsOwnEtag() throws Exception {
+        for (String path : List.of("/api/tasks", "/api/tasks/" + testTask.getId())) {
+            String jsonEtag = mockMvc.perform(MockMvcRequestBuilders.get(path))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.header().stringValues("Vary", Matchers.hasItem("Accept")))
+                    .andReturn().getResponse().getHeader("ETag");
+            String cborEtag = mockMvc.perform(MockMvcRequestBuilders.get(path)
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.header().stringValues("Vary", Matchers.hasItem("Accept")))
+                    .andReturn().getResponse().getHeader("ETag");
+            assertThat(cborEtag).isNotEqualTo(jsonEtag);
+
+            // A cached JSON copy does not validate a CBOR request, its own copy does
+            mockMvc.perform(MockMvcRequestBuilders.get(path)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .header("If-None-Match", jsonEtag))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+            mockMvc.perform(MockMvcRequestBuilders.get(path)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .header("If-None-Match", cborEtag))
+                    .andExpect(MockMvcResultMatchers.status().isNotModified())
+                    .andExpect(MockMvcResultMatchers.header().stringValues("Vary", Matchers.hasItem("Accept")));
+        }
+    }
+
+    @Test
+    public void testGetTasksWithFieldsReturnsOnlyRequestedColumns() throws Exception {
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("fields", "title,status")
+                        .param("status", TaskEntity.Status.IN_PROGRESS.name()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(testTask.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title").value(testTask.getTitle()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].status").value("IN_PROGRESS"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].priority").doesNotExist());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("fields", "title,dueDate")
+                        .param("q", "authentication"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title").value("Implement Authentication"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].dueDate").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].status").doesNotExist());
+    }
+
+    @Test
+    public void testGetTasksWithUnknownFieldReturns400() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("fields", "title,secret"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.fields").exists());
+    }
+
+    @Test
+    public void testListEntriesMatchTheSingleTaskRepresentation() throws Exception {
+        TaskEntity completed = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()).toBuilder()
+                .description(null)
+                .status(TaskEntity.Status.COMPLETED)
+                .completedAt(LocalDateTime.now().minusHours(1))
+                .build());
+
+        for (TaskEntity task : List.of(testTask, completed)) {
+            String single = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + task.getId()))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            String list = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks").param("q", task.getTitle()))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            JsonNode entry = objectMapper.readTree(list).get("content").get(0);
+            assertThat(entry.toString()).isEqualTo(objectMapper.readTree(single).toString());
+        }
+    }
+
+    @Test
+    public void testGetTasksWithLeanEnvelope() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("envelope", "lean"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title").value(testTask.getTitle()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalPages").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size").value(20))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.pageable").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.sort").doesNotExist());
+    }
+
+    @Test
+    public void testGetTasksInBinaryEncodings() throws Exception {
+        for (ObjectMapper binaryMapper : List.of(new SmileMapper(), new CBORMapper())) {
+            MediaType mediaType = binaryMapper instanceof SmileMapper
+                    ? MediaType.parseMediaType("application/x-jackson-smile")
+                    : MediaType.APPLICATION_CBOR;
+
+            MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks").accept(mediaType))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(mediaType))
+                    .andReturn();
+
+            JsonNode page = binaryMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(page.get("totalElements").asLong()).isEqualTo(1);
+            assertThat(page.has("pageable")).isFalse();
+            assertThat(page.get("content").get(0).get("title").asText()).isEqualTo(testTask.getTitle());
+            assertThat(page.get("content").get(0).get("dueDate").asText()).isEqualTo(testTask.getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")));
+        }
+    }
+
+    // ---------------- EXPORT ----------------
+    @Test
+    public void testExportTasksAsNdjson() throws Exception {
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+
+        MvcResult export = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(export))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(0), TaskResponseDTO.class).getId()).isEqualTo(testTask.getId());
+    }
+
+    @Test
+    public void testExportTasksAsCsvQuotesSpecialCharacters() throws Exception {
+        TaskEntity quoted = taskMapper.toEntity(TestData.createTestTaskRequestB());
+        quoted.setTitle("Review \"auth\", then ship");
+        taskService.createTask(quoted);
+
+        MvcResult export = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/export")
+                        .accept("text/csv"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(export))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().toList())
+                .hasSize(3)
+                .first().isEqualTo("id,title,description,status,priority,dueDate,completedAt,createdAt,updatedAt");
+        assertThat(body).contains("\"Review \"\"auth\"\", then ship\"");
+    }
+
+    @Test
+    public void testExportTasksRejectsUnknownFormat() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/export")
+                        .param("format", "xml"))
+                .andExpect(MockMvcResultMatchers.status().isNotAcceptable());
+    }
+
+    // ---------------- STREAM ----------------
+    @Test
+    public void testStreamPushesMatchingChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/stream")
+                        .param("status", TaskEntity.Status.PENDING.name())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        TaskEntity pending = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestC()));
+        taskService.deleteTask(pending.getId());
+
+        String body = awaitStreamContent(stream, "event:deleted");
+        assertThat(body).contains("event:created", pending.getId().toString());
+        assertThat(body).doesNotContain("Write API Documentation");
+    }
+
+    @Test
+    public void testStreamReplaysMissedEventsAfterLastEventId() throws Exception {
+        MvcResult first = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andReturn();
+        taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+
+        String body = awaitStreamContent(first, "event:created");
+        String lastEventId = body.lines()
+                .filter(line -> line.startsWith("id:"))
+                .reduce((a, b) -> b)
+                .orElseThrow()
+                .substring(3);
+
+        TaskEntity missed = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestC()));
+
+        MvcResult resumed = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/stream")
+                        .header("Last-Event-ID", lastEventId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andReturn();
+
+        assertThat(awaitStreamContent(resumed, missed.getId().toString())).doesNotContain("Implement Authentication");
+    }
+
+    private void awaitSearchIndex() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!taskSearchIndex.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(taskSearchIndex.isReady()).isTrue();
+    }
+
+    private static String awaitStreamContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+    // ---------------- STATS ----------------
+    @Test
+    public void testStatsFollowCreateUpdateAndDelete() throws Exception {
+        TaskEntity pending = taskService.createTask(taskMapper.toEntity(TestData.createTestTaskRequestB()));
+        TaskRequestDTO late = TestData.createTestTaskRequestB();
+        late.setPriority(TaskEntity.Priority.MEDIUM);
+        late.setDueDate(LocalDateTime.now().minusDays(1));
+        TaskEntity overdue = taskService.createTask(taskMapper.toEntity(late));
+
+        TaskRequestDTO completed = TestData.createTestTaskRequestA();
+        completed.setStatus(TaskEntity.Status.COMPLETED);
+        taskService.updateTask(testTask.getId(), taskMapper.toEntity(completed));
+        taskService.patchTask(overdue.getId(), TaskEntity.builder().priority(TaskEntity.Priority.LOW).build());
+        taskService.deleteTask(pending.getId());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/stats"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.byStatus.COMPLETED").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.byStatus.PENDING").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.byStatus.IN_PROGRESS").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.byStatusAndPriority.COMPLETED.HIGH").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.byPriority.MEDIUM").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.overdue").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.overdueByPriority.LOW").value(1));
+    }
+
+    @Test
+    public void testStatsReconcileWritesTheyDidNotSee() throws Exception {
+        TaskEntity unseen = taskMapper.toEntity(TestData.createTestTaskRequestC());
+        taskRepository.save(unseen);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/stats"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(1));
+
+        taskStatistics.reconcile();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/stats"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.byStatus.COMPLETED").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.reconciledAt").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.stale").value(false));
+    }
+
     // ---------------- GET BY ID ----------------
     @Test
     public void testGetTaskByIdReturnsTaskWhenExists() throws Exception {
@@ -141,6 +640,50 @@ public class TaskControllerIntegrationTest {
                 .andExpect(MockMvcResultMatchers.status().isNotFound());
     }
 
+    @Test
+    public void testGetTaskByIdIsCachedAndInvalidatedByUpdate() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + testTask.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + testTask.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/cache/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hitCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missCount").value(1));
+
+        TaskRequestDTO request = TestData.createTestTaskRequestA();
+        request.setTitle("UPDATED TASK");
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/tasks/" + testTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + testTask.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.title").value("UPDATED TASK"));
+    }
+
+    @Test
+    public void testGetTaskByIdAnswersNotModifiedForCurrentETag() throws Exception {
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + testTask.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + testTask.getId())
+                        .header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        TaskEntity changes = new TaskEntity();
+        changes.setTitle("UPDATED TASK");
+        taskService.updateTask(testTask.getId(), changes);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + testTask.getId())
+                        .header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.title").value("UPDATED TASK"));
+    }
+
     // ---------------- UPDATE ----------------
     @Test
     public void testUpdateTaskSuccessfullyUpdatesTask() throws Exception {
@@ -173,6 +716,55 @@ public class TaskControllerIntegrationTest {
                 .andExpect(MockMvcResultMatchers.status().isNotFound());
     }
 
+    // ---------------- PATCH ----------------
+    @Test
+    public void testPatchTaskChangesOnlySuppliedFields() throws Exception {
+        TaskPatchDTO patch = TaskPatchDTO.builder().priority(TaskEntity.Priority.LOW).build();
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/tasks/" + testTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patch)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(testTask.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.priority").value("LOW"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.title").value(testTask.getTitle()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.description").value(testTask.getDescription()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(testTask.getStatus().toString()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + testTask.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.priority").value("LOW"));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/tasks/" + testTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"   \"}"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void testPatchTaskManagesCompletedAt() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/tasks/" + testTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("COMPLETED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.completedAt").exists());
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/tasks/" + testTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"PENDING\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("PENDING"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.completedAt").doesNotExist());
+    }
+
+    @Test
+    public void testPatchTaskReturns404WhenTaskNotExists() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/tasks/" + UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"priority\":\"LOW\"}"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
     // ---------------- DELETE ----------------
     @Test
     public void testDeleteTaskReturns204WhenExists() throws Exception {
@@ -0,0 +1,100 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.deadline.TaskDeadline;
+import com.tickmate.backend.service.deadline.TaskDeadlineScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"tickmate.deadlines.due-soon=1h", "tickmate.deadlines.window=6h"})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RecordApplicationEvents
+public class TaskDeadlineIntegrationTest {
+    private final TaskService taskService;
+    private final TaskDeadlineScheduler scheduler;
+    private final long now = System.currentTimeMillis();
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    public TaskDeadlineIntegrationTest(TaskService taskService, TaskDeadlineScheduler scheduler) {
+        this.taskService = taskService;
+        this.scheduler = scheduler;
+    }
+
+    @Test
+    public void testWritesRescheduleAndCancelDeadlines() {
+        TaskEntity moved = create("Renew certificate", Duration.ofHours(2));
+        TaskEntity completed = create("Book venue", Duration.ofHours(2));
+        TaskEntity deleted = create("Order badges", Duration.ofHours(2));
+
+        scheduler.tick(now + Duration.ofMinutes(61).toMillis());
+        assertThat(deadlines()).extracting(TaskDeadline::kind).containsOnly(TaskDeadline.Kind.DUE_SOON);
+        assertThat(deadlines()).extracting(TaskDeadline::taskId)
+                .containsExactlyInAnyOrder(moved.getId(), completed.getId(), deleted.getId());
+
+        taskService.patchTask(moved.getId(), TaskEntity.builder().dueDate(at(Duration.ofHours(3))).build());
+        taskService.patchTask(completed.getId(), TaskEntity.builder().status(TaskEntity.Status.COMPLETED).build());
+        taskService.deleteTask(deleted.getId());
+        events.clear();
+
+        // Only the moved task is still held, with both timers for its new dueDate
+        scheduler.tick(now + Duration.ofMinutes(121).toMillis());
+        assertThat(deadlines()).containsExactly(
+                new TaskDeadline(TaskDeadline.Kind.DUE_SOON, moved.getId(), at(Duration.ofHours(3))));
+
+        scheduler.tick(now + Duration.ofMinutes(181).toMillis());
+        assertThat(deadlines()).containsExactly(
+                new TaskDeadline(TaskDeadline.Kind.DUE_SOON, moved.getId(), at(Duration.ofHours(3))),
+                new TaskDeadline(TaskDeadline.Kind.OVERDUE, moved.getId(), at(Duration.ofHours(3))));
+        assertThat(scheduler.pending()).isZero();
+    }
+
+    @Test
+    public void testTasksBeyondTheWindowAreLoadedWhenItReachesThem() {
+        TaskEntity later = create("Quarterly review", Duration.ofHours(10));
+        assertThat(scheduler.pending()).isZero();
+
+        assertThat(scheduler.load(now + Duration.ofHours(5).toMillis())).isEqualTo(1);
+        assertThat(scheduler.pending()).isEqualTo(2);
+
+        scheduler.tick(now + Duration.ofHours(10).toMillis() + 1000);
+        assertThat(deadlines()).extracting(TaskDeadline::kind)
+                .containsExactly(TaskDeadline.Kind.DUE_SOON, TaskDeadline.Kind.OVERDUE);
+        assertThat(deadlines()).extracting(TaskDeadline::taskId).containsOnly(later.getId());
+    }
+
+    private List<TaskDeadline> deadlines() {
+        return events.stream(TaskDeadline.class).toList();
+    }
+
+    private TaskEntity create(String title, Duration dueIn) {
+        return taskService.createTask(TaskEntity.builder()
+                .title(title)
+                .priority(TaskEntity.Priority.MEDIUM)
+                .dueDate(at(dueIn))
+                .build());
+    }
+
+    // Whole seconds, so the dueDate survives the database's millisecond precision unchanged
+    private LocalDateTime at(Duration fromNow) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli((now / 1000) * 1000 + fromNow.toMillis()), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,100 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "tickmate.import.chunk-size=2")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class TaskImportControllerIntegrationTest {
+
+    private static final String NDJSON = """
+            {"title":"Migrate users","status":"PENDING","priority":"HIGH","dueDate":"2020-01-01T10:00:00"}
+            {"title":"","status":"PENDING","priority":"LOW"}
+            {"title":"Migrate tasks","description":"From the old tracker","status":"COMPLETED","priority":"MEDIUM"}
+            {"title":"Migrate comments","status":"IN_PROGRESS","priority":"LOW"}
+            """;
+
+    private final MockMvc mockMvc;
+    private final TaskService taskService;
+
+    @Autowired
+    public TaskImportControllerIntegrationTest(MockMvc mockMvc, TaskService taskService) {
+        this.mockMvc = mockMvc;
+        this.taskService = taskService;
+    }
+
+    @Test
+    public void testImportNdjsonCommitsValidRowsAndReportsRejects() throws Exception {
+        String body = mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks/import")
+                        .param("importId", "tracker-1")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(NDJSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("\"type\":\"rejected\",\"record\":1,\"errors\":{\"title\":");
+        assertThat(body).contains("\"type\":\"progress\",\"importId\":\"tracker-1\",\"position\":3,\"imported\":2,\"rejected\":1");
+        assertThat(body).contains("\"type\":\"completed\",\"importId\":\"tracker-1\",\"position\":4,\"imported\":3,\"rejected\":1");
+        assertThat(taskService.getTasks(null, null, null, Pageable.unpaged()).getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    public void testImportResumesFromLastCommittedChunk() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks/import")
+                        .param("importId", "tracker-2")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(NDJSON))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks/import")
+                        .param("importId", "tracker-2")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(NDJSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("\"type\":\"started\",\"importId\":\"tracker-2\",\"position\":4");
+        assertThat(taskService.getTasks(null, null, null, Pageable.unpaged()).getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    public void testImportCsvWithQuotedFields() throws Exception {
+        String csv = """
+                id,title,description,status,priority,dueDate
+                1,"Write ""import"" docs","Covers, among others
+                resuming",PENDING,LOW,
+                2,Broken row,,UNKNOWN,LOW,
+                """;
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("\"errors\":{\"status\":\"Unknown value 'UNKNOWN'\"}");
+        assertThat(body).contains("\"type\":\"completed\"");
+        assertThat(taskService.getTasks(null, null, null, Pageable.unpaged()).getContent())
+                .singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getTitle()).isEqualTo("Write \"import\" docs");
+                    assertThat(task.getDescription()).isEqualTo("Covers, among others\nresuming");
+                });
+    }
+}
@@ -0,0 +1,59 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.journal.TaskJournal;
+import com.tickmate.backend.service.journal.TaskJournalRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "tickmate.journal.enabled=true",
+        "tickmate.journal.directory=target/journal/${random.uuid}"})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class TaskJournalIntegrationTest {
+    private final TaskService taskService;
+    private final TaskJournal taskJournal;
+
+    @Autowired
+    public TaskJournalIntegrationTest(TaskService taskService, TaskJournal taskJournal) {
+        this.taskService = taskService;
+        this.taskJournal = taskJournal;
+    }
+
+    @Test
+    public void testEveryCommittedWriteIsJournaled() throws InterruptedException {
+        long start = taskJournal.endOffset();
+        TaskEntity created = taskService.createTask(TaskEntity.builder()
+                .title("Write the journal")
+                .priority(TaskEntity.Priority.HIGH)
+                .build());
+        taskService.patchTask(created.getId(), TaskEntity.builder().status(TaskEntity.Status.COMPLETED).build());
+        taskService.deleteTask(created.getId());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<TaskJournalRecord> records = taskJournal.read(start, 10).records();
+        while (records.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            records = taskJournal.read(start, 10).records();
+        }
+
+        assertThat(records).extracting(TaskJournalRecord::type).containsExactly(
+                TaskChangedEvent.Type.CREATED, TaskChangedEvent.Type.UPDATED, TaskChangedEvent.Type.DELETED);
+        assertThat(records).extracting(TaskJournalRecord::taskId).containsOnly(created.getId());
+        assertThat(records.get(0).task().getTitle()).isEqualTo("Write the journal");
+        assertThat(records.get(1).task().getStatus()).isEqualTo(TaskEntity.Status.COMPLETED);
+        assertThat(records.get(1).task().getCompletedAt()).isNotNull();
+        assertThat(records.get(2).task()).isNull();
+    }
+}
@@ -0,0 +1,173 @@
+package com.tickmate.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jayway.jsonpath.JsonPath;
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.service.routing.ReadYourWritesInterceptor;
+import com.tickmate.backend.service.routing.ReplicaReads;
+import com.tickmate.backend.service.routing.ReplicaRoutingDataSource;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "tickmate.datasource.replica.enabled=true",
+        "tickmate.datasource.replica.urls=" + TaskReplicaRoutingIntegrationTest.REPLICA_URL + ";IFEXISTS=TRUE",
+        "tickmate.datasource.replica.connection-timeout=250ms",
+        "tickmate.datasource.replica.pin-window=1s",
+        "tickmate.datasource.replica.health-check-interval=1h"
+})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class TaskReplicaRoutingIntegrationTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:tickmate-replica;DB_CLOSE_DELAY=-1";
+    private static final UUID REPLICA_TASK_ID = UUID.fromString("00000000-0000-0000-0000-00000000a001");
+
+    private final MockMvc mockMvc;
+    private final ReplicaReads replicaReads;
+    private final ReplicaRoutingDataSource dataSource;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Autowired
+    public TaskReplicaRoutingIntegrationTest(MockMvc mockMvc,
+                                             ReplicaReads replicaReads,
+                                             ReplicaRoutingDataSource dataSource) {
+        this.mockMvc = mockMvc;
+        this.replicaReads = replicaReads;
+        this.dataSource = dataSource;
+    }
+
+    // A replica that has not caught up: same schema, one task the primary does not have
+    @BeforeEach
+    public void setup() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "")) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("data.sql"));
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO tasks (id, title, status, priority, created_at, updated_at, change_seq) "
+                        + "VALUES ('" + REPLICA_TASK_ID + "', 'Replica only', 'PENDING', 'LOW', "
+                        + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)");
+            }
+        }
+        replicaReads.checkHealth();
+    }
+
+    @AfterEach
+    public void dropReplica() {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL + ";IFEXISTS=TRUE", "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        } catch (SQLException ignored) {
+            // Already shut down by the test
+        }
+    }
+
+    @Test
+    public void testReadsGoToReplicaExceptAfterTheClientsOwnWrite() throws Exception {
+        list("reader").andExpect(ids(Matchers.hasItem(REPLICA_TASK_ID.toString())));
+        // Point reads fill the task cache, so they are served by the primary only
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + REPLICA_TASK_ID)
+                        .header(ReadYourWritesInterceptor.CLIENT_ID_HEADER, "reader"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks")
+                        .header(ReadYourWritesInterceptor.CLIENT_ID_HEADER, "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TestData.createTestTaskRequestA())))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String createdId = JsonPath.read(body, "$.id");
+
+        // The writer reads its write back from the primary; other clients' listings still come from the replica
+        String etag = list("writer").andExpect(ids(Matchers.contains(createdId)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        list("reader").andExpect(ids(Matchers.allOf(
+                        Matchers.hasItem(REPLICA_TASK_ID.toString()), Matchers.not(Matchers.hasItem(createdId)))))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.ETAG));
+        // A replica's page is never validated against the primary's version
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("size", "100")
+                        .header(ReadYourWritesInterceptor.CLIENT_ID_HEADER, "reader")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(ids(Matchers.not(Matchers.hasItem(createdId))));
+        // but a point read of the fresh task finds it whoever asks
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + createdId)
+                        .header(ReadYourWritesInterceptor.CLIENT_ID_HEADER, "reader"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Thread.sleep(1100);
+        list("writer").andExpect(ids(Matchers.hasItem(REPLICA_TASK_ID.toString())));
+    }
+
+    @Test
+    public void testSliceCursorAndFieldListingsGoToReplica() throws Exception {
+        String etag = list("writer").andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        for (String[] param : new String[][]{{"slice", "true"}, {"cursor", ""}, {"fields", "id,title"}}) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                            .param(param[0], param[1])
+                            .param("size", "100")
+                            .header(ReadYourWritesInterceptor.CLIENT_ID_HEADER, "reader")
+                            .header(HttpHeaders.IF_NONE_MATCH, String.valueOf(etag)))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.ETAG))
+                    .andExpect(ids(Matchers.hasItem(REPLICA_TASK_ID.toString())));
+        }
+    }
+
+    @Test
+    public void testReadsFallBackToPrimaryWhenReplicaIsDown() throws Exception {
+        list("reader").andExpect(ids(Matchers.hasItem(REPLICA_TASK_ID.toString())));
+
+        dropReplica();
+
+        list("reader").andExpect(ids(Matchers.empty()));
+        assertThat(dataSource.healthyReplicaCount()).isZero();
+
+        replicaReads.checkHealth();
+        assertThat(dataSource.healthyReplicaCount()).isZero();
+    }
+
+    private ResultActions list(String client) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("size", "100")
+                        .header(ReadYourWritesInterceptor.CLIENT_ID_HEADER, client))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    private static ResultMatcher ids(Matcher<? super List<String>> matcher) {
+        return MockMvcResultMatchers.jsonPath("$.content[*].id", matcher);
+    }
+}
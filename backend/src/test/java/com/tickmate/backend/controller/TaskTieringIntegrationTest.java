@@ -0,0 +1,102 @@
+package com.tickmate.backend.controller;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.tiering.TaskTiering;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"tickmate.tiering.after=7d", "tickmate.tiering.batch-size=1",
+        "tickmate.tiering.max-batches-per-run=1"})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class TaskTieringIntegrationTest {
+    private final MockMvc mockMvc;
+    private final TaskService taskService;
+    private final TaskTiering taskTiering;
+
+    @Autowired
+    public TaskTieringIntegrationTest(MockMvc mockMvc, TaskService taskService, TaskTiering taskTiering) {
+        this.mockMvc = mockMvc;
+        this.taskService = taskService;
+        this.taskTiering = taskTiering;
+    }
+
+    @Test
+    public void testTieringMovesOnlyLongFinishedTasks() throws Exception {
+        TaskEntity oldCompleted = create("Ship release 1.0", TaskEntity.Status.COMPLETED, LocalDateTime.now().minusDays(40));
+        create("Ship release 0.9", TaskEntity.Status.COMPLETED, LocalDateTime.now().minusDays(30));
+        create("Ship release 1.1", TaskEntity.Status.COMPLETED, LocalDateTime.now().minusDays(1));
+        create("Plan release 2.0", TaskEntity.Status.PENDING, null);
+
+        // One batch of one task per run
+        assertThat(taskTiering.run()).isEqualTo(1);
+        assertThat(taskTiering.run()).isEqualTo(1);
+        assertThat(taskTiering.run()).isZero();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + oldCompleted.getId()))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/" + oldCompleted.getId())
+                        .param("includeArchived", "true"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.title").value("Ship release 1.0"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("COMPLETED"));
+    }
+
+    @Test
+    public void testIncludeArchivedMergesBothTiersInSortOrder() throws Exception {
+        create("Alpha", TaskEntity.Status.COMPLETED, LocalDateTime.now().minusDays(40));
+        create("Bravo", TaskEntity.Status.PENDING, null);
+        create("Charlie", TaskEntity.Status.ARCHIVED, LocalDateTime.now().minusDays(40));
+        create("Delta", TaskEntity.Status.IN_PROGRESS, null);
+        while (taskTiering.run() > 0) {
+            // drained one batch per run
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("includeArchived", "true")
+                        .param("sort", "title,asc")
+                        .param("page", "1")
+                        .param("size", "2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title").value("Charlie"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].title").value("Delta"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .param("includeArchived", "true")
+                        .param("q", "alp")
+                        .param("fields", "title"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title").value("Alpha"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].status").doesNotExist());
+    }
+
+    private TaskEntity create(String title, TaskEntity.Status status, LocalDateTime completedAt) {
+        return taskService.createTask(TaskEntity.builder()
+                .title(title)
+                .status(status)
+                .priority(TaskEntity.Priority.MEDIUM)
+                .completedAt(completedAt)
+                .build());
+    }
+}
@@ -2,14 +2,21 @@ package com.tickmate.backend.repository;
 
 import com.tickmate.backend.TestData;
 import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.id.UuidV7;
+import com.tickmate.backend.domain.pagination.TaskCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -108,4 +115,61 @@ public class TaskRepositoryIntegrationTest {
         Optional<TaskEntity> result = taskRepository.findById(java.util.UUID.randomUUID());
         assertThat(result).isEmpty();
     }
+
+    @Test
+    public void testThatNewTaskIdsAreTimeOrderedVersion7() {
+        long before = System.currentTimeMillis();
+        UUID previous = null;
+        for (int i = 0; i < 3; i++) {
+            TaskEntity task = TestData.createTestTaskEntityB();
+            task.setId(null);
+
+            UUID id = taskRepository.save(task).getId();
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+            assertThat(UuidV7.timestamp(id)).isBetween(before, System.currentTimeMillis() + 1);
+            if (previous != null) {
+                assertThat(id.toString()).isGreaterThan(previous.toString());
+            }
+            previous = id;
+        }
+    }
+
+    @Test
+    public void testThatScrollingCrossesIntoTasksWithoutADueDate() {
+        TaskEntity first = saveDue(TestData.createTestTaskEntityA().getDueDate());
+        TaskEntity second = saveDue(TestData.createTestTaskEntityA().getDueDate().plusDays(1));
+        TaskEntity undatedA = saveDue(null);
+        TaskEntity undatedB = saveDue(null);
+
+        assertThat(scroll(Sort.Direction.ASC, 1)).containsExactly(first.getId(), second.getId(), undatedA.getId(), undatedB.getId());
+        assertThat(scroll(Sort.Direction.DESC, 1)).containsExactly(undatedB.getId(), undatedA.getId(), second.getId(), first.getId());
+        assertThat(taskRepository.scrollTasks(null, null, null, "dueDate", Sort.Direction.ASC,
+                TaskCursor.after(first, "dueDate", Sort.Direction.ASC), 3))
+                .extracting(TaskEntity::getId)
+                .containsExactly(second.getId(), undatedA.getId(), undatedB.getId());
+        assertThat(taskRepository.scrollTasks(null, null, null, "dueDate", Sort.Direction.DESC,
+                TaskCursor.after(undatedA, "dueDate", Sort.Direction.DESC), 3))
+                .extracting(TaskEntity::getId)
+                .containsExactly(second.getId(), first.getId());
+    }
+
+    private TaskEntity saveDue(LocalDateTime dueDate) {
+        TaskEntity task = TestData.createTestTaskEntityB();
+        task.setId(null);
+        task.setDueDate(dueDate);
+        return taskRepository.save(task);
+    }
+
+    // Walks the whole table one row per page, seeking past the previous page's row
+    private List<UUID> scroll(Sort.Direction direction, int size) {
+        List<UUID> ids = new ArrayList<>();
+        TaskCursor cursor = null;
+        List<TaskEntity> page;
+        while (!(page = taskRepository.scrollTasks(null, null, null, "dueDate", direction, cursor, size)).isEmpty()) {
+            page.forEach(task -> ids.add(task.getId()));
+            cursor = TaskCursor.after(page.getLast(), "dueDate", direction);
+        }
+        return ids;
+    }
 }
@@ -0,0 +1,186 @@
+package com.tickmate.backend.repository;
+
+import com.tickmate.backend.TestData;
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.service.TaskService;
+import com.tickmate.backend.service.impl.TaskChangeSequence;
+import com.tickmate.backend.service.search.TaskSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The native statements that differ between PostgreSQL and the H2 the other tests run on, run against the
+// PostgreSQL of docker-compose with the schema from data.sql and data-postgresql.sql. Skipped where Docker is not
+// available.
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=update",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.platform=postgresql",
+        "tickmate.deadlines.enabled=false",
+        "tickmate.tiering.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskRepositoryPostgresIntegrationTest {
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:18.0-alpine");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskChangeSequence taskChangeSequence;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @BeforeEach
+    public void clear() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    public void testPatchReturnsTheRowAsItWasBeforeTheUpdate() {
+        TaskEntity task = taskRepository.save(TestData.createTestTaskEntityA().toBuilder().id(null).build());
+        LocalDateTime now = LocalDateTime.of(2030, 1, 2, 3, 4, 5);
+
+        Optional<TaskEntity> previous = transactionTemplate.execute(status -> taskRepository.patchTask(
+                task.getId(), "Patched", null, TaskEntity.Status.COMPLETED, null, null, null, now, 42L));
+
+        assertThat(previous).get().satisfies(before -> {
+            assertThat(before.getTitle()).isEqualTo(task.getTitle());
+            assertThat(before.getStatus()).isEqualTo(task.getStatus());
+            assertThat(before.getCompletedAt()).isNull();
+        });
+        TaskEntity after = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(after.getTitle()).isEqualTo("Patched");
+        assertThat(after.getDescription()).isEqualTo(task.getDescription());
+        assertThat(after.getStatus()).isEqualTo(TaskEntity.Status.COMPLETED);
+        assertThat(after.getCompletedAt()).isEqualTo(now);
+        assertThat(after.getChangeSeq()).isEqualTo(42L);
+    }
+
+    @Test
+    public void testPatchOfAMissingTaskReturnsNothing() {
+        Optional<TaskEntity> previous = transactionTemplate.execute(status -> taskRepository.patchTask(
+                UUID.randomUUID(), "Patched", null, null, null, null, null,
+                LocalDateTime.now(), 1L));
+
+        assertThat(previous).isEmpty();
+    }
+
+    @Test
+    public void testPatchedTaskMatchesTheStoredRow() {
+        TaskEntity task = taskRepository.save(TestData.createTestTaskEntityA().toBuilder().id(null).build());
+
+        TaskEntity patched = taskService.patchTask(task.getId(),
+                TaskEntity.builder().status(TaskEntity.Status.COMPLETED).build());
+
+        TaskEntity stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(patched.getStatus()).isEqualTo(stored.getStatus());
+        assertThat(patched.getCompletedAt()).isNotNull();
+        assertThat(stored.getCompletedAt()).isNotNull();
+        assertThat(patched.getChangeSeq()).isEqualTo(stored.getChangeSeq());
+    }
+
+    @Test
+    public void testDeleteReturnsTheDeletedRow() {
+        TaskEntity task = taskRepository.save(TestData.createTestTaskEntityA().toBuilder().id(null).build());
+
+        Optional<TaskEntity> deleted = transactionTemplate.execute(status -> taskRepository.deleteTask(task.getId()));
+
+        assertThat(deleted).get().extracting(TaskEntity::getTitle).isEqualTo(task.getTitle());
+        assertThat(taskRepository.findById(task.getId())).isEmpty();
+    }
+
+    @Test
+    public void testDataSqlCreatesTheArchiveTierAndItsIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename IN ('tasks', 'tasks_archive')", String.class);
+
+        assertThat(indexes).contains("tasks_archive_pkey", "idx_tasks_archive_due_date_id",
+                "idx_tasks_archive_completed_at", "idx_tasks_completed_at", "idx_tasks_updated_at_id");
+    }
+
+    @Test
+    public void testTitleSearchRunsOnTheTrigramIndex() {
+        TaskEntity docs = taskRepository.save(TestData.createTestTaskEntityA().toBuilder().id(null)
+                .title("Write API Documentation").build());
+        TaskEntity auth = taskRepository.save(TestData.createTestTaskEntityA().toBuilder().id(null)
+                .title("Implement Authentication").build());
+        taskRepository.save(TestData.createTestTaskEntityA().toBuilder().id(null).title("Design Landing Page").build());
+
+        assertThat(taskSearchIndex.isInDatabase()).isTrue();
+        assertThat(taskSearchIndex.size()).isZero();
+
+        // "ment" is a larger share of Implement's word than of Documentation's
+        Page<TaskEntity> ranked = taskService.getTasks("MENT", null, null, PageRequest.of(0, 10, Sort.by("relevance")));
+        assertThat(ranked.getContent()).extracting(TaskEntity::getId).containsExactly(auth.getId(), docs.getId());
+        assertThat(ranked.getTotalElements()).isEqualTo(2);
+
+        // A table this small is scanned unless told otherwise
+        List<String> plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT id FROM tasks WHERE LOWER(title) LIKE '%documentation%'", String.class);
+        });
+        assertThat(String.join("\n", plan)).contains("idx_tasks_title_trgm");
+    }
+
+    @Test
+    public void testChangeReadsStopBelowAPositionAnotherInstanceHasOpen() throws Exception {
+        // A second sequence shares nothing in memory with the bean, like the one of another instance
+        TaskChangeSequence otherInstance = new TaskChangeSequence(jdbcTemplate, entityManagerFactory);
+        CountDownLatch taken = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong position = new AtomicLong();
+        Thread writer = Thread.ofPlatform().start(() -> transactionTemplate.executeWithoutResult(status -> {
+            position.set(otherInstance.current());
+            taken.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        taken.await();
+        assertThat(taskChangeSequence.read().bound()).isLessThan(position.get());
+
+        release.countDown();
+        writer.join();
+        assertThat(taskChangeSequence.read().bound()).isGreaterThanOrEqualTo(position.get());
+    }
+}
@@ -0,0 +1,85 @@
+package com.tickmate.backend.service.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdmissionLimiterTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testQueueIsSharedByAllClassesAndKeptBelowTheServerThreads() throws Exception {
+        // queue.size 50, but 8 server threads allow only 2 waiters
+        AdmissionLimiter limiter = limiter(1, 50, 8, 4);
+        assertThat(limiter.tryAcquire(AdmissionClass.READ)).isTrue();
+
+        CompletableFuture<Boolean> write = waitFor(limiter, AdmissionClass.WRITE);
+        CompletableFuture<Boolean> search = waitFor(limiter, AdmissionClass.SEARCH);
+        awaitWaiting(2);
+
+        long start = System.nanoTime();
+        assertThat(limiter.tryAcquire(AdmissionClass.READ)).isFalse();
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+        limiter.release(AdmissionClass.READ, 1_000_000);
+        assertThat(write.get(5, TimeUnit.SECONDS)).isTrue();
+        limiter.release(AdmissionClass.WRITE, 1_000_000);
+        assertThat(search.get(5, TimeUnit.SECONDS)).isTrue();
+        limiter.release(AdmissionClass.SEARCH, 1_000_000);
+    }
+
+    @Test
+    public void testWaiterAtItsOwnCapDoesNotHoldBackLaterClasses() throws Exception {
+        AdmissionLimiter limiter = limiter(10, 50, 200, 1);
+        assertThat(limiter.tryAcquire(AdmissionClass.WRITE)).isTrue();
+        CompletableFuture<Boolean> write = waitFor(limiter, AdmissionClass.WRITE);
+        awaitWaiting(1);
+
+        // The shared limit has room, so the queued WRITE only waits for a WRITE slot
+        assertThat(limiter.tryAcquire(AdmissionClass.SEARCH)).isTrue();
+        assertThat(write.isDone()).isFalse();
+
+        limiter.release(AdmissionClass.WRITE, 1_000_000);
+        assertThat(write.get(5, TimeUnit.SECONDS)).isTrue();
+        limiter.release(AdmissionClass.WRITE, 1_000_000);
+        limiter.release(AdmissionClass.SEARCH, 1_000_000);
+    }
+
+    private AdmissionLimiter limiter(int limit, int queueSize, int serverThreads, int writeConcurrency) {
+        return new AdmissionLimiter(meterRegistry, true, limit, limit, limit, queueSize, Duration.ofSeconds(10),
+                serverThreads, 200, writeConcurrency, 50, 4);
+    }
+
+    private CompletableFuture<Boolean> waitFor(AdmissionLimiter limiter, AdmissionClass admissionClass) {
+        return CompletableFuture.supplyAsync(() -> limiter.tryAcquire(admissionClass), executor);
+    }
+
+    private void awaitWaiting(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (waiting() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(waiting()).isEqualTo(count);
+    }
+
+    private double waiting() {
+        return meterRegistry.get("tickmate.admission.queue.depth").gauges().stream()
+                .mapToDouble(gauge -> gauge.value())
+                .sum();
+    }
+}
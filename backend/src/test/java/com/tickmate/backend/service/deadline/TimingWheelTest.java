@@ -0,0 +1,67 @@
+package com.tickmate.backend.service.deadline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingWheelTest {
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_123L;
+
+    @Test
+    public void testTimeoutsFireWithinOneTickAfterTheirDeadlineOnEveryLevel() {
+        // 8 slots and 3 levels cover 512 ticks; later deadlines wait in the top level and are redistributed
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, 8, 3, START);
+        Random random = new Random(7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long deadline = START + (long) (random.nextDouble() * 2000 * TICK);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+        assertThat(wheel.size()).isEqualTo(5000);
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        long step = TICK / 4;
+        for (long now = START; now <= START + 2001 * TICK; now += step) {
+            long at = now;
+            wheel.advance(now, deadline -> firedAt.merge(deadline, at, Math::max));
+        }
+
+        assertThat(wheel.size()).isZero();
+        for (long deadline : deadlines) {
+            assertThat(firedAt.get(deadline)).isBetween(deadline, deadline + TICK + step);
+        }
+    }
+
+    @Test
+    public void testCancelledTimeoutsNeverFire() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 2, START);
+        TimingWheel.Timeout<String> kept = wheel.schedule(START + 3 * TICK, "kept");
+        TimingWheel.Timeout<String> near = wheel.schedule(START + 3 * TICK, "near");
+        TimingWheel.Timeout<String> far = wheel.schedule(START + 40 * TICK, "far");
+        TimingWheel.Timeout<String> past = wheel.schedule(START - TICK, "past");
+
+        assertThat(wheel.cancel(near)).isTrue();
+        assertThat(wheel.cancel(far)).isTrue();
+        assertThat(wheel.cancel(far)).isFalse();
+        assertThat(wheel.size()).isEqualTo(2);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START, fired::add);
+        assertThat(fired).containsExactly("past");
+        assertThat(past.isPending()).isFalse();
+
+        wheel.advance(START + 100 * TICK, fired::add);
+        assertThat(fired).containsExactly("past", "kept");
+        assertThat(kept.isPending()).isFalse();
+        assertThat(wheel.cancel(kept)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
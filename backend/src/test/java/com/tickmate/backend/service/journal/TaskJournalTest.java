@@ -0,0 +1,157 @@
+package com.tickmate.backend.service.journal;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.event.TaskChangedEvent;
+import com.tickmate.backend.domain.id.UuidV7;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TaskJournalTest {
+    @TempDir
+    private Path directory;
+
+    private final List<TaskJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    public void closeJournals() throws IOException {
+        for (TaskJournal journal : opened) {
+            journal.close();
+        }
+    }
+
+    @Test
+    public void testRecordsAreReadBackInOrderAcrossSegmentsAndRestarts() throws IOException, InterruptedException {
+        TaskJournal journal = open();
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            TaskEntity task = task("Task " + i);
+            tasks.add(task);
+            journal.onTaskChanged(TaskChangedEvent.created(task));
+        }
+        TaskEntity changed = tasks.get(3).toBuilder().title("Changed").dueDate(null).build();
+        journal.onTaskChanged(TaskChangedEvent.updated(tasks.get(3), changed));
+        journal.onTaskChanged(TaskChangedEvent.deleted(tasks.get(5).getId(), null));
+        await(journal, 42);
+        journal.close();
+        opened.remove(journal);
+
+        TaskJournal reopened = open();
+        reopened.onTaskChanged(TaskChangedEvent.created(task("After restart")));
+        List<TaskJournalRecord> records = await(reopened, 43);
+
+        assertThat(segments()).hasSizeGreaterThan(1);
+        assertThat(records).extracting(TaskJournalRecord::offset).isSorted().doesNotHaveDuplicates();
+        assertThat(records.get(0).type()).isEqualTo(TaskChangedEvent.Type.CREATED);
+        assertThat(records.get(0).task()).isEqualTo(tasks.get(0));
+        assertThat(records.get(40).type()).isEqualTo(TaskChangedEvent.Type.UPDATED);
+        assertThat(records.get(40).task()).isEqualTo(changed);
+        assertThat(records.get(41).type()).isEqualTo(TaskChangedEvent.Type.DELETED);
+        assertThat(records.get(41).taskId()).isEqualTo(tasks.get(5).getId());
+        assertThat(records.get(41).task()).isNull();
+        assertThat(records.get(42).task().getTitle()).isEqualTo("After restart");
+
+        // Reading from any record offset continues from exactly that record
+        TaskJournalRecord middle = records.get(20);
+        TaskJournalPage page = reopened.read(middle.offset(), 2);
+        assertThat(page.records()).extracting(TaskJournalRecord::taskId)
+                .containsExactly(tasks.get(20).getId(), tasks.get(21).getId());
+        assertThat(page.nextOffset()).isEqualTo(records.get(22).offset());
+        assertThat(reopened.read(reopened.endOffset(), 10).records()).isEmpty();
+    }
+
+    @Test
+    public void testPagesEndingOnSegmentEndsContinueInTheNextSegment() throws InterruptedException, IOException {
+        TaskJournal journal = open();
+        for (int i = 0; i < 30; i++) {
+            journal.onTaskChanged(TaskChangedEvent.created(task("Task " + i)));
+        }
+        TaskEntity archived = task("Archived");
+        journal.onTaskChanged(TaskChangedEvent.archived(archived));
+        List<TaskJournalRecord> records = await(journal, 31);
+        assertThat(segments()).hasSizeGreaterThan(1);
+
+        // One record per page puts a page boundary on every segment end
+        for (int i = 0; i < records.size(); i++) {
+            TaskJournalPage page = journal.read(records.get(i).offset(), 1);
+            assertThat(page.records()).extracting(TaskJournalRecord::taskId).containsExactly(records.get(i).taskId());
+            long next = i + 1 < records.size() ? records.get(i + 1).offset() : journal.endOffset();
+            assertThat(page.nextOffset()).isEqualTo(next);
+        }
+
+        TaskJournalRecord last = records.get(30);
+        assertThat(last.type()).isEqualTo(TaskChangedEvent.Type.ARCHIVED);
+        assertThat(last.task()).isEqualTo(archived);
+    }
+
+    @Test
+    public void testOffsetThatIsNoRecordIsRejected() throws InterruptedException, IOException {
+        TaskJournal journal = open();
+        journal.onTaskChanged(TaskChangedEvent.created(task("Only")));
+        journal.onTaskChanged(TaskChangedEvent.created(task("Second")));
+        TaskJournalRecord first = await(journal, 2).get(0);
+
+        assertThatThrownBy(() -> journal.read(first.offset() + 3, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> journal.read(journal.endOffset() + 1, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TaskJournal open() throws IOException {
+        TaskJournal journal = new TaskJournal(new SimpleMeterRegistry(), directory, DataSize.ofKilobytes(2), true, 16, 8, Duration.ofMillis(1));
+        journal.open();
+        opened.add(journal);
+        return journal;
+    }
+
+    // Reads the whole journal, page by page, once it holds at least count records
+    private static List<TaskJournalRecord> await(TaskJournal journal, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            List<TaskJournalRecord> records = new ArrayList<>();
+            long offset = 0;
+            TaskJournalPage page;
+            do {
+                page = journal.read(offset, 7);
+                records.addAll(page.records());
+                offset = page.nextOffset();
+            } while (!page.records().isEmpty());
+            if (records.size() >= count || System.currentTimeMillis() > deadline) {
+                return records;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private static TaskEntity task(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return TaskEntity.builder()
+                .id(UuidV7.generate())
+                .title(title)
+                .description("Description of " + title)
+                .status(TaskEntity.Status.PENDING)
+                .priority(TaskEntity.Priority.HIGH)
+                .dueDate(now.plusDays(3))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.tickmate.backend.service.memory;
+
+import com.tickmate.backend.domain.entity.TaskEntity;
+import com.tickmate.backend.domain.entity.TaskImportEntity;
+import com.tickmate.backend.domain.entity.TaskTombstoneEntity;
+import com.tickmate.backend.domain.id.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class MemoryTaskStoreTest {
+    @TempDir
+    private Path directory;
+
+    private final List<MemoryTaskStore> opened = new ArrayList<>();
+
+    @AfterEach
+    public void closeStores() throws IOException {
+        for (MemoryTaskStore store : opened) {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testWritesSurviveARestart() throws IOException {
+        MemoryTaskStore store = open();
+        TaskEntity kept = task("Kept", TaskEntity.Status.PENDING, LocalDateTime.of(2030, 1, 2, 3, 4, 5, 123_456_789));
+        TaskEntity changed = task("Before", TaskEntity.Status.PENDING, null);
+        TaskEntity removed = task("Removed", TaskEntity.Status.PENDING, null);
+        TaskEntity finished = task("Finished", TaskEntity.Status.COMPLETED, null);
+        put(store, kept, changed, removed, finished);
+
+        store.write(writer -> {
+            writer.put(changed.toBuilder().title("After").description(null).status(TaskEntity.Status.IN_PROGRESS).build());
+            writer.delete(removed.getId());
+            writer.archive(finished.getId());
+            writer.putImportProgress(TaskImportEntity.builder()
+                    .importId("import-1").position(42).imported(40).rejected(2).completed(true)
+                    .updatedAt(LocalDateTime.now()).build());
+            return null;
+        });
+        store.close();
+        opened.remove(store);
+
+        MemoryTaskStore recovered = open();
+        assertThat(recovered.size()).isEqualTo(2);
+        assertThat(recovered.get(kept.getId())).isEqualTo(kept);
+        assertThat(recovered.get(changed.getId()).getTitle()).isEqualTo("After");
+        assertThat(recovered.get(changed.getId()).getDescription()).isNull();
+        assertThat(recovered.get(removed.getId())).isNull();
+        assertThat(recovered.getArchived(finished.getId())).isEqualTo(finished);
+        assertThat(recovered.getImportProgress("import-1").getPosition()).isEqualTo(42);
+        assertThat(recovered.withStatus(TaskEntity.Status.IN_PROGRESS)).extracting(TaskEntity::getTitle).containsExactly("After");
+        assertThat(recovered.withStatus(TaskEntity.Status.PENDING)).extracting(TaskEntity::getTitle).containsExactly("Kept");
+        assertThat(recovered.byDueDate(Sort.Direction.ASC)).extracting(TaskEntity::getTitle).containsExactly("Kept", "After");
+    }
+
+    @Test
+    public void testSnapshotReplacesTheLogsBeforeIt() throws IOException {
+        MemoryTaskStore store = open();
+        TaskEntity first = task("First", TaskEntity.Status.PENDING, null);
+        put(store, first, task("Second", TaskEntity.Status.PENDING, null));
+        store.write(writer -> writer.archive(first.getId()));
+
+        store.snapshot();
+        TaskEntity third = task("Third", TaskEntity.Status.PENDING, null);
+        put(store, third);
+        store.close();
+        opened.remove(store);
+
+        assertThat(files()).containsExactlyInAnyOrder("log-0000000000000001.bin", "snapshot-0000000000000001.bin");
+
+        MemoryTaskStore recovered = open();
+        assertThat(recovered.tasks()).extracting(TaskEntity::getTitle).containsExactlyInAnyOrder("Second", "Third");
+        assertThat(recovered.getArchived(first.getId()).getTitle()).isEqualTo("First");
+    }
+
+    @Test
+    public void testTornFrameIsDiscardedAndAppendsContinueBeforeIt() throws IOException {
+        MemoryTaskStore store = open();
+        TaskEntity committed = task("Committed", TaskEntity.Status.PENDING, null);
+        TaskEntity torn = task("Torn", TaskEntity.Status.PENDING, null);
+        put(store, committed);
+        long end = endOfFrames();
+        put(store, torn);
+        store.close();
+        opened.remove(store);
+
+        // Damage the last frame as a crash in the middle of writing it would
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("log-0000000000000000.bin").toFile(), "rw")) {
+            file.seek(end + 12);
+            file.writeInt(0xDEADBEEF);
+        }
+
+        MemoryTaskStore recovered = open();
+        assertThat(recovered.tasks()).extracting(TaskEntity::getTitle).containsExactly("Committed");
+
+        TaskEntity after = task("After restart", TaskEntity.Status.PENDING, null);
+        put(recovered, after);
+        recovered.close();
+        opened.remove(recovered);
+
+        assertThat(open().tasks()).extracting(TaskEntity::getTitle).containsExactlyInAnyOrder("Committed", "After restart");
+    }
+
+    @Test
+    public void testChangePositionsAreNotReusedAfterTombstonesArePurged() throws IOException {
+        MemoryTaskStore store = open();
+        TaskEntity removed = task("Removed", TaskEntity.Status.PENDING, null);
+        TaskEntity kept = task("Kept", TaskEntity.Status.PENDING, null);
+        put(store, removed);
+        put(store, kept);
+        store.write(writer -> writer.delete(removed.getId()));
+        assertThat(store.deletedAfter(-1, new UUID(0, 0), Long.MAX_VALUE, 10))
+                .extracting(TaskTombstoneEntity::getChangeSeq).containsExactly(3L);
+
+        // The snapshot after the purge holds no trace of position 3 but the last position taken
+        store.write(writer -> writer.purgeTombstones(LocalDateTime.now().plusMinutes(1)));
+        store.snapshot();
+        store.close();
+        opened.remove(store);
+
+        MemoryTaskStore recovered = open();
+        assertThat(recovered.deletedAfter(-1, new UUID(0, 0), Long.MAX_VALUE, 10)).isEmpty();
+        TaskEntity later = task("Later", TaskEntity.Status.PENDING, null);
+        put(recovered, later);
+        assertThat(recovered.changedAfter(-1, new UUID(0, 0), recovered.visibleChangeSeq(), 10))
+                .extracting(TaskEntity::getTitle, TaskEntity::getChangeSeq)
+                .containsExactly(tuple("Kept", 2L), tuple("Later", 4L));
+    }
+
+    private MemoryTaskStore open() throws IOException {
+        MemoryTaskStore store = new MemoryTaskStore(directory, DataSize.ofKilobytes(64), false, DataSize.ofMegabytes(64));
+        store.recover();
+        opened.add(store);
+        return store;
+    }
+
+    private static void put(MemoryTaskStore store, TaskEntity... tasks) {
+        store.write(writer -> {
+            for (TaskEntity task : tasks) {
+                writer.put(task);
+            }
+            return null;
+        });
+    }
+
+    // Offset of the first unwritten byte of the first log segment
+    private long endOfFrames() throws IOException {
+        byte[] bytes = Files.readAllBytes(directory.resolve("log-0000000000000000.bin"));
+        int position = 4;
+        while (position + 8 <= bytes.length) {
+            int length = ((bytes[position] & 0xFF) << 24) | ((bytes[position + 1] & 0xFF) << 16)
+                    | ((bytes[position + 2] & 0xFF) << 8) | (bytes[position + 3] & 0xFF);
+            if (length == 0) {
+                break;
+            }
+            position += 8 + length;
+        }
+        return position;
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+
+    private static TaskEntity task(String title, TaskEntity.Status status, LocalDateTime dueDate) {
+        LocalDateTime now = LocalDateTime.now();
+        return TaskEntity.builder()
+                .id(UuidV7.generate())
+                .title(title)
+                .description("Description of " + title)
+                .status(status)
+                .priority(TaskEntity.Priority.MEDIUM)
+                .dueDate(dueDate)
+                .completedAt(status == TaskEntity.Status.COMPLETED ? now.minusDays(1) : null)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -8,10 +8,10 @@ import { toast } from "sonner";
 
 const completeTask = async (task: Task): Promise<Task> => {
     const { id } = task; // extract ID
-    const payload = { title: task.title, status: 'COMPLETED' }; // only send what needs to change
+    const payload = { status: 'COMPLETED' }; // PATCH applies only what needs to change
 
     const res = await fetch(`${import.meta.env.VITE_API_URL}/api/tasks/${id}`, {
-        method: 'PUT',
+        method: 'PATCH',
         headers: { 'Content-Type': 'application/json' },
         body: JSON.stringify(payload)
     });
@@ -1,6 +1,6 @@
 
-import { useQuery } from "@tanstack/react-query";
-import type { TaskPage } from "@/types/task";
+import { useQuery, useQueryClient } from "@tanstack/react-query";
+import type { TaskSlice } from "@/types/task";
 import TaskDialog from "@/components/TaskDialog";
 import { Button } from "@/components/ui/button";
 import { AlertCircle, ChevronLeft, ChevronRight, Clock, Plus } from "lucide-react";
@@ -13,13 +13,15 @@ function getApiBase() {
     return import.meta.env.VITE_API_URL
 }
 
-async function fetchTasks(page: number, size: number): Promise<TaskPage> {
+async function fetchTasks(page: number, size: number): Promise<TaskSlice> {
     const base = getApiBase()
     const params = new URLSearchParams({
         page: String(page),
         size: String(size),
         sort: "dueDate,asc",
         status: "PENDING,IN_PROGRESS",
+        slice: "true",
+        total: "true", // approximate, served without a COUNT query
     })
     const url = `${base ? `${base}` : ""}/api/tasks?${params.toString()}`
     const res = await fetch(url, { headers: { accept: "application/json" } })
@@ -27,9 +29,27 @@ async function fetchTasks(page: number, size: number): Promise<TaskPage> {
     return res.json()
 }
 
+const STREAM_EVENTS = ["created", "updated", "removed", "deleted", "reset"]
+
 const HomePage = () => {
     const [page, setPage] = useState(0)
+    const [streaming, setStreaming] = useState(false)
     const size = 6
+    const queryClient = useQueryClient()
+
+    // Server pushes task changes; refetch only when something actually changed
+    useEffect(() => {
+        const base = getApiBase()
+        const params = new URLSearchParams({ status: "PENDING,IN_PROGRESS" })
+        const source = new EventSource(`${base ? `${base}` : ""}/api/tasks/stream?${params.toString()}`)
+        const refresh = () => queryClient.invalidateQueries({ queryKey: ["tasks"] })
+
+        source.onopen = () => setStreaming(true)
+        source.onerror = () => setStreaming(false)
+        STREAM_EVENTS.forEach((type) => source.addEventListener(type, refresh))
+
+        return () => source.close()
+    }, [queryClient])
 
     const queryKey = useMemo(() => ["tasks", { page, size, status: "PENDING", base: getApiBase() }], [page, size])
 
@@ -37,14 +57,15 @@ const HomePage = () => {
         queryKey,
         queryFn: () => fetchTasks(page, size),
         placeholderData: (prev) => prev, // keep previous page data to reduce layout shift
-        refetchInterval: 30_000,
+        refetchInterval: streaming ? false : 30_000, // poll only while the change stream is down
         refetchOnWindowFocus: false,
         staleTime: 30_000,
         retry: 1,
     })
 
     const tasks = data?.content ?? []
-    const totalPages = Math.max(1, data?.totalPages ?? 1)
+    const hasNext = data?.hasNext ?? false
+    const totalPages = Math.max(1, data?.totalPages ?? 1, hasNext ? page + 2 : page + 1)
 
     useEffect(() => {
         if (!isLoading && tasks.length === 0 && page > 0) {
@@ -139,7 +160,7 @@ const HomePage = () => {
 
                             <Button
                                 variant="outline"
-                                disabled={page + 1 >= totalPages}
+                                disabled={!hasNext}
                                 onClick={() => setPage((p) => Math.min(p + 1, totalPages - 1))}
                                 aria-label="Next page"
                             >
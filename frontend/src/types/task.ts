@@ -51,3 +51,15 @@ export interface TaskPage {
   first: boolean;
   empty: boolean;
 }
+
+// GET /api/tasks?slice=true: no COUNT query; totals only when requested with total=true, and approximate
+export interface TaskSlice {
+  content: Task[];
+  number: number;
+  size: number;
+  first: boolean;
+  last: boolean;
+  hasNext: boolean;
+  totalElements?: number;
+  totalPages?: number;
+}